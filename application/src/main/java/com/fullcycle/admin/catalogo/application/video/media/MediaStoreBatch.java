@@ -0,0 +1,116 @@
+package com.fullcycle.admin.catalogo.application.video.media;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Runs the media stores of a single video concurrently on the given executor. {@link #await()}
+ * fails as soon as one of them fails: the stores not yet started are skipped, the running ones
+ * are interrupted and waited for, so nothing is still writing once the caller rolls back.
+ */
+public class MediaStoreBatch {
+
+    private final ExecutorService executor;
+    private final List<Task<?>> tasks;
+
+    private MediaStoreBatch(final ExecutorService executor) {
+        this.executor = Objects.requireNonNull(executor);
+        this.tasks = new ArrayList<>();
+    }
+
+    public static MediaStoreBatch on(final ExecutorService executor) {
+        return new MediaStoreBatch(executor);
+    }
+
+    /**
+     * @return the result of the store, available once {@link #await()} returns
+     */
+    public <T> Supplier<T> submit(final Supplier<T> aStore) {
+        final var aTask = new Task<>(aStore);
+        this.tasks.add(aTask);
+        aTask.future = this.executor.submit(aTask::run);
+        return aTask.result::join;
+    }
+
+    public void await() {
+        final var failure = new CompletableFuture<Void>();
+        final var results = this.tasks.stream()
+                .map(it -> it.result.whenComplete((r, t) -> {
+                    if (t != null) failure.completeExceptionally(t);
+                }))
+                .toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(results), failure).join();
+        } catch (final CompletionException e) {
+            this.tasks.forEach(Task::cancel);
+            this.tasks.forEach(Task::awaitTermination);
+            throw rethrow(e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable t) {
+        if (t instanceof RuntimeException e) {
+            return e;
+        }
+        if (t instanceof Error e) {
+            throw e;
+        }
+        return new CompletionException(t);
+    }
+
+    private enum State { PENDING, RUNNING, SKIPPED, DONE }
+
+    private static class Task<T> {
+
+        private final Supplier<T> store;
+        private final AtomicReference<State> state;
+        private final CompletableFuture<T> result;
+        private final CompletableFuture<Void> terminated;
+        private volatile Future<?> future;
+
+        private Task(final Supplier<T> store) {
+            this.store = store;
+            this.state = new AtomicReference<>(State.PENDING);
+            this.result = new CompletableFuture<>();
+            this.terminated = new CompletableFuture<>();
+        }
+
+        private void run() {
+            if (!this.state.compareAndSet(State.PENDING, State.RUNNING)) {
+                return;
+            }
+            try {
+                this.result.complete(this.store.get());
+            } catch (final Throwable t) {
+                this.result.completeExceptionally(t);
+            } finally {
+                this.state.set(State.DONE);
+                this.terminated.complete(null);
+            }
+        }
+
+        private void cancel() {
+            if (this.state.compareAndSet(State.PENDING, State.SKIPPED)) {
+                this.result.cancel(false);
+                this.terminated.complete(null);
+                if (this.future != null) {
+                    this.future.cancel(false);
+                }
+            } else if (this.state.get() == State.RUNNING && this.future != null) {
+                this.future.cancel(true);
+            }
+        }
+
+        private void awaitTermination() {
+            this.terminated.join();
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package com.fullcycle.admin.catalogo.application.video.media.get;
 
 import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.ResourceStream;
 
 public record MediaOutput(
-        byte[] content,
+        ResourceStream content,
+        long length,
+        String checksum,
         String contentType,
         String name
 ) {
     public static MediaOutput with(final Resource aResource) {
         return new MediaOutput(
-                aResource.content(),
+                aResource.stream(),
+                aResource.length(),
+                aResource.checksum(),
                 aResource.contentType(),
                 aResource.name()
         );
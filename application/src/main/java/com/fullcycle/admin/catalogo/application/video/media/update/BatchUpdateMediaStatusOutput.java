@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.video.media.update;
+
+import java.util.List;
+
+public record BatchUpdateMediaStatusOutput(
+        List<String> updated,
+        List<String> notFound
+) {
+}
@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalogo.application.video.media.update;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Applies a batch of status transitions in the order they came, each one as a single targeted
+ * update of the media, so the last one wins as if they ran one by one. Videos that no longer
+ * exist are reported instead of failing the batch.
+ */
+public class DefaultBatchUpdateMediaStatusUseCase extends BatchUpdateMediaStatusUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultBatchUpdateMediaStatusUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public BatchUpdateMediaStatusOutput execute(final List<UpdateMediaStatusCommand> someCommands) {
+        final var updated = new LinkedHashSet<String>();
+        final var notFound = new LinkedHashSet<String>();
+
+        for (final var aCmd : someCommands) {
+            final var anId = aCmd.videoId();
+            if (notFound.contains(anId)) {
+                continue;
+            }
+
+            final var aVideoId = VideoID.from(anId);
+            if (this.videoGateway.updateMediaStatus(aVideoId, aCmd.resourceId(), aCmd.status(), aCmd.encodedPath())) {
+                updated.add(anId);
+            } else if (!updated.contains(anId) && !this.videoGateway.existsById(aVideoId)) {
+                notFound.add(anId);
+            }
+        }
+
+        return new BatchUpdateMediaStatusOutput(new ArrayList<>(updated), new ArrayList<>(notFound));
+    }
+}
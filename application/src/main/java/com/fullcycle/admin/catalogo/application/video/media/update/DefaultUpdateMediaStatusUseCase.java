@@ -1,13 +1,12 @@
 package com.fullcycle.admin.catalogo.application.video.media.update;
 
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
-import com.fullcycle.admin.catalogo.domain.video.*;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
 
 import java.util.Objects;
 
-import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.TRAILER;
-import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.VIDEO;
-
 public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
 
     private final VideoGateway videoGateway;
@@ -19,38 +18,17 @@ public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
     @Override
     public void execute(final UpdateMediaStatusCommand aCmd) {
         final var anId = VideoID.from(aCmd.videoId());
-        final var aResourceId = aCmd.resourceId();
-        final var folder = aCmd.folder();
-        final var filename = aCmd.filename();
-
-        final var aVideo = this.videoGateway.findById(anId)
-                .orElseThrow(() -> notFound(anId));
-
-        final var encodedPath = "%s/%s".formatted(folder, filename);
-
-        if (matches(aResourceId, aVideo.getVideo().orElse(null))) {
-            updateVideo(VIDEO, aCmd.status(), aVideo, encodedPath);
-        } else if (matches(aResourceId, aVideo.getTrailer().orElse(null))) {
-            updateVideo(TRAILER, aCmd.status(), aVideo, encodedPath);
-        }
-    }
 
-    private void updateVideo(final VideoMediaType aType, final MediaStatus aStatus, final Video aVideo, final String encodedPath) {
-        switch (aStatus) {
-            case PENDING -> {}
-            case PROCESSING -> aVideo.processing(aType);
-            case COMPLETED -> aVideo.completed(aType, encodedPath);
-        }
+        final var updated = this.videoGateway.updateMediaStatus(
+                anId,
+                aCmd.resourceId(),
+                aCmd.status(),
+                aCmd.encodedPath()
+        );
 
-        this.videoGateway.update(aVideo);
-    }
-
-    private boolean matches(final String anId, final AudioVideoMedia aMedia) {
-        if (aMedia == null) {
-            return false;
+        if (!updated && !this.videoGateway.existsById(anId)) {
+            throw notFound(anId);
         }
-
-        return aMedia.id().equals(anId);
     }
 
     private NotFoundException notFound(final VideoID anId) {
@@ -19,4 +19,8 @@ public record UpdateMediaStatusCommand(
     ) {
         return new UpdateMediaStatusCommand(status, videoId, resourceId, folder, filename);
     }
+
+    public String encodedPath() {
+        return "%s/%s".formatted(folder, filename);
+    }
 }
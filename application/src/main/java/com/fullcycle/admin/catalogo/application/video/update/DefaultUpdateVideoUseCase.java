@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.application.video.update;
 
+import com.fullcycle.admin.catalogo.application.video.media.MediaStoreBatch;
 import com.fullcycle.admin.catalogo.domain.Identifier;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
@@ -21,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -34,19 +36,22 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
     private final CastMemberGateway castMemberGateway;
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
+    private final ExecutorService mediaExecutor;
 
     public DefaultUpdateVideoUseCase(
             final VideoGateway videoGateway,
             final CategoryGateway categoryGateway,
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
-            final MediaResourceGateway mediaResourceGateway
+            final MediaResourceGateway mediaResourceGateway,
+            final ExecutorService mediaExecutor
     ) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaExecutor = Objects.requireNonNull(mediaExecutor);
     }
 
     @Override
@@ -92,33 +97,32 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         final var anId = aVideo.getId();
 
         try {
+            final var batch = MediaStoreBatch.on(this.mediaExecutor);
+
             final var aVideoMedia = aCommand.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(VIDEO, it)))
-                    .orElse(null);
+                    .map(it -> batch.submit(() -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(VIDEO, it))));
 
             final var aTrailerMedia = aCommand.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(TRAILER, it)))
-                    .orElse(null);
+                    .map(it -> batch.submit(() -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(TRAILER, it))));
 
             final var aBannerMedia = aCommand.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(BANNER, it)))
-                    .orElse(null);
+                    .map(it -> batch.submit(() -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(BANNER, it))));
 
             final var aThumbnailMedia = aCommand.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL, it)))
-                    .orElse(null);
+                    .map(it -> batch.submit(() -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL, it))));
 
             final var aThumbHalfMedia = aCommand.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL_HALF, it)))
-                    .orElse(null);
+                    .map(it -> batch.submit(() -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL_HALF, it))));
+
+            batch.await();
 
             return this.videoGateway.update(
                     aVideo
-                        .updateVideoMedia(aVideoMedia)
-                        .updateTrailerMedia(aTrailerMedia)
-                        .updateBannerMedia(aBannerMedia)
-                        .updateThumbnailMedia(aThumbnailMedia)
-                        .updateThumbnailHalfMedia(aThumbHalfMedia)
+                        .updateVideoMedia(aVideoMedia.map(Supplier::get).orElse(null))
+                        .updateTrailerMedia(aTrailerMedia.map(Supplier::get).orElse(null))
+                        .updateBannerMedia(aBannerMedia.map(Supplier::get).orElse(null))
+                        .updateThumbnailMedia(aThumbnailMedia.map(Supplier::get).orElse(null))
+                        .updateThumbnailHalfMedia(aThumbHalfMedia.map(Supplier::get).orElse(null))
             );
         } catch (final Throwable t) {
             throw InternalErrorException.with(
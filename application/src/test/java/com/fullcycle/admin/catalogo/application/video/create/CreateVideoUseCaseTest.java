@@ -11,9 +11,10 @@ import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.video.*;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.time.Year;
@@ -21,6 +22,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,9 +35,10 @@ import static org.mockito.Mockito.*;
 
 public class CreateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultCreateVideoUseCase useCase;
 
+    private ExecutorService mediaExecutor;
+
     @Mock
     private VideoGateway videoGateway;
 
@@ -47,6 +54,24 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @BeforeEach
+    void setUp() {
+        this.mediaExecutor = Executors.newFixedThreadPool(5);
+        this.useCase = new DefaultCreateVideoUseCase(
+                categoryGateway,
+                castMemberGateway,
+                genreGateway,
+                mediaResourceGateway,
+                videoGateway,
+                mediaExecutor
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.mediaExecutor.shutdownNow();
+    }
+
     @Override
     protected List<Object> getMocks() {
         return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
@@ -1000,6 +1025,99 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(mediaResourceGateway).clearResources(any());
     }
 
+    @Test
+    public void givenAValidCommandWithAllResources_whenCallsCreateVideo_shouldStoreThemConcurrently() {
+        // given
+        final var aCommand = aCommandWithAllResources();
+        final var allStoresStarted = new CountDownLatch(5);
+
+        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(t -> {
+            allStoresStarted.countDown();
+            Assertions.assertTrue(allStoresStarted.await(5, TimeUnit.SECONDS));
+            return AudioVideoMedia.with(Fixture.checksum(), Fixture.title(), "/img");
+        });
+
+        when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
+            allStoresStarted.countDown();
+            Assertions.assertTrue(allStoresStarted.await(5, TimeUnit.SECONDS));
+            return ImageMedia.with(Fixture.checksum(), Fixture.title(), "/img");
+        });
+
+        when(videoGateway.create(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualResult = useCase.execute(aCommand);
+
+        // then
+        Assertions.assertNotNull(actualResult.id());
+
+        verify(videoGateway).create(argThat(actualVideo ->
+                actualVideo.getVideo().isPresent()
+                        && actualVideo.getTrailer().isPresent()
+                        && actualVideo.getBanner().isPresent()
+                        && actualVideo.getThumbnail().isPresent()
+                        && actualVideo.getThumbnailHalf().isPresent()
+        ));
+        verify(mediaResourceGateway, times(0)).clearResources(any());
+    }
+
+    @Test
+    public void givenAValidCommand_whenOneMediaStoreFails_shouldInterruptTheOthersAndCallClearResources() {
+        // given
+        final var expectedErrorMessage = "An error on create video was observed [videoId:";
+
+        final var aCommand = aCommandWithAllResources();
+        final var interrupted = new AtomicBoolean(false);
+
+        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(t -> {
+            try {
+                new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            return AudioVideoMedia.with(Fixture.checksum(), Fixture.title(), "/img");
+        });
+
+        when(mediaResourceGateway.storeImage(any(), any()))
+                .thenThrow(new RuntimeException("Storage unavailable"));
+
+        // when
+        final var actualResult = Assertions.assertThrows(InternalErrorException.class, () -> {
+            useCase.execute(aCommand);
+        });
+
+        // then
+        Assertions.assertTrue(actualResult.getMessage().startsWith(expectedErrorMessage));
+        Assertions.assertTrue(interrupted.get());
+
+        verify(mediaResourceGateway).clearResources(any());
+        verify(videoGateway, times(0)).create(any());
+    }
+
+    private CreateVideoCommand aCommandWithAllResources() {
+        when(categoryGateway.existsByIds(any()))
+                .thenAnswer(t -> new ArrayList<>(t.<Set<CategoryID>>getArgument(0)));
+
+        return CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                asString(Set.of(Fixture.Categories.aulas().getId())),
+                Set.of(),
+                Set.of(),
+                Fixture.Videos.resource(VideoMediaType.VIDEO),
+                Fixture.Videos.resource(VideoMediaType.TRAILER),
+                Fixture.Videos.resource(VideoMediaType.BANNER),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF)
+        );
+    }
+
     private void mockImageMedia() {
         when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
             final var videoResource = t.getArgument(1, VideoResource.class);
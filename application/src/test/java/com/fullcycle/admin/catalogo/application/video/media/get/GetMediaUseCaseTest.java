@@ -27,7 +27,7 @@ public class GetMediaUseCaseTest extends UseCaseTest {
     }
 
     @Test
-    public void givenVideoIdAndType_whenIsValidCmd_shouldReturnResource() {
+    public void givenVideoIdAndType_whenIsValidCmd_shouldReturnResource() throws Exception {
         // given
         final var expectedId = VideoID.unique();
         final var expectedType = Fixture.Videos.mediaType();
@@ -43,7 +43,9 @@ public class GetMediaUseCaseTest extends UseCaseTest {
 
         // then
         Assertions.assertEquals(expectedResource.name(), actualResult.name());
-        Assertions.assertEquals(expectedResource.content(), actualResult.content());
+        Assertions.assertEquals(expectedResource.length(), actualResult.length());
+        Assertions.assertEquals(expectedResource.checksum(), actualResult.checksum());
+        Assertions.assertArrayEquals(expectedResource.content(), actualResult.content().open().readAllBytes());
         Assertions.assertEquals(expectedResource.contentType(), actualResult.contentType());
     }
 
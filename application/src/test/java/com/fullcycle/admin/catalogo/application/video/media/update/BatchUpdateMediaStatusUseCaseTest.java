@@ -0,0 +1,125 @@
+package com.fullcycle.admin.catalogo.application.video.media.update;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class BatchUpdateMediaStatusUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultBatchUpdateMediaStatusUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenTransitionsOfTheSameVideo_whenCallsExecute_shouldApplyThemInOrderWithoutLoadingIt() {
+        // given
+        final var expectedFolder = "encoded_media";
+        final var expectedFilename = "filename.mp4";
+        final var expectedVideoMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var expectedTrailerMedia = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
+
+        final var expectedId = VideoID.unique();
+
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(true);
+
+        final var commands = List.of(
+                UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, expectedId.getValue(), expectedVideoMedia.id(), null, null),
+                UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, expectedId.getValue(), expectedTrailerMedia.id(), null, null),
+                UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, expectedId.getValue(), expectedVideoMedia.id(), expectedFolder, expectedFilename)
+        );
+
+        // when
+        final var actualOutput = this.useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(List.of(expectedId.getValue()), actualOutput.updated());
+        Assertions.assertTrue(actualOutput.notFound().isEmpty());
+
+        final InOrder inOrder = inOrder(videoGateway);
+        inOrder.verify(videoGateway).updateMediaStatus(eq(expectedId), eq(expectedVideoMedia.id()), eq(MediaStatus.PROCESSING), any());
+        inOrder.verify(videoGateway).updateMediaStatus(eq(expectedId), eq(expectedTrailerMedia.id()), eq(MediaStatus.PROCESSING), any());
+        inOrder.verify(videoGateway).updateMediaStatus(eq(expectedId), eq(expectedVideoMedia.id()), eq(MediaStatus.COMPLETED), eq("encoded_media/filename.mp4"));
+
+        verify(videoGateway, never()).findById(any());
+        verify(videoGateway, never()).update(any());
+        verify(videoGateway, never()).existsById(any());
+    }
+
+    @Test
+    public void givenAMissingVideo_whenCallsExecute_shouldReportItAndUpdateTheOthers() {
+        // given
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var expectedId = VideoID.unique();
+        final var missingId = VideoID.unique();
+
+        when(videoGateway.updateMediaStatus(eq(missingId), any(), any(), any()))
+                .thenReturn(false);
+
+        when(videoGateway.existsById(eq(missingId)))
+                .thenReturn(false);
+
+        when(videoGateway.updateMediaStatus(eq(expectedId), any(), any(), any()))
+                .thenReturn(true);
+
+        final var commands = List.of(
+                UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, missingId.getValue(), "123", null, null),
+                UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, missingId.getValue(), "123", "encoded_media", "filename.mp4"),
+                UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, expectedId.getValue(), expectedMedia.id(), null, null)
+        );
+
+        // when
+        final var actualOutput = this.useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(List.of(expectedId.getValue()), actualOutput.updated());
+        Assertions.assertEquals(List.of(missingId.getValue()), actualOutput.notFound());
+
+        verify(videoGateway, times(1)).updateMediaStatus(eq(missingId), any(), any(), any());
+        verify(videoGateway, times(1)).existsById(eq(missingId));
+    }
+
+    @Test
+    public void givenUnknownResources_whenCallsExecute_shouldNotReportTheVideo() {
+        // given
+        final var expectedId = VideoID.unique();
+
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(false);
+
+        when(videoGateway.existsById(any()))
+                .thenReturn(true);
+
+        final var commands = List.of(
+                UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, expectedId.getValue(), "123", null, null)
+        );
+
+        // when
+        final var actualOutput = this.useCase.execute(commands);
+
+        // then
+        Assertions.assertTrue(actualOutput.updated().isEmpty());
+        Assertions.assertTrue(actualOutput.notFound().isEmpty());
+        verify(videoGateway, never()).update(any());
+    }
+}
@@ -2,20 +2,18 @@ package com.fullcycle.admin.catalogo.application.video.media.update;
 
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
-import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.util.List;
-import java.util.Optional;
 
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -46,11 +44,8 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
-                .thenReturn(Optional.of(aVideo));
-
-        when(videoGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
                 expectedStatus,
@@ -64,27 +59,19 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         this.useCase.execute(aCmd);
 
         // then
-        verify(videoGateway, times(1)).findById(eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(videoGateway, times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        Assertions.assertTrue(actualVideo.getTrailer().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getVideo().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertEquals(expectedFolder.concat("/").concat(expectedFilename), actualVideoMedia.encodedLocation());
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                eq(expectedFolder.concat("/").concat(expectedFilename))
+        );
+        verify(videoGateway, never()).existsById(any());
+        verify(videoGateway, never()).findById(any());
+        verify(videoGateway, never()).update(any());
     }
 
     @Test
-    public void givenCommandForVideo_whenIsValidForProcessing_shouldUpdateStatusAndEncodedLocation() {
+    public void givenCommandForVideo_whenIsValidForProcessing_shouldUpdateStatus() {
         // given
         final var expectedStatus = MediaStatus.PROCESSING;
         final String expectedFolder = null;
@@ -97,11 +84,8 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
-                .thenReturn(Optional.of(aVideo));
-
-        when(videoGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
                 expectedStatus,
@@ -115,23 +99,15 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         this.useCase.execute(aCmd);
 
         // then
-        verify(videoGateway, times(1)).findById(eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(videoGateway, times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        Assertions.assertTrue(actualVideo.getTrailer().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getVideo().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertTrue(actualVideoMedia.encodedLocation().isBlank());
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                any()
+        );
+        verify(videoGateway, never()).existsById(any());
+        verify(videoGateway, never()).findById(any());
+        verify(videoGateway, never()).update(any());
     }
 
     @Test
@@ -148,11 +124,8 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
-                .thenReturn(Optional.of(aVideo));
-
-        when(videoGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
                 expectedStatus,
@@ -166,27 +139,19 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         this.useCase.execute(aCmd);
 
         // then
-        verify(videoGateway, times(1)).findById(eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(videoGateway, times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        Assertions.assertTrue(actualVideo.getVideo().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getTrailer().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertEquals(expectedFolder.concat("/").concat(expectedFilename), actualVideoMedia.encodedLocation());
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                eq(expectedFolder.concat("/").concat(expectedFilename))
+        );
+        verify(videoGateway, never()).existsById(any());
+        verify(videoGateway, never()).findById(any());
+        verify(videoGateway, never()).update(any());
     }
 
     @Test
-    public void givenCommandForTrailer_whenIsValidForProcessing_shouldUpdateStatusAndEncodedLocation() {
+    public void givenCommandForTrailer_whenIsValidForProcessing_shouldUpdateStatus() {
         // given
         final var expectedStatus = MediaStatus.PROCESSING;
         final String expectedFolder = null;
@@ -199,11 +164,8 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
-                .thenReturn(Optional.of(aVideo));
-
-        when(videoGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
                 expectedStatus,
@@ -217,54 +179,72 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         this.useCase.execute(aCmd);
 
         // then
-        verify(videoGateway, times(1)).findById(eq(expectedId));
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                any()
+        );
+        verify(videoGateway, never()).existsById(any());
+        verify(videoGateway, never()).findById(any());
+        verify(videoGateway, never()).update(any());
+    }
 
-        final var captor = ArgumentCaptor.forClass(Video.class);
+    @Test
+    public void givenAnExistingVideo_whenTheTransitionChangesNothing_shouldDoNothing() {
+        // given
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedId = aVideo.getId();
 
-        verify(videoGateway, times(1)).update(captor.capture());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(false);
 
-        final var actualVideo = captor.getValue();
+        when(videoGateway.existsById(any()))
+                .thenReturn(true);
 
-        Assertions.assertTrue(actualVideo.getVideo().isEmpty());
+        final var aCmd = UpdateMediaStatusCommand.with(
+                MediaStatus.COMPLETED,
+                expectedId.getValue(),
+                "randomId",
+                "encoded_media",
+                "filename.mp4"
+        );
 
-        final var actualVideoMedia = actualVideo.getTrailer().get();
+        // when
+        this.useCase.execute(aCmd);
 
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertTrue(actualVideoMedia.encodedLocation().isBlank());
+        // then
+        verify(videoGateway, times(1)).existsById(eq(expectedId));
+        verify(videoGateway, never()).update(any());
     }
 
     @Test
-    public void givenCommandForTrailer_whenIsInvalid_shouldDoNothing() {
+    public void givenAnInvalidVideoId_whenCallsExecute_shouldReturnNotFound() {
         // given
-        final var expectedStatus = MediaStatus.COMPLETED;
-        final var expectedFolder = "encoded_media";
-        final var expectedFilename = "filename.mp4";
-        final var expectedType = VideoMediaType.TRAILER;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
-
-        final var aVideo = Fixture.Videos.systemDesign()
-                .updateTrailerMedia(expectedMedia);
+        final var expectedErrorMessage = "Video with ID 123 was not found";
+        final var expectedId = VideoID.from("123");
 
-        final var expectedId = aVideo.getId();
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(false);
 
-        when(videoGateway.findById(any()))
-                .thenReturn(Optional.of(aVideo));
+        when(videoGateway.existsById(any()))
+                .thenReturn(false);
 
         final var aCmd = UpdateMediaStatusCommand.with(
-                expectedStatus,
+                MediaStatus.PROCESSING,
                 expectedId.getValue(),
                 "randomId",
-                expectedFolder,
-                expectedFilename
+                null,
+                null
         );
 
         // when
-        this.useCase.execute(aCmd);
+        final var actualError = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> this.useCase.execute(aCmd)
+        );
 
         // then
-        verify(videoGateway, times(0)).update(any());
+        Assertions.assertEquals(expectedErrorMessage, actualError.getMessage());
     }
 }
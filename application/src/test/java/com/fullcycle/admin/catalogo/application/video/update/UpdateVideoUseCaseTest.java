@@ -13,9 +13,12 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.domain.Fixture;
@@ -39,9 +42,10 @@ import com.fullcycle.admin.catalogo.domain.video.VideoResource;
 
 public class UpdateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultUpdateVideoUseCase useCase;
 
+    private ExecutorService mediaExecutor;
+
     @Mock
     private VideoGateway videoGateway;
 
@@ -57,6 +61,24 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @BeforeEach
+    void setUp() {
+        this.mediaExecutor = Executors.newFixedThreadPool(5);
+        this.useCase = new DefaultUpdateVideoUseCase(
+                videoGateway,
+                categoryGateway,
+                castMemberGateway,
+                genreGateway,
+                mediaResourceGateway,
+                mediaExecutor
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.mediaExecutor.shutdownNow();
+    }
+
     @Override
     protected List<Object> getMocks() {
         return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
@@ -3,18 +3,36 @@ package com.fullcycle.admin.catalogo.domain.pagination;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * A page of results. Pages read with a cursor are not counted: their {@code total} is
+ * {@link #UNCOUNTED} and {@code nextCursor} is the position to continue from, or null on the last page.
+ * Pages searched without a total are {@link #UNCOUNTED} as well; {@code hasNext} tells whether
+ * another page follows either way.
+ */
 public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String nextCursor,
+        boolean hasNext
 ) {
 
+    public static final long UNCOUNTED = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null, total > (long) (currentPage + 1) * perPage);
+    }
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items, final String nextCursor) {
+        this(currentPage, perPage, total, items, nextCursor, nextCursor != null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aNewList = this.items.stream()
                 .map(mapper)
                 .toList();
 
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, nextCursor(), hasNext());
     }
 }
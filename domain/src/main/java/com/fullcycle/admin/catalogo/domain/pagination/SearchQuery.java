@@ -1,10 +1,36 @@
 package com.fullcycle.admin.catalogo.domain.pagination;
 
+/**
+ * A search by page number or, when {@code cursor} is not null, by position: an empty cursor reads
+ * the first page and the {@code nextCursor} of a page reads the one after it. Pages by position are
+ * never counted, whatever the {@code total} mode.
+ */
 public record SearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        TotalMode total
 ) {
+
+    public SearchQuery(final int page, final int perPage, final String terms, final String sort, final String direction) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, TotalMode.EXACT);
+    }
+
+    public boolean isCursor() {
+        return cursor != null;
+    }
 }
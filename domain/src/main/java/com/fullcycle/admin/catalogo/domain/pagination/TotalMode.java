@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+/**
+ * How the {@code total} of a page is obtained. Whatever the mode, a page that is not full tells
+ * its exact total for free.
+ */
+public enum TotalMode {
+
+    /**
+     * Counted on every page.
+     */
+    EXACT,
+
+    /**
+     * Not counted: {@link Pagination#UNCOUNTED}, paging on {@code hasNext}.
+     */
+    NONE,
+
+    /**
+     * A count of the same search taken a short while ago, possibly stale.
+     */
+    ESTIMATED;
+
+    public static TotalMode from(final String withTotal) {
+        if (withTotal == null || withTotal.isBlank() || "true".equalsIgnoreCase(withTotal)) {
+            return EXACT;
+        }
+        if ("false".equalsIgnoreCase(withTotal)) {
+            return NONE;
+        }
+        if ("estimated".equalsIgnoreCase(withTotal)) {
+            return ESTIMATED;
+        }
+        throw DomainException.with(new Error("'with_total' should be true, false or estimated"));
+    }
+}
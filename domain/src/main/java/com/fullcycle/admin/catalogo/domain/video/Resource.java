@@ -2,32 +2,109 @@ package com.fullcycle.admin.catalogo.domain.video;
 
 import com.fullcycle.admin.catalogo.domain.ValueObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 
 public class Resource extends ValueObject {
 
     private final byte[] content;
+    private final ResourceStream stream;
+    private final long length;
     private final String checksum;
     private final String contentType;
     private final String name;
 
-    private Resource(final byte[] content, final String checksum, final String contentType, final String name) {
-        this.content = Objects.requireNonNull(content);
-        this.checksum = Objects.requireNonNull(checksum);
+    private Resource(
+            final byte[] content,
+            final ResourceStream stream,
+            final long length,
+            final String checksum,
+            final String contentType,
+            final String name
+    ) {
+        this.content = content;
+        this.stream = Objects.requireNonNull(stream);
+        this.length = length;
+        this.checksum = checksum;
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
     }
 
     public static Resource with(final byte[] content, final String checksum, final String contentType, final String name) {
-        return new Resource(content, checksum, contentType, name);
+        Objects.requireNonNull(content);
+        return new Resource(
+                content,
+                () -> new ByteArrayInputStream(content),
+                content.length,
+                Objects.requireNonNull(checksum),
+                contentType,
+                name
+        );
     }
 
+    public static Resource with(
+            final ResourceStream stream,
+            final long length,
+            final String contentType,
+            final String name
+    ) {
+        return new Resource(null, stream, length, null, contentType, name);
+    }
+
+    public static Resource with(
+            final ResourceStream stream,
+            final long length,
+            final String checksum,
+            final String contentType,
+            final String name
+    ) {
+        return new Resource(null, stream, length, checksum, contentType, name);
+    }
+
+    public Resource withChecksum(final String checksum) {
+        return new Resource(this.content, this.stream, this.length, Objects.requireNonNull(checksum), this.contentType, this.name);
+    }
+
+    /**
+     * The CRC32C of the content, or null when the resource is streamed and the checksum
+     * is going to be computed while it is stored.
+     */
     public String checksum() {
         return checksum;
     }
 
+    public boolean hasChecksum() {
+        return checksum != null;
+    }
+
+    public InputStream openStream() throws IOException {
+        return this.stream.open();
+    }
+
+    public ResourceStream stream() {
+        return stream;
+    }
+
+    /**
+     * Reads the whole content in memory. Prefer {@link #openStream()} for audio and video payloads.
+     */
     public byte[] content() {
-        return content;
+        if (this.content != null) {
+            return this.content;
+        }
+
+        try (final var in = openStream()) {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long length() {
+        return length;
     }
 
     public String contentType() {
@@ -38,4 +115,19 @@ public class Resource extends ValueObject {
         return name;
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final Resource that = (Resource) o;
+        return length == that.length
+                && Objects.equals(checksum, that.checksum)
+                && Objects.equals(contentType, that.contentType)
+                && Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(length, checksum, contentType, name);
+    }
 }
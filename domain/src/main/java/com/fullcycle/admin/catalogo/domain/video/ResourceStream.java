@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@FunctionalInterface
+public interface ResourceStream {
+
+    InputStream open() throws IOException;
+
+    /**
+     * Opens the stream positioned at {@code offset}. Implementations backed by a seekable
+     * storage should override it; callers must stop reading after {@code length} bytes.
+     */
+    default InputStream open(final long offset, final long length) throws IOException {
+        final var in = open();
+        in.skipNBytes(offset);
+        return in;
+    }
+}
@@ -14,6 +14,18 @@ public interface VideoGateway {
 
     Video update(Video aVideo);
 
+    boolean existsById(VideoID anId);
+
+    /**
+     * Moves the video or trailer media {@code aResourceId} of the video to {@code aStatus} without
+     * rewriting the rest of the aggregate. Statuses only move forward: PROCESSING applies to a
+     * PENDING media only, and COMPLETED to anything but the same media already completed at
+     * {@code anEncodedPath}. Other statuses are ignored.
+     *
+     * @return false when nothing changed, including when the media is not one of the video
+     */
+    boolean updateMediaStatus(VideoID anId, String aResourceId, MediaStatus aStatus, String anEncodedPath);
+
     Pagination<VideoPreview> findAll(VideoSearchQuery aQuery);
 
 }
@@ -0,0 +1,72 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidation;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidationBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionListener;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Receives the cache invalidations of the other instances on a queue of its own, bound to the
+ * fanout exchange and deleted once this instance goes away. Such a queue cannot be provisioned
+ * ahead like the others, so it is declared, with its exchange, on every new connection and by an
+ * admin that declares nothing else.
+ */
+public class CacheInvalidationListener implements MessageListener, ConnectionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    private final CacheInvalidationBus bus;
+    private final RabbitAdmin admin;
+    private final FanoutExchange exchange;
+    private final Queue queue;
+    private final Binding binding;
+
+    public CacheInvalidationListener(
+            final CacheInvalidationBus bus,
+            final ConnectionFactory connectionFactory,
+            final String exchange
+    ) {
+        this.bus = Objects.requireNonNull(bus);
+        this.admin = new RabbitAdmin(Objects.requireNonNull(connectionFactory));
+        this.exchange = new FanoutExchange(exchange);
+        this.queue = new AnonymousQueue();
+        this.binding = BindingBuilder.bind(this.queue).to(this.exchange);
+    }
+
+    @Override
+    public void onCreate(final Connection connection) {
+        this.admin.declareExchange(this.exchange);
+        this.admin.declareQueue(this.queue);
+        this.admin.declareBinding(this.binding);
+    }
+
+    @Override
+    public void onMessage(final Message message) {
+        final var payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            this.bus.receive(Json.readValue(payload, CacheInvalidation.class));
+        } catch (RuntimeException e) {
+            // a redelivery would fail the same way; the entry expires anyway
+            log.warn("Could not handle the cache invalidation {}", payload, e);
+        }
+    }
+
+    public Queue queue() {
+        return queue;
+    }
+}
@@ -0,0 +1,114 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
+import com.fullcycle.admin.catalogo.infrastructure.amqp.persistence.ProcessedEncoderResultJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.amqp.persistence.ProcessedEncoderResultRepository;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoEncodedQueue;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.ListenerProperties;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers the encoder results already applied, keyed by video, resource, status and encoded
+ * path, so redeliveries are dropped before the video is loaded. Recent keys are kept in a bounded
+ * in-memory window; the table behind it survives restarts and is purged after the retention.
+ */
+@Component
+public class ProcessedEncoderResults {
+
+    private static final Duration PURGE_INTERVAL = Duration.ofHours(1);
+
+    private final ProcessedEncoderResultRepository repository;
+    private final Set<String> window;
+    private final Duration retention;
+    private final AtomicLong nextPurge;
+
+    public ProcessedEncoderResults(
+            final ProcessedEncoderResultRepository repository,
+            @VideoEncodedQueue final ListenerProperties props
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.window = Collections.newSetFromMap(
+                CacheBuilder.newBuilder().maximumSize(props.getDedupWindow()).<String, Boolean>build().asMap()
+        );
+        this.retention = Objects.requireNonNull(props.getDedupRetention());
+        this.nextPurge = new AtomicLong();
+    }
+
+    static String keyOf(final UpdateMediaStatusCommand aCmd) {
+        final var key = String.join("|",
+                aCmd.videoId(),
+                aCmd.resourceId(),
+                aCmd.status().name(),
+                aCmd.encodedPath()
+        );
+        return Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * The commands not seen before, in their original order and without repetitions.
+     */
+    @Transactional(readOnly = true)
+    public List<UpdateMediaStatusCommand> unprocessed(final List<UpdateMediaStatusCommand> someCommands) {
+        final var candidates = new LinkedHashMap<String, UpdateMediaStatusCommand>();
+        for (final var aCmd : someCommands) {
+            final var key = keyOf(aCmd);
+            if (!this.window.contains(key)) {
+                candidates.putIfAbsent(key, aCmd);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            final var existing = this.repository.existingIds(candidates.keySet());
+            this.window.addAll(existing);
+            existing.forEach(candidates::remove);
+        }
+
+        return List.copyOf(candidates.values());
+    }
+
+    /**
+     * Records the commands as processed in the current transaction; they only enter the in-memory
+     * window once it commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markProcessed(final List<UpdateMediaStatusCommand> someCommands) {
+        if (someCommands.isEmpty()) {
+            return;
+        }
+
+        final var entities = someCommands.stream()
+                .map(it -> ProcessedEncoderResultJpaEntity.with(keyOf(it), it.videoId()))
+                .toList();
+
+        this.repository.saveAll(entities);
+        purgeIfDue();
+
+        final var keys = entities.stream().map(ProcessedEncoderResultJpaEntity::getId).toList();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                window.addAll(keys);
+            }
+        });
+    }
+
+    private void purgeIfDue() {
+        final var now = System.currentTimeMillis();
+        final var due = this.nextPurge.get();
+        if (now >= due && this.nextPurge.compareAndSet(due, now + PURGE_INTERVAL.toMillis())) {
+            this.repository.deleteAllCreatedBefore(Instant.now().minus(this.retention));
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.amqp;
 
+import com.fullcycle.admin.catalogo.application.video.media.update.BatchUpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
-import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderCompleted;
@@ -12,7 +12,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 @Component
@@ -22,31 +26,80 @@ public class VideoEncoderListener {
 
     static final String LISTENER_ID = "videoEncodedListener";
 
-    private final UpdateMediaStatusUseCase updateMediaStatusUseCase;
+    private final BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase;
+    private final ProcessedEncoderResults processedEncoderResults;
+    private final TransactionTemplate transactionTemplate;
 
-    public VideoEncoderListener(final UpdateMediaStatusUseCase updateMediaStatusUseCase) {
-        this.updateMediaStatusUseCase = Objects.requireNonNull(updateMediaStatusUseCase);
+    public VideoEncoderListener(
+            final BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase,
+            final ProcessedEncoderResults processedEncoderResults,
+            final PlatformTransactionManager transactionManager
+    ) {
+        this.batchUpdateMediaStatusUseCase = Objects.requireNonNull(batchUpdateMediaStatusUseCase);
+        this.processedEncoderResults = Objects.requireNonNull(processedEncoderResults);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
     }
 
-    @RabbitListener(id = LISTENER_ID, queues = "${amqp.queues.video-encoded.queue}")
-    public void onVideoEncodedMessage(@Payload final String message) {
-        final var aResult = Json.readValue(message, VideoEncoderResult.class);
-
-        if (aResult instanceof VideoEncoderCompleted dto) {
-            log.error("[message:video.listener.income] [status:completed] [payload:{}]", message);
-            final var aCmd = new UpdateMediaStatusCommand(
-                MediaStatus.COMPLETED,
-                dto.id(),
-                dto.video().resourceId(),
-                dto.video().encodedVideoFolder(),
-                dto.video().filePath()
-            );
-
-            this.updateMediaStatusUseCase.execute(aCmd);
-        } else if (aResult instanceof VideoEncoderError) {
-            log.error("[message:video.listener.income] [status:error] [payload:{}]", message);
-        } else {
-            log.error("[message:video.listener.income] [status:unknown] [payload:{}]", message);
+    /**
+     * Handles a batch of encoder results in a single transaction. The container acknowledges the
+     * batch once this returns, so a failure rolls back and redelivers all of it. Results already
+     * processed are dropped before any video is loaded.
+     */
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "${amqp.queues.video-encoded.queue}",
+            containerFactory = "videoEncodedListenerContainerFactory"
+    )
+    public void onVideoEncodedMessages(@Payload final List<String> messages) {
+        final var commands = new ArrayList<UpdateMediaStatusCommand>(messages.size());
+        for (final var message : messages) {
+            final var aResult = read(message);
+
+            if (aResult instanceof VideoEncoderCompleted dto) {
+                log.error("[message:video.listener.income] [status:completed] [payload:{}]", message);
+                commands.add(new UpdateMediaStatusCommand(
+                    MediaStatus.COMPLETED,
+                    dto.id(),
+                    dto.video().resourceId(),
+                    dto.video().encodedVideoFolder(),
+                    dto.video().filePath()
+                ));
+            } else if (aResult instanceof VideoEncoderError) {
+                log.error("[message:video.listener.income] [status:error] [payload:{}]", message);
+            } else {
+                log.error("[message:video.listener.income] [status:unknown] [payload:{}]", message);
+            }
+        }
+
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        final var anOutput = this.transactionTemplate.execute(status -> {
+            final var unprocessed = this.processedEncoderResults.unprocessed(commands);
+            if (unprocessed.size() < commands.size()) {
+                log.info("[message:video.listener.income] [status:duplicated] [count:{}]", commands.size() - unprocessed.size());
+            }
+            if (unprocessed.isEmpty()) {
+                return null;
+            }
+
+            final var result = this.batchUpdateMediaStatusUseCase.execute(unprocessed);
+            this.processedEncoderResults.markProcessed(unprocessed);
+            return result;
+        });
+        if (anOutput != null && !anOutput.notFound().isEmpty()) {
+            log.error("[message:video.listener.income] [status:video-not-found] [videos:{}]", anOutput.notFound());
+        }
+    }
+
+    private static VideoEncoderResult read(final String message) {
+        try {
+            return Json.readValue(message, VideoEncoderResult.class);
+        } catch (final RuntimeException e) {
+            // a malformed message would otherwise send the whole batch back to the queue forever
+            log.error("[message:video.listener.income] [status:malformed] [payload:{}]", message, e);
+            return null;
         }
     }
 }
@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp.persistence;
+
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+@Entity(name = "ProcessedEncoderResult")
+@Table(name = "processed_encoder_results")
+public class ProcessedEncoderResultJpaEntity implements Persistable<String> {
+
+    @Id
+    private String id;
+
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    // the keys are only ever inserted, skipping the select a merge would issue first
+    @Transient
+    private boolean persisted;
+
+    public ProcessedEncoderResultJpaEntity() {
+    }
+
+    private ProcessedEncoderResultJpaEntity(final String id, final String videoId, final Instant createdAt) {
+        this.id = id;
+        this.videoId = videoId;
+        this.createdAt = createdAt;
+    }
+
+    public static ProcessedEncoderResultJpaEntity with(final String id, final String videoId) {
+        return new ProcessedEncoderResultJpaEntity(id, videoId, Instant.now());
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public ProcessedEncoderResultJpaEntity setId(String id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public ProcessedEncoderResultJpaEntity setVideoId(String videoId) {
+        this.videoId = videoId;
+        return this;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public ProcessedEncoderResultJpaEntity setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+}
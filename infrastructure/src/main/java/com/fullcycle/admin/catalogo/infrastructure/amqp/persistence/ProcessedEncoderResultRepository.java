@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProcessedEncoderResultRepository extends JpaRepository<ProcessedEncoderResultJpaEntity, String> {
+
+    @Query("select p.id from ProcessedEncoderResult p where p.id in :ids")
+    List<String> existingIds(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("delete from ProcessedEncoderResult p where p.createdAt < :threshold")
+    int deleteAllCreatedBefore(@Param("threshold") Instant threshold);
+}
@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateUploadSessionRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@RequestMapping(value = "videos/{id}/medias/{type}/uploads")
+@Tag(name = "Video")
+public interface MediaUploadAPI {
+
+        String UPLOAD_OFFSET = "Upload-Offset";
+
+        @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+        @Operation(summary = "Start a resumable upload session for a video media")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "201", description = "Upload session created successfully"),
+                @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+                @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+        })
+        ResponseEntity<?> create(
+                @PathVariable(name = "id") String id,
+                @PathVariable(name = "type") String type,
+                @RequestBody CreateUploadSessionRequest payload
+        );
+        //______________________________________________________________________________________________________________
+
+        @GetMapping(value = "{sessionId}", produces = MediaType.APPLICATION_JSON_VALUE)
+        @Operation(summary = "Get the committed offset of an upload session")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Upload session retrieved successfully"),
+                @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+                @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+        })
+        ResponseEntity<?> getById(
+                @PathVariable(name = "id") String id,
+                @PathVariable(name = "type") String type,
+                @PathVariable(name = "sessionId") String sessionId
+        );
+        //______________________________________________________________________________________________________________
+
+        @PutMapping(value = "{sessionId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+        @Operation(summary = "Append a chunk at the given offset of an upload session")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Chunk committed successfully"),
+                @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+                @ApiResponse(responseCode = "409", description = "Offset is ahead of the committed offset"),
+                @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+        })
+        ResponseEntity<?> appendChunk(
+                @PathVariable(name = "id") String id,
+                @PathVariable(name = "type") String type,
+                @PathVariable(name = "sessionId") String sessionId,
+                @RequestHeader(name = UPLOAD_OFFSET) long offset,
+                InputStream chunk
+        );
+        //______________________________________________________________________________________________________________
+
+        @PostMapping(value = "{sessionId}/finalize", produces = MediaType.APPLICATION_JSON_VALUE)
+        @Operation(summary = "Finalize an upload session attaching the media to the video")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "201", description = "Media persisted successfully"),
+                @ApiResponse(responseCode = "404", description = "Upload session or video was not found"),
+                @ApiResponse(responseCode = "422", description = "Upload is incomplete or its checksum doesn't match"),
+                @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+        })
+        ResponseEntity<?> complete(
+                @PathVariable(name = "id") String id,
+                @PathVariable(name = "type") String type,
+                @PathVariable(name = "sessionId") String sessionId,
+                @RequestParam(name = "checksum", required = false) String checksum
+        );
+        //______________________________________________________________________________________________________________
+
+        @DeleteMapping(value = "{sessionId}")
+        @ResponseStatus(HttpStatus.NO_CONTENT)
+        @Operation(summary = "Abort an upload session")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "204", description = "Upload session aborted successfully"),
+                @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+                @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+        })
+        void abort(
+                @PathVariable(name = "id") String id,
+                @PathVariable(name = "type") String type,
+                @PathVariable(name = "sessionId") String sessionId
+        );
+}
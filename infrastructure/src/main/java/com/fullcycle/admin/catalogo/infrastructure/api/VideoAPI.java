@@ -3,16 +3,20 @@ package com.fullcycle.admin.catalogo.infrastructure.api;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.UploadJobResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Set;
@@ -21,10 +25,14 @@ import java.util.Set;
 @Tag(name = "Video")
 public interface VideoAPI {
 
+        String PREFER = "Prefer";
+        String RESPOND_ASYNC = "respond-async";
+
         @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-        @Operation(summary = "Create a new video with medias")
+        @Operation(summary = "Create a new video with medias", description = "With 'Prefer: respond-async' the video is created right away and its medias are uploaded by a background job")
         @ApiResponses(value = {
                 @ApiResponse(responseCode = "201", description = "Created successfully"),
+                @ApiResponse(responseCode = "202", description = "Created successfully, medias are being uploaded"),
                 @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
                 @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
         })
@@ -43,7 +51,8 @@ public interface VideoAPI {
                 @RequestParam(name = "trailer_file", required = false) MultipartFile trailerFile,
                 @RequestParam(name = "banner_file", required = false) MultipartFile bannerFile,
                 @RequestParam(name = "thumb_file", required = false) MultipartFile thumbFile,
-                @RequestParam(name = "thumb_half_file", required = false) MultipartFile thumbHalfFile
+                @RequestParam(name = "thumb_half_file", required = false) MultipartFile thumbHalfFile,
+                @RequestHeader(name = PREFER, required = false) String prefer
         );
         //______________________________________________________________________________________________________________
 
@@ -61,10 +70,11 @@ public interface VideoAPI {
         @Operation(summary = "Get a video by it's identifier")
         @ApiResponses(value = {
                 @ApiResponse(responseCode = "200", description = "Video retrieved successfully"),
+                @ApiResponse(responseCode = "304", description = "Video was not modified"),
                 @ApiResponse(responseCode = "404", description = "Video was not found"),
                 @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
         })
-        VideoResponse getById(@PathVariable(name = "id") String id);
+        ResponseEntity<VideoResponse> getById(@PathVariable(name = "id") String id);
         //______________________________________________________________________________________________________________
 
         @PutMapping(value = "{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -103,7 +113,9 @@ public interface VideoAPI {
                 @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
                 @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") Set<String> castMembers,
                 @RequestParam(name = "categories_ids", required = false, defaultValue = "") Set<String> categories,
-                @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres
+                @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres,
+                @RequestParam(name = "cursor", required = false) String cursor,
+                @RequestParam(name = "with_total", required = false) String withTotal
         );
         //______________________________________________________________________________________________________________
 
@@ -111,19 +123,44 @@ public interface VideoAPI {
         @Operation(summary = "Get a video media by it's type")
         @ApiResponses(value = {
                 @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+                @ApiResponse(responseCode = "206", description = "Requested range of the media retrieved successfully"),
+                @ApiResponse(responseCode = "304", description = "Media was not modified"),
                 @ApiResponse(responseCode = "404", description = "Media was not found"),
+                @ApiResponse(responseCode = "416", description = "Requested range is not satisfiable"),
                 @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
         })
-        ResponseEntity<byte[]> getMediaByType(@PathVariable(name = "id") String id, @PathVariable(name = "type") String type);
+        ResponseEntity<InputStreamResource> getMediaByType(
+                @PathVariable(name = "id") String id,
+                @PathVariable(name = "type") String type,
+                @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+                @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange,
+                WebRequest request
+        );
         //______________________________________________________________________________________________________________
         
         @PostMapping(value = "{id}/medias/{type}")
-        @Operation(summary = "Upload a video media by it's type")
+        @Operation(summary = "Upload a video media by it's type", description = "With 'Prefer: respond-async' the media is uploaded by a background job")
         @ApiResponses(value = {
                 @ApiResponse(responseCode = "201", description = "Media created successfully"),
+                @ApiResponse(responseCode = "202", description = "Media accepted, it is being uploaded"),
                 @ApiResponse(responseCode = "404", description = "Video was not found"),
                 @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
         })
-        ResponseEntity<?> uploadMediaByType(@PathVariable(name = "id") String id, @PathVariable(name = "type") String type, @RequestParam(name = "media_file") MultipartFile media);
+        ResponseEntity<?> uploadMediaByType(
+                @PathVariable(name = "id") String id,
+                @PathVariable(name = "type") String type,
+                @RequestParam(name = "media_file") MultipartFile media,
+                @RequestHeader(name = PREFER, required = false) String prefer
+        );
+        //______________________________________________________________________________________________________________
+
+        @GetMapping(value = "{id}/jobs/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+        @Operation(summary = "Get the status of an asynchronous media upload")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Upload job retrieved successfully"),
+                @ApiResponse(responseCode = "404", description = "Upload job was not found"),
+                @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+        })
+        UploadJobResponse getUploadJob(@PathVariable(name = "id") String id, @PathVariable(name = "jobId") String jobId);
         //______________________________________________________________________________________________________________
 }
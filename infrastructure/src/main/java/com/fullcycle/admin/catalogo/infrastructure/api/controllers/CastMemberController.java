@@ -9,12 +9,14 @@ import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemb
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.infrastructure.api.CastMemberAPI;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberResponse;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.UpdateCastMemberRequest;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.presenter.CastMemberPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -60,15 +62,22 @@ public class CastMemberController implements CastMemberAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor,
+            final String withTotal
     ) {
-        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor, TotalMode.from(withTotal)))
                 .map(CastMemberPresenter::present);
     }
 
     @Override
-    public CastMemberResponse getById(final String id) {
-        return CastMemberPresenter.present(this.getCastMemberByIdUseCase.execute(id));
+    public ResponseEntity<CastMemberResponse> getById(final String id) {
+        final var output = this.getCastMemberByIdUseCase.execute(id);
+
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.of(output.id(), output.updatedAt()))
+                .lastModified(output.updatedAt())
+                .body(CastMemberPresenter.present(output));
     }
 
     @Override
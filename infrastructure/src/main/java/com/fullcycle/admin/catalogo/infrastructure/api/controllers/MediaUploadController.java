@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.api.MediaUploadAPI;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateUploadSessionRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.presenters.VideoApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.video.upload.MediaUploadSessions;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Objects;
+
+@RestController
+public class MediaUploadController implements MediaUploadAPI {
+
+    private final MediaUploadSessions mediaUploadSessions;
+
+    public MediaUploadController(final MediaUploadSessions mediaUploadSessions) {
+        this.mediaUploadSessions = Objects.requireNonNull(mediaUploadSessions);
+    }
+
+    @Override
+    public ResponseEntity<?> create(final String id, final String type, final CreateUploadSessionRequest payload) {
+        final var aSession = this.mediaUploadSessions.create(
+            VideoID.from(id),
+            typeOf(type),
+            payload.contentType(),
+            payload.name(),
+            payload.length()
+        );
+
+        return ResponseEntity
+            .created(URI.create("/videos/%s/medias/%s/uploads/%s".formatted(id, aSession.type(), aSession.id())))
+            .header(UPLOAD_OFFSET, String.valueOf(aSession.committed()))
+            .body(VideoApiPresenter.present(aSession));
+    }
+
+    @Override
+    public ResponseEntity<?> getById(final String id, final String type, final String sessionId) {
+        final var aSession = this.mediaUploadSessions.get(VideoID.from(id), typeOf(type), sessionId);
+
+        return ResponseEntity.ok()
+            .header(UPLOAD_OFFSET, String.valueOf(aSession.committed()))
+            .body(VideoApiPresenter.present(aSession));
+    }
+
+    @Override
+    public ResponseEntity<?> appendChunk(
+            final String id,
+            final String type,
+            final String sessionId,
+            final long offset,
+            final InputStream chunk
+    ) {
+        final var aSession = this.mediaUploadSessions.get(VideoID.from(id), typeOf(type), sessionId);
+
+        if (!aSession.accepts(offset)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(UPLOAD_OFFSET, String.valueOf(aSession.committed()))
+                .body(VideoApiPresenter.present(aSession));
+        }
+
+        final var committed = this.mediaUploadSessions.append(aSession, offset, chunk);
+
+        return ResponseEntity.ok()
+            .header(UPLOAD_OFFSET, String.valueOf(committed))
+            .body(VideoApiPresenter.present(aSession));
+    }
+
+    @Override
+    public ResponseEntity<?> complete(final String id, final String type, final String sessionId, final String checksum) {
+        final var aType = typeOf(type);
+        final var output = this.mediaUploadSessions.complete(VideoID.from(id), aType, sessionId, checksum);
+
+        return ResponseEntity
+            .created(URI.create("/videos/%s/medias/%s".formatted(id, aType.name())))
+            .body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public void abort(final String id, final String type, final String sessionId) {
+        this.mediaUploadSessions.abort(VideoID.from(id), typeOf(type), sessionId);
+    }
+
+    private VideoMediaType typeOf(final String type) {
+        return VideoMediaType.of(type)
+            .orElseThrow(() -> DomainException.with(new Error("Invalid %s for VideoMediaType".formatted(type))));
+    }
+}
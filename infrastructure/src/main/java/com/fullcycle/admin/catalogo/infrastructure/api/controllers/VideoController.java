@@ -16,33 +16,54 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.ResourceStream;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
 import com.fullcycle.admin.catalogo.domain.video.VideoResource;
 import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.api.VideoAPI;
-import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.UploadJobResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.presenters.VideoApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.video.upload.MediaUploadJob;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.upload.MediaUploadJobs;
+import com.google.common.io.ByteStreams;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
 
 @RestController
 public class VideoController implements VideoAPI {
 
+    private static final int MEDIA_BUFFER_SIZE = 64 * 1024;
+
     private final CreateVideoUseCase createVideoUseCase;
     private final GetVideoByIdUseCase getVideoByIdUseCase;
     private final UpdateVideoUseCase updateVideoUseCase;
@@ -50,6 +71,7 @@ public class VideoController implements VideoAPI {
     private final ListVideosUseCase listVideosUseCase;
     private final GetMediaUseCase getMediaUseCase;
     private final UploadMediaUseCase uploadMediaUseCase;
+    private final MediaUploadJobs mediaUploadJobs;
 
     public VideoController(
             final CreateVideoUseCase createVideoUseCase,
@@ -58,7 +80,8 @@ public class VideoController implements VideoAPI {
             final DeleteVideoUseCase deleteVideoUseCase,
             final ListVideosUseCase listVideosUseCase,
             final GetMediaUseCase getMediaUseCase,
-            final UploadMediaUseCase uploadMediaUseCase
+            final UploadMediaUseCase uploadMediaUseCase,
+            final MediaUploadJobs mediaUploadJobs
     ) {
         this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
         this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
@@ -67,6 +90,7 @@ public class VideoController implements VideoAPI {
         this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
         this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
         this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.mediaUploadJobs = Objects.requireNonNull(mediaUploadJobs);
     }
 
     @Override
@@ -85,8 +109,27 @@ public class VideoController implements VideoAPI {
             final MultipartFile trailerFile,
             final MultipartFile bannerFile,
             final MultipartFile thumbFile,
-            final MultipartFile thumbHalfFile
+            final MultipartFile thumbHalfFile,
+            final String prefer
     ) {
+        if (respondAsync(prefer)) {
+            return createAsync(
+                CreateVideoCommand.with(
+                    aTitle,
+                    aDescription,
+                    launchedAt,
+                    aDuration,
+                    wasOpened,
+                    wasPublished,
+                    aRating,
+                    categories,
+                    genres,
+                    castMembers
+                ),
+                mediasOf(videoFile, trailerFile, bannerFile, thumbFile, thumbHalfFile)
+            );
+        }
+
         final var command = CreateVideoCommand.with(
             aTitle,
             aDescription,
@@ -131,8 +174,17 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public VideoResponse getById(final String anId) {
-        return VideoApiPresenter.present(this.getVideoByIdUseCase.execute(anId));
+    public ResponseEntity<VideoResponse> getById(final String anId) {
+        final var output = this.getVideoByIdUseCase.execute(anId);
+        final var references = new ArrayList<String>();
+        references.addAll(output.categories());
+        references.addAll(output.genres());
+        references.addAll(output.castMembers());
+
+        return ResponseEntity.ok()
+            .eTag(ETagUtils.of(output.id(), output.updatedAt(), references))
+            .lastModified(output.updatedAt())
+            .body(VideoApiPresenter.present(output));
     }
 
     @Override
@@ -172,33 +224,84 @@ public class VideoController implements VideoAPI {
         final String direction,
         final Set<String> castMembers,
         final Set<String> categories,
-        final Set<String> genres
+        final Set<String> genres,
+        final String cursor,
+        final String withTotal
     ) {
         final var castMemberIDs = mapTo(castMembers, CastMemberID::from);
         final var categoriesIDs = mapTo(categories, CategoryID::from);
         final var genresIDs = mapTo(genres, GenreID::from);
 
-        final var aQuery = new VideoSearchQuery(page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs);
+        final var aQuery = new VideoSearchQuery(page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs, cursor, TotalMode.from(withTotal));
 
         return VideoApiPresenter.present(this.listVideosUseCase.execute(aQuery));
     }
 
     @Override
-    public ResponseEntity<byte[]> getMediaByType(final String id, final String type) {
+    public ResponseEntity<InputStreamResource> getMediaByType(
+            final String id,
+            final String type,
+            final String range,
+            final String ifRange,
+            final WebRequest request
+    ) {
         final var aMedia = this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
+        final var length = aMedia.length();
+        final var eTag = ETagUtils.of(aMedia.checksum());
 
-        return ResponseEntity.ok()
-            .contentType(MediaType.valueOf(aMedia.contentType()))
-            .contentLength(aMedia.content().length)
-            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
-            .body(aMedia.content());
+        final var headers = new HttpHeaders();
+        if (eTag != null) {
+            headers.setETag(eTag);
+        }
+
+        // answered from the stored metadata, the content is only opened when it is sent
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .headers(headers)
+                .build();
+        }
+
+        headers.setContentType(MediaType.valueOf(aMedia.contentType()));
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()));
+
+        final var aRange = rangeOf(range, ifRange, eTag);
+
+        if (aRange == null) {
+            return ResponseEntity.ok()
+                .headers(headers)
+                .contentLength(length)
+                .body(bodyOf(aMedia.content(), 0, length));
+        }
+
+        final var start = aRange.getRangeStart(length);
+        final var end = aRange.getRangeEnd(length);
+
+        if (start >= length || start > end) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(length))
+                .build();
+        }
+
+        final var count = end - start + 1;
+
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+            .headers(headers)
+            .contentLength(count)
+            .header(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(start, end, length))
+            .body(bodyOf(aMedia.content(), start, count));
     }
 
     @Override
-    public ResponseEntity<?> uploadMediaByType(final String id, final String type, final MultipartFile media) {
+    public ResponseEntity<?> uploadMediaByType(final String id, final String type, final MultipartFile media, final String prefer) {
         final var aType = VideoMediaType.of(type)
             .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for VideoMediaType".formatted(type))));
 
+        if (respondAsync(prefer)) {
+            this.getVideoByIdUseCase.execute(id);
+            return accepted(this.mediaUploadJobs.submit(VideoID.from(id), Map.of(aType, media)));
+        }
+
         final var aCmd = UploadMediaCommand.with(id, VideoResource.with(aType, resourceOf(media)));
 
         final var output = this.uploadMediaUseCase.execute(aCmd);
@@ -208,20 +311,99 @@ public class VideoController implements VideoAPI {
             .body(VideoApiPresenter.present(output));
     }
 
+    @Override
+    public UploadJobResponse getUploadJob(final String id, final String jobId) {
+        return VideoApiPresenter.present(this.mediaUploadJobs.get(VideoID.from(id), jobId));
+    }
+
+    /**
+     * The video is created without medias and answered right away; the parts are spooled to
+     * disk and attached by a background job. When the job is refused the video is deleted again,
+     * so the request can simply be retried.
+     */
+    private ResponseEntity<?> createAsync(final CreateVideoCommand command, final Map<VideoMediaType, MultipartFile> medias) {
+        final var output = this.createVideoUseCase.execute(command);
+
+        if (medias.isEmpty()) {
+            return ResponseEntity.created(URI.create("/videos/" + output.id())).body(output);
+        }
+
+        try {
+            return accepted(this.mediaUploadJobs.submit(VideoID.from(output.id()), medias));
+        } catch (RejectedExecutionException e) {
+            this.deleteVideoUseCase.execute(output.id());
+            throw e;
+        }
+    }
+
+    private ResponseEntity<?> accepted(final MediaUploadJob aJob) {
+        return ResponseEntity.accepted()
+            .location(URI.create("/videos/%s/jobs/%s".formatted(aJob.videoId().getValue(), aJob.id())))
+            .body(VideoApiPresenter.present(aJob));
+    }
+
+    private static boolean respondAsync(final String prefer) {
+        return prefer != null && Arrays.stream(prefer.split(","))
+            .map(String::trim)
+            .anyMatch(RESPOND_ASYNC::equalsIgnoreCase);
+    }
+
+    private static Map<VideoMediaType, MultipartFile> mediasOf(
+            final MultipartFile videoFile,
+            final MultipartFile trailerFile,
+            final MultipartFile bannerFile,
+            final MultipartFile thumbFile,
+            final MultipartFile thumbHalfFile
+    ) {
+        final var medias = new LinkedHashMap<VideoMediaType, MultipartFile>();
+        if (videoFile != null) medias.put(VideoMediaType.VIDEO, videoFile);
+        if (trailerFile != null) medias.put(VideoMediaType.TRAILER, trailerFile);
+        if (bannerFile != null) medias.put(VideoMediaType.BANNER, bannerFile);
+        if (thumbFile != null) medias.put(VideoMediaType.THUMBNAIL, thumbFile);
+        if (thumbHalfFile != null) medias.put(VideoMediaType.THUMBNAIL_HALF, thumbHalfFile);
+        return medias;
+    }
+
     private Resource resourceOf(final MultipartFile part) {
         if (part == null) {
             return null;
         }
 
+        return Resource.with(
+            part::getInputStream,
+            part.getSize(),
+            part.getContentType(),
+            part.getOriginalFilename()
+        );
+    }
+
+    /**
+     * Only a single byte range is honoured; anything else (multiple ranges, malformed header or an
+     * If-Range that doesn't match the current entity) falls back to the full content, as RFC 7233 allows.
+     */
+    private HttpRange rangeOf(final String range, final String ifRange, final String eTag) {
+        if (range == null || range.isBlank()) {
+            return null;
+        }
+
+        if (ifRange != null && !ifRange.equals(eTag)) {
+            return null;
+        }
+
         try {
-            return Resource.with(
-                part.getBytes(),
-                HashingUtils.checksum(part.getBytes()),
-                part.getContentType(),
-                part.getOriginalFilename()
-            );
-        } catch (Throwable t) {
-            throw new RuntimeException(t);
+            final var ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private InputStreamResource bodyOf(final ResourceStream content, final long offset, final long count) {
+        try {
+            final var in = ByteStreams.limit(content.open(offset, count), count);
+            return new InputStreamResource(new BufferedInputStream(in, MEDIA_BUFFER_SIZE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
-}
\ No newline at end of file
+}
@@ -5,26 +5,50 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
-import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.search.TextSearch;
+import com.fullcycle.admin.catalogo.infrastructure.search.TotalCounter;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidation;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidationBus;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.ExistenceIndex;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SliceUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 
 @Component
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
     private final CastMemberRepository castMemberRepository;
-
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    private final EntityManager entityManager;
+    private final TextSearch textSearch;
+    private final TotalCounter totalCounter;
+    private final CacheInvalidationBus invalidations;
+    private final ExistenceIndex existenceIndex;
+
+    public CastMemberMySQLGateway(
+            final CastMemberRepository castMemberRepository,
+            final EntityManager entityManager,
+            final TextSearch textSearch,
+            final TotalCounter totalCounter,
+            final CacheInvalidationBus invalidations,
+            final ExistenceIndex existenceIndex
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.textSearch = Objects.requireNonNull(textSearch);
+        this.totalCounter = Objects.requireNonNull(totalCounter);
+        this.invalidations = Objects.requireNonNull(invalidations);
+        this.existenceIndex = Objects.requireNonNull(existenceIndex);
     }
 
     @Override
@@ -37,6 +61,9 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         final var anId = aMemberId.getValue();
         if (this.castMemberRepository.existsById(anId)) {
             this.castMemberRepository.deleteById(anId);
+            this.textSearch.unindex(CastMemberJpaEntity.class, anId);
+            this.existenceIndex.remove(CastMemberJpaEntity.class, anId);
+            this.invalidations.publish(CacheInvalidation.CAST_MEMBER, anId, InstantUtils.now());
         }
     }
 
@@ -53,31 +80,45 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
 
     @Override
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        if (aQuery.isCursor()) {
+            return findAllAfter(aQuery);
+        }
+
+        final var page = TextSearch.isRelevance(aQuery.sort())
+                ? PageRequest.of(aQuery.page(), aQuery.perPage())
+                : PageRequest.of(
+                        aQuery.page(),
+                        aQuery.perPage(),
+                        Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+                );
 
         final var where = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
                 .map(this::assembleSpecification)
                 .orElse(null);
 
-        final var pageResult =
-                this.castMemberRepository.findAll(where, page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CastMemberJpaEntity::toAggregate).toList()
+        final var sliceResult = SliceUtils.findAll(
+                this.entityManager,
+                CastMemberJpaEntity.class,
+                Specification.where(where).and(ranking(aQuery)),
+                page
         );
+
+        return this.totalCounter.paginate(
+                sliceResult,
+                aQuery.total(),
+                List.of(CastMemberJpaEntity.class, Objects.requireNonNullElse(aQuery.terms(), "")),
+                () -> this.castMemberRepository.count(where)
+        ).map(CastMemberJpaEntity::toAggregate);
     }
 
     @Override
     public List<CastMemberID> existsByIds(final Iterable<CastMemberID> castMemberIDS) {
-        final var ids = StreamSupport.stream(castMemberIDS.spliterator(), false)
+        return this.existenceIndex.existing(CastMemberJpaEntity.class, castMemberIDS, CastMemberID::getValue, this::findExistingIds);
+    }
+
+    private List<CastMemberID> findExistingIds(final List<CastMemberID> castMemberIDS) {
+        final var ids = castMemberIDS.stream()
                 .map(CastMemberID::getValue)
                 .toList();
         return this.castMemberRepository.existsByIds(ids).stream()
@@ -85,12 +126,49 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
                 .toList();
     }
 
+    private Pagination<CastMember> findAllAfter(final SearchQuery aQuery) {
+        final var where = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(this::assembleSpecification)
+                .orElse(null);
+
+        final var rows = KeysetUtils.findAll(
+                this.entityManager,
+                CastMemberJpaEntity.class,
+                where,
+                aQuery.sort(),
+                Sort.Direction.fromString(aQuery.direction()),
+                KeysetUtils.decode(aQuery.cursor(), aQuery.sort()).orElse(null),
+                aQuery.perPage() + 1
+        );
+
+        return KeysetUtils.page(rows, aQuery.perPage(), aQuery.sort(), CastMemberJpaEntity::getId)
+                .map(CastMemberJpaEntity::toAggregate);
+    }
+
     private CastMember save(final CastMember aCastMember) {
-        return this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember))
-                .toAggregate();
+        final var result = invalidated(indexed(this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember))).toAggregate());
+        this.existenceIndex.add(CastMemberJpaEntity.class, result.getId().getValue());
+        return result;
+    }
+
+    private CastMember invalidated(final CastMember aCastMember) {
+        this.invalidations.publish(CacheInvalidation.CAST_MEMBER, aCastMember.getId().getValue(), aCastMember.getUpdatedAt());
+        return aCastMember;
+    }
+
+    private <T> T indexed(final T anEntity) {
+        this.textSearch.index(anEntity);
+        return anEntity;
     }
 
     private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+        return this.textSearch.matching(terms, "name");
+    }
+
+    private Specification<CastMemberJpaEntity> ranking(final SearchQuery aQuery) {
+        return TextSearch.isRelevance(aQuery.sort())
+                ? this.textSearch.rankedBy(aQuery.terms(), "name")
+                : null;
     }
 }
@@ -1,7 +1,5 @@
 package com.fullcycle.admin.catalogo.infrastructure.castmember.persistence;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,7 +9,7 @@ import java.util.List;
 
 public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
 
-    Page<CastMemberJpaEntity> findAll(Specification<CastMemberJpaEntity> specification, Pageable page);
+    long count(Specification<CastMemberJpaEntity> specification);
 
     @Query(value = "select c.id from CastMember c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
@@ -5,27 +5,51 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.search.TextSearch;
+import com.fullcycle.admin.catalogo.infrastructure.search.TotalCounter;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidation;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidationBus;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.ExistenceIndex;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SliceUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
-
-import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.like;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
     private final CategoryRepository repository;
-
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    private final EntityManager entityManager;
+    private final TextSearch textSearch;
+    private final TotalCounter totalCounter;
+    private final CacheInvalidationBus invalidations;
+    private final ExistenceIndex existenceIndex;
+
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final EntityManager entityManager,
+            final TextSearch textSearch,
+            final TotalCounter totalCounter,
+            final CacheInvalidationBus invalidations,
+            final ExistenceIndex existenceIndex
+    ) {
         this.repository = repository;
+        this.entityManager = entityManager;
+        this.textSearch = textSearch;
+        this.totalCounter = totalCounter;
+        this.invalidations = invalidations;
+        this.existenceIndex = existenceIndex;
     }
 
     @Override
@@ -38,6 +62,9 @@ public class CategoryMySQLGateway implements CategoryGateway {
         final String anIdValue = anId.getValue();
         if (this.repository.existsById(anIdValue)) {
             this.repository.deleteById(anIdValue);
+            this.textSearch.unindex(CategoryJpaEntity.class, anIdValue);
+            this.existenceIndex.remove(CategoryJpaEntity.class, anIdValue);
+            this.invalidations.publish(CacheInvalidation.CATEGORY, anIdValue, InstantUtils.now());
         }
     }
 
@@ -54,12 +81,18 @@ public class CategoryMySQLGateway implements CategoryGateway {
 
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
+        if (aQuery.isCursor()) {
+            return findAllAfter(aQuery);
+        }
+
         // Paginação
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        final var page = TextSearch.isRelevance(aQuery.sort())
+                ? PageRequest.of(aQuery.page(), aQuery.perPage())
+                : PageRequest.of(
+                        aQuery.page(),
+                        aQuery.perPage(),
+                        Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
+                );
 
         // Busca dinamica pelo criterio terms (name ou description)
         final var specifications = Optional.ofNullable(aQuery.terms())
@@ -67,20 +100,28 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 .map(this::assembleSpecification)
                 .orElse(null);
 
-        final var pageResult =
-                this.repository.findAll(Specification.where(specifications), page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
+        final var sliceResult = SliceUtils.findAll(
+                this.entityManager,
+                CategoryJpaEntity.class,
+                Specification.where(specifications).and(ranking(aQuery)),
+                page
         );
+
+        return this.totalCounter.paginate(
+                sliceResult,
+                aQuery.total(),
+                List.of(CategoryJpaEntity.class, Objects.requireNonNullElse(aQuery.terms(), "")),
+                () -> this.repository.count(specifications)
+        ).map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
     public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIDs) {
-        final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
+        return this.existenceIndex.existing(CategoryJpaEntity.class, categoryIDs, CategoryID::getValue, this::findExistingIds);
+    }
+
+    private List<CategoryID> findExistingIds(final List<CategoryID> categoryIDs) {
+        final var ids = categoryIDs.stream()
                 .map(CategoryID::getValue)
                 .toList();
         return this.repository.existsByIds(ids).stream()
@@ -88,13 +129,49 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 .toList();
     }
 
+    private Pagination<Category> findAllAfter(final SearchQuery aQuery) {
+        final var specifications = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(this::assembleSpecification)
+                .orElse(null);
+
+        final var rows = KeysetUtils.findAll(
+                this.entityManager,
+                CategoryJpaEntity.class,
+                specifications,
+                aQuery.sort(),
+                Direction.fromString(aQuery.direction()),
+                KeysetUtils.decode(aQuery.cursor(), aQuery.sort()).orElse(null),
+                aQuery.perPage() + 1
+        );
+
+        return KeysetUtils.page(rows, aQuery.perPage(), aQuery.sort(), CategoryJpaEntity::getId)
+                .map(CategoryJpaEntity::toAggregate);
+    }
+
     private Category save(final Category aCategory) {
-        return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        final var result = invalidated(indexed(this.repository.save(CategoryJpaEntity.from(aCategory))).toAggregate());
+        this.existenceIndex.add(CategoryJpaEntity.class, result.getId().getValue());
+        return result;
+    }
+
+    private Category invalidated(final Category aCategory) {
+        this.invalidations.publish(CacheInvalidation.CATEGORY, aCategory.getId().getValue(), aCategory.getUpdatedAt());
+        return aCategory;
+    }
+
+    private <T> T indexed(final T anEntity) {
+        this.textSearch.index(anEntity);
+        return anEntity;
     }
 
     private Specification<CategoryJpaEntity> assembleSpecification(final String str) {
-        final Specification<CategoryJpaEntity> nameLike = like("name", str);
-        final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
-        return nameLike.or(descriptionLike);
+        return this.textSearch.matching(str, "name", "description");
+    }
+
+    private Specification<CategoryJpaEntity> ranking(final SearchQuery aQuery) {
+        return TextSearch.isRelevance(aQuery.sort())
+                ? this.textSearch.rankedBy(aQuery.terms(), "name", "description")
+                : null;
     }
 }
@@ -3,8 +3,13 @@ package com.fullcycle.admin.catalogo.infrastructure.configuration;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoEncodedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoEvents;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.ListenerProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.OutboxProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.PublisherProperties;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +31,47 @@ public class AmqpConfig {
         return new QueueProperties();
     }
 
+    @Bean
+    @ConfigurationProperties("amqp.listeners.video-encoded")
+    @VideoEncodedQueue
+    ListenerProperties videoEncodedListenerProperties() {
+        return new ListenerProperties();
+    }
+
+    /**
+     * Delivers the encoder results in batches, acknowledged only once the listener returned, that
+     * is after the batch was committed.
+     */
+    @Bean
+    SimpleRabbitListenerContainerFactory videoEncodedListenerContainerFactory(
+            final ConnectionFactory connectionFactory,
+            @VideoEncodedQueue final ListenerProperties props
+    ) {
+        final var factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setConcurrentConsumers(props.getConcurrency());
+        factory.setMaxConcurrentConsumers(Math.max(props.getConcurrency(), props.getMaxConcurrency()));
+        factory.setPrefetchCount(Math.max(props.getPrefetch(), props.getBatchSize()));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(props.getBatchSize());
+        factory.setReceiveTimeout(props.getReceiveTimeout().toMillis());
+        return factory;
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.outbox")
+    OutboxProperties outboxProperties() {
+        return new OutboxProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.publisher")
+    PublisherProperties publisherProperties() {
+        return new PublisherProperties();
+    }
+
     @Configuration
     static class Admin {
 
@@ -0,0 +1,148 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.amqp.CacheInvalidationListener;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.CacheInvalidations;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.PublisherProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.cache.ExistenceIndexProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.cache.GatewayCacheProperties;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.services.batch.BatchingEventService;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidation;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidationBus;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.ExistenceIndex;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.GatewayCaches;
+import com.fullcycle.admin.catalogo.infrastructure.services.impl.RabbitEventService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+@Configuration
+public class CacheConfig {
+
+    /**
+     * The entities referenced by others, whose ids are checked on every write, by invalidation type.
+     */
+    private static final Map<String, Class<?>> REFERENCED = Map.of(
+            CacheInvalidation.CATEGORY, CategoryJpaEntity.class,
+            CacheInvalidation.GENRE, GenreJpaEntity.class,
+            CacheInvalidation.CAST_MEMBER, CastMemberJpaEntity.class
+    );
+
+    @Bean
+    @ConfigurationProperties("cache.gateways")
+    public GatewayCacheProperties gatewayCacheProperties() {
+        return new GatewayCacheProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("cache.existence")
+    public ExistenceIndexProperties existenceIndexProperties() {
+        return new ExistenceIndexProperties();
+    }
+
+    @Bean
+    public ExistenceIndex existenceIndex(
+            final ExistenceIndexProperties props,
+            final EntityManager entityManager,
+            final PlatformTransactionManager transactionManager,
+            final CacheInvalidationBus invalidations
+    ) {
+        final var index = new ExistenceIndex(
+                entityManager,
+                transactionManager,
+                props.isEnabled() ? Set.copyOf(REFERENCED.values()) : Set.of(),
+                invalidations.isShared() ? props.getExpectedIds() : 0,
+                props.getFalsePositiveRate(),
+                props.getFetchSize()
+        );
+        REFERENCED.forEach((type, entity) -> invalidations.subscribe(type, it -> index.forget(entity, it.id())));
+        return index;
+    }
+
+    /**
+     * Builds the caches the use case configs put in front of the category, genre and cast member
+     * gateways when they are enabled.
+     */
+    @Bean
+    public GatewayCaches gatewayCaches(
+            final GatewayCacheProperties props,
+            final CacheInvalidationBus invalidations,
+            final ObjectProvider<MeterRegistry> registry
+    ) {
+        return new GatewayCaches(props.getTtl(), props.getMaxEntries(), invalidations, registry.getIfAvailable());
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(@CacheInvalidations final ObjectProvider<BatchingEventService> publisher) {
+        return new CacheInvalidationBus(publisher.getIfAvailable());
+    }
+
+    /**
+     * Publishes the writes of the gateways to the other instances, and evicts theirs from the local
+     * caches. Without it each instance may serve what another overwrote until the entry expires.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "cache.gateways.invalidation-enabled", havingValue = "true")
+    static class Invalidations {
+
+        /**
+         * Batches the invalidations on a thread of its own; a full queue rejects them right away
+         * rather than holding the request that wrote. Its meters are bound as any MeterBinder bean.
+         */
+        @Bean(initMethod = "start", destroyMethod = "stop")
+        @CacheInvalidations
+        BatchingEventService cacheInvalidationEventService(
+                final GatewayCacheProperties props,
+                final PublisherProperties publisherProps,
+                final RabbitOperations ops
+        ) {
+            return new BatchingEventService(
+                    props.getInvalidationExchange(),
+                    new RabbitEventService(props.getInvalidationExchange(), "", ops, publisherProps.getConfirmTimeout()),
+                    publisherProps.getBatchSize(),
+                    publisherProps.getQueueCapacity(),
+                    publisherProps.getLinger(),
+                    Duration.ZERO
+            );
+        }
+
+
+        @Bean
+        CacheInvalidationListener cacheInvalidationListener(
+                final CacheInvalidationBus bus,
+                final ConnectionFactory connectionFactory,
+                final GatewayCacheProperties props
+        ) {
+            final var listener = new CacheInvalidationListener(bus, connectionFactory, props.getInvalidationExchange());
+            connectionFactory.addConnectionListener(listener);
+            return listener;
+        }
+
+        @Bean
+        SimpleMessageListenerContainer cacheInvalidationListenerContainer(
+                final ConnectionFactory connectionFactory,
+                final CacheInvalidationListener listener
+        ) {
+            final var container = new SimpleMessageListenerContainer(connectionFactory);
+            container.setQueues(listener.queue());
+            container.setMessageListener(listener);
+            container.setAcknowledgeMode(AcknowledgeMode.AUTO);
+            return container;
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration;
 
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.OutboxProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.PublisherProperties;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
 import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.services.batch.BatchingEventService;
 import com.fullcycle.admin.catalogo.infrastructure.services.impl.RabbitEventService;
 import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryEventService;
+import com.fullcycle.admin.catalogo.infrastructure.services.outbox.OutboxRelay;
+import com.fullcycle.admin.catalogo.infrastructure.services.outbox.persistence.OutboxEventRepository;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 public class EventConfig {
@@ -21,13 +29,43 @@ public class EventConfig {
         return new InMemoryEventService();
     }
 
-    @Bean
+    @Bean(initMethod = "start", destroyMethod = "stop")
     @VideoCreatedQueue
     @ConditionalOnMissingBean
     EventService videoCreatedEventService(
             @VideoCreatedQueue final QueueProperties props,
+            final PublisherProperties publisherProps,
             final RabbitOperations ops
     ) {
-        return new RabbitEventService(props.getExchange(), props.getRoutingKey(), ops);
+        return new BatchingEventService(
+                props.getRoutingKey(),
+                new RabbitEventService(props.getExchange(), props.getRoutingKey(), ops, publisherProps.getConfirmTimeout()),
+                publisherProps.getBatchSize(),
+                publisherProps.getQueueCapacity(),
+                publisherProps.getLinger(),
+                publisherProps.getEnqueueTimeout()
+        );
+    }
+
+    /**
+     * Publishes the meters of the batching publisher, unless the events stay in memory.
+     */
+    @Bean
+    MeterBinder videoCreatedEventMetrics(@VideoCreatedQueue final ObjectProvider<EventService> eventService) {
+        return registry -> eventService.ifAvailable(it -> {
+            if (it instanceof MeterBinder binder) {
+                binder.bindTo(registry);
+            }
+        });
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    OutboxRelay videoCreatedOutboxRelay(
+            @VideoCreatedQueue final EventService eventService,
+            final OutboxEventRepository outboxEventRepository,
+            final PlatformTransactionManager transactionManager,
+            final OutboxProperties props
+    ) {
+        return new OutboxRelay(eventService, outboxEventRepository, transactionManager, props);
     }
 }
@@ -0,0 +1,84 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.search.SearchProperties;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.search.IndexedTextSearch;
+import com.fullcycle.admin.catalogo.infrastructure.search.LikeTextSearch;
+import com.fullcycle.admin.catalogo.infrastructure.search.MySQLFullTextSearch;
+import com.fullcycle.admin.catalogo.infrastructure.search.TextSearch;
+import com.fullcycle.admin.catalogo.infrastructure.search.TotalCounter;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidation;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidationBus;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class SearchConfig {
+
+    /**
+     * The attributes searched for each entity, in the order of their FULLTEXT indexes.
+     */
+    private static final Map<Class<?>, List<String>> SEARCHED = Map.of(
+            CategoryJpaEntity.class, List.of("name", "description"),
+            GenreJpaEntity.class, List.of("name"),
+            CastMemberJpaEntity.class, List.of("name"),
+            VideoJpaEntity.class, List.of("title", "description")
+    );
+
+    /**
+     * The searched entities, by the type of their cache invalidations.
+     */
+    private static final Map<String, Class<?>> INVALIDATED = Map.of(
+            CacheInvalidation.CATEGORY, CategoryJpaEntity.class,
+            CacheInvalidation.GENRE, GenreJpaEntity.class,
+            CacheInvalidation.CAST_MEMBER, CastMemberJpaEntity.class,
+            CacheInvalidation.VIDEO, VideoJpaEntity.class
+    );
+
+    @Bean
+    @ConfigurationProperties("search")
+    public SearchProperties searchProperties() {
+        return new SearchProperties();
+    }
+
+    @Bean
+    public TextSearch textSearch(
+            final SearchProperties props,
+            final EntityManager entityManager,
+            final PlatformTransactionManager transactionManager,
+            final CacheInvalidationBus invalidations
+    ) {
+        final var database = props.isLike()
+                ? new LikeTextSearch()
+                : new MySQLFullTextSearch(new LikeTextSearch());
+
+        if (!props.isIndexEnabled()) {
+            return database;
+        }
+
+        final var search = new IndexedTextSearch(
+                database,
+                entityManager,
+                transactionManager,
+                SEARCHED,
+                props.getIndexMaxMatches(),
+                props.getIndexFetchSize()
+        );
+        INVALIDATED.forEach((type, entity) -> invalidations.subscribe(type, it -> search.refresh(entity, it.id())));
+        return search;
+    }
+
+    @Bean
+    public TotalCounter totalCounter(final SearchProperties props) {
+        return new TotalCounter(props.getEstimateTtl(), props.getEstimateMaxEntries());
+    }
+}
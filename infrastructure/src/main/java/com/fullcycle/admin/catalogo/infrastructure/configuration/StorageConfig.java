@@ -1,16 +1,37 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration;
 
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.MediaStoreExecutor;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.MediaUploadExecutor;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.google.GoogleStorageProperties;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CachingStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.dedup.DeduplicatingStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.dedup.persistence.MediaBlobReferenceRepository;
+import com.fullcycle.admin.catalogo.infrastructure.services.dedup.persistence.MediaBlobRepository;
 import com.fullcycle.admin.catalogo.infrastructure.services.impl.GCStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.FileSystemStorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
 import com.google.cloud.storage.Storage;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 @Configuration
 public class StorageConfig {
@@ -21,8 +42,46 @@ public class StorageConfig {
         return new StorageProperties();
     }
 
+    /**
+     * Bounded pool for the media stores of a video. When it is saturated the request thread
+     * stores the media itself, which throttles the uploads instead of queueing them unbounded.
+     */
+    @Bean
+    @MediaStoreExecutor
+    public ExecutorService mediaStoreExecutor(final StorageProperties props) {
+        return boundedPool(
+                "media-store-%d",
+                props.getStoreThreads(),
+                props.getStoreQueueCapacity(),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    /**
+     * Background uploader of the spooled medias, sized apart from the store pool so queued
+     * asynchronous uploads never starve the synchronous ones. When it is saturated new jobs are
+     * refused rather than run on the request thread, which would hold it for the whole upload.
+     */
+    @Bean
+    @MediaUploadExecutor
+    public ExecutorService mediaUploadExecutor(final StorageProperties props) {
+        return boundedPool(
+                "media-upload-%d",
+                props.getUploadThreads(),
+                props.getUploadQueueCapacity(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Bean
+    @Profile("filesystem")
+    public StorageService fileSystemStorageAPI(final StorageProperties props) {
+        return new FileSystemStorageService(Path.of(props.getRoot()));
+    }
+
     @Bean
     @Profile({"development", "test-integration", "test-e2e"})
+    @ConditionalOnMissingBean
     public StorageService localStorageAPI() {
         return new InMemoryStorageService();
     }
@@ -35,4 +94,90 @@ public class StorageConfig {
     ) {
         return new GCStorageService(props.getBucket(), storage);
     }
+
+    private static ExecutorService boundedPool(
+            final String nameFormat,
+            final int threads,
+            final int queueCapacity,
+            final RejectedExecutionHandler whenSaturated
+    ) {
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(true).build(),
+                whenSaturated
+        );
+    }
+
+    /**
+     * Wraps whichever storage is active with the optional layers: the content-addressed one, so
+     * shared payloads are stored once, reference counted and swept once unreferenced, and the image
+     * cache in front of everything.
+     */
+    @Bean
+    public static BeanPostProcessor storageDecorators(
+            final ObjectProvider<StorageProperties> props,
+            final ObjectProvider<MediaBlobRepository> blobRepository,
+            final ObjectProvider<MediaBlobReferenceRepository> referenceRepository,
+            final ObjectProvider<PlatformTransactionManager> transactionManager
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!(bean instanceof StorageService storage) || bean instanceof CachingStorageService) {
+                    return bean;
+                }
+
+                final var properties = props.getObject();
+                var decorated = storage;
+
+                if (properties.isDeduplicate()) {
+                    decorated = new DeduplicatingStorageService(
+                            decorated,
+                            blobRepository.getObject(),
+                            referenceRepository.getObject(),
+                            transactionManager.getObject()
+                    ).startSweeping(properties.getDeduplicateSweepInterval());
+                }
+
+                if (properties.getCacheMaxBytes() > 0) {
+                    decorated = new CachingStorageService(
+                            decorated,
+                            properties.getCacheMaxBytes(),
+                            properties.getCacheMaxEntryBytes(),
+                            cacheAdmission(properties)
+                    );
+                }
+
+                return decorated;
+            }
+        };
+    }
+
+    /**
+     * Publishes the meters of the image cache, when the active storage has one.
+     */
+    @Bean
+    public MeterBinder storageMetrics(final ObjectProvider<StorageService> storageService) {
+        return registry -> storageService.ifAvailable(it -> {
+            if (it instanceof MeterBinder binder) {
+                binder.bindTo(registry);
+            }
+        });
+    }
+
+    /**
+     * Admits the ids of the configured image types; audio and video payloads are never cached.
+     */
+    private static Predicate<String> cacheAdmission(final StorageProperties props) {
+        final var filenames = props.getCacheTypes().stream()
+                .filter(it -> it != VideoMediaType.VIDEO && it != VideoMediaType.TRAILER)
+                .map(it -> "/" + props.getFilenamePattern().replace("{type}", it.name()))
+                .toList();
+
+        return id -> filenames.stream().anyMatch(id::endsWith);
+    }
 }
@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ExistenceIndexProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ExistenceIndexProperties.class);
+
+    private boolean enabled;
+    private long expectedIds;
+    private double falsePositiveRate;
+    private int fetchSize;
+
+    @Override
+    public void afterPropertiesSet() {
+        log.info(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ExistenceIndexProperties{" +
+                "enabled=" + enabled +
+                ", expectedIds=" + expectedIds +
+                ", falsePositiveRate=" + falsePositiveRate +
+                ", fetchSize=" + fetchSize +
+                '}';
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getExpectedIds() {
+        return expectedIds;
+    }
+
+    public void setExpectedIds(long expectedIds) {
+        this.expectedIds = expectedIds;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+}
@@ -0,0 +1,74 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class GatewayCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(GatewayCacheProperties.class);
+
+    private boolean enabled;
+    private Duration ttl;
+    private long maxEntries;
+    private boolean invalidationEnabled;
+    private String invalidationExchange;
+
+    @Override
+    public void afterPropertiesSet() {
+        log.info(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "GatewayCacheProperties{" +
+                "enabled=" + enabled +
+                ", ttl=" + ttl +
+                ", maxEntries=" + maxEntries +
+                ", invalidationEnabled=" + invalidationEnabled +
+                ", invalidationExchange='" + invalidationExchange + '\'' +
+                '}';
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(long maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean isInvalidationEnabled() {
+        return invalidationEnabled;
+    }
+
+    public void setInvalidationEnabled(boolean invalidationEnabled) {
+        this.invalidationEnabled = invalidationEnabled;
+    }
+
+    public String getInvalidationExchange() {
+        return invalidationExchange;
+    }
+
+    public void setInvalidationExchange(String invalidationExchange) {
+        this.invalidationExchange = invalidationExchange;
+    }
+}
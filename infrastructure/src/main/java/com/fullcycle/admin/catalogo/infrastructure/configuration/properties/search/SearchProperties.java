@@ -0,0 +1,88 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class SearchProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchProperties.class);
+
+    private String mode = "fulltext";
+    private boolean indexEnabled;
+    private int indexMaxMatches;
+    private int indexFetchSize;
+    private Duration estimateTtl;
+    private long estimateMaxEntries;
+
+    @Override
+    public void afterPropertiesSet() {
+        log.info(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "SearchProperties{" +
+                "mode='" + mode + '\'' +
+                ", indexEnabled=" + indexEnabled +
+                ", indexMaxMatches=" + indexMaxMatches +
+                ", indexFetchSize=" + indexFetchSize +
+                ", estimateTtl=" + estimateTtl +
+                ", estimateMaxEntries=" + estimateMaxEntries +
+                '}';
+    }
+
+    public boolean isLike() {
+        return "like".equalsIgnoreCase(mode);
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public boolean isIndexEnabled() {
+        return indexEnabled;
+    }
+
+    public void setIndexEnabled(boolean indexEnabled) {
+        this.indexEnabled = indexEnabled;
+    }
+
+    public int getIndexMaxMatches() {
+        return indexMaxMatches;
+    }
+
+    public void setIndexMaxMatches(int indexMaxMatches) {
+        this.indexMaxMatches = indexMaxMatches;
+    }
+
+    public int getIndexFetchSize() {
+        return indexFetchSize;
+    }
+
+    public void setIndexFetchSize(int indexFetchSize) {
+        this.indexFetchSize = indexFetchSize;
+    }
+
+    public Duration getEstimateTtl() {
+        return estimateTtl;
+    }
+
+    public void setEstimateTtl(Duration estimateTtl) {
+        this.estimateTtl = estimateTtl;
+    }
+
+    public long getEstimateMaxEntries() {
+        return estimateMaxEntries;
+    }
+
+    public void setEstimateMaxEntries(long estimateMaxEntries) {
+        this.estimateMaxEntries = estimateMaxEntries;
+    }
+}
@@ -1,9 +1,13 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage;
 
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 
+import java.time.Duration;
+import java.util.Set;
+
 public class StorageProperties implements InitializingBean {
 
     private static final Logger log = LoggerFactory.getLogger(StorageProperties.class);
@@ -12,6 +16,30 @@ public class StorageProperties implements InitializingBean {
 
     private String filenamePattern;
 
+    private String root;
+
+    private int storeThreads;
+
+    private int storeQueueCapacity;
+
+    private String spool;
+
+    private int uploadThreads;
+
+    private int uploadQueueCapacity;
+
+    private Duration uploadSessionTtl;
+
+    private long cacheMaxBytes;
+
+    private long cacheMaxEntryBytes;
+
+    private Set<VideoMediaType> cacheTypes = Set.of();
+
+    private boolean deduplicate;
+
+    private Duration deduplicateSweepInterval;
+
     public StorageProperties() {
     }
 
@@ -31,6 +59,102 @@ public class StorageProperties implements InitializingBean {
         this.filenamePattern = filenamePattern;
     }
 
+    public String getRoot() {
+        return root;
+    }
+
+    public void setRoot(String root) {
+        this.root = root;
+    }
+
+    public int getStoreThreads() {
+        return storeThreads;
+    }
+
+    public void setStoreThreads(int storeThreads) {
+        this.storeThreads = storeThreads;
+    }
+
+    public int getStoreQueueCapacity() {
+        return storeQueueCapacity;
+    }
+
+    public void setStoreQueueCapacity(int storeQueueCapacity) {
+        this.storeQueueCapacity = storeQueueCapacity;
+    }
+
+    public String getSpool() {
+        return spool;
+    }
+
+    public void setSpool(String spool) {
+        this.spool = spool;
+    }
+
+    public int getUploadThreads() {
+        return uploadThreads;
+    }
+
+    public void setUploadThreads(int uploadThreads) {
+        this.uploadThreads = uploadThreads;
+    }
+
+    public int getUploadQueueCapacity() {
+        return uploadQueueCapacity;
+    }
+
+    public void setUploadQueueCapacity(int uploadQueueCapacity) {
+        this.uploadQueueCapacity = uploadQueueCapacity;
+    }
+
+    public Duration getUploadSessionTtl() {
+        return uploadSessionTtl;
+    }
+
+    public void setUploadSessionTtl(Duration uploadSessionTtl) {
+        this.uploadSessionTtl = uploadSessionTtl;
+    }
+
+    public long getCacheMaxBytes() {
+        return cacheMaxBytes;
+    }
+
+    public void setCacheMaxBytes(long cacheMaxBytes) {
+        this.cacheMaxBytes = cacheMaxBytes;
+    }
+
+    public long getCacheMaxEntryBytes() {
+        return cacheMaxEntryBytes;
+    }
+
+    public void setCacheMaxEntryBytes(long cacheMaxEntryBytes) {
+        this.cacheMaxEntryBytes = cacheMaxEntryBytes;
+    }
+
+    public Set<VideoMediaType> getCacheTypes() {
+        return cacheTypes;
+    }
+
+    public void setCacheTypes(Set<VideoMediaType> cacheTypes) {
+        this.cacheTypes = cacheTypes;
+    }
+
+    public boolean isDeduplicate() {
+        return deduplicate;
+    }
+
+    public void setDeduplicate(boolean deduplicate) {
+        this.deduplicate = deduplicate;
+    }
+
+    public Duration getDeduplicateSweepInterval() {
+        return deduplicateSweepInterval;
+    }
+
+    public void setDeduplicateSweepInterval(Duration deduplicateSweepInterval) {
+        this.deduplicateSweepInterval = deduplicateSweepInterval;
+    }
+
     @Override
     public void afterPropertiesSet() {
         log.debug(toString());
@@ -41,6 +165,18 @@ public class StorageProperties implements InitializingBean {
         return "StorageProperties{" +
                 "locationPattern='" + locationPattern + '\'' +
                 ", filenamePattern='" + filenamePattern + '\'' +
+                ", root='" + root + '\'' +
+                ", storeThreads=" + storeThreads +
+                ", storeQueueCapacity=" + storeQueueCapacity +
+                ", spool='" + spool + '\'' +
+                ", uploadThreads=" + uploadThreads +
+                ", uploadQueueCapacity=" + uploadQueueCapacity +
+                ", uploadSessionTtl=" + uploadSessionTtl +
+                ", cacheMaxBytes=" + cacheMaxBytes +
+                ", cacheMaxEntryBytes=" + cacheMaxEntryBytes +
+                ", cacheTypes=" + cacheTypes +
+                ", deduplicate=" + deduplicate +
+                ", deduplicateSweepInterval=" + deduplicateSweepInterval +
                 '}';
     }
 }
@@ -10,9 +10,17 @@ import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.Default
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.update.DefaultUpdateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.CastMemberMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidation;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CachingGateway;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.GatewayCaches;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 import java.util.Objects;
 
@@ -25,6 +33,17 @@ public class CastMemberUseCaseConfig {
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
     }
 
+    /**
+     * The cast member gateway every use case gets, behind the cache of cast members by id.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "cache.gateways.enabled", havingValue = "true")
+    public static CastMemberGateway cachingCastMemberGateway(final CastMemberMySQLGateway gateway, final GatewayCaches caches) {
+        final var cache = caches.create(CacheInvalidation.CAST_MEMBER, CastMemberID::from, CastMember::with, CastMember::getUpdatedAt);
+        return CachingGateway.of(CastMemberGateway.class, CastMemberID.class, CastMember.class, gateway, cache);
+    }
+
     @Bean
     public CreateCastMemberUseCase createCastMemberUseCase() {
         return new DefaultCreateCastMemberUseCase(castMemberGateway);
@@ -10,9 +10,17 @@ import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultLi
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidation;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CachingGateway;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.GatewayCaches;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 @Configuration
 public class CategoryUseCaseConfig {
@@ -23,6 +31,17 @@ public class CategoryUseCaseConfig {
         this.categoryGateway = categoryGateway;
     }
 
+    /**
+     * The category gateway every use case gets, behind the cache of categories by id.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "cache.gateways.enabled", havingValue = "true")
+    public static CategoryGateway cachingCategoryGateway(final CategoryMySQLGateway gateway, final GatewayCaches caches) {
+        final var cache = caches.create(CacheInvalidation.CATEGORY, CategoryID::from, Category::with, Category::getUpdatedAt);
+        return CachingGateway.of(CategoryGateway.class, CategoryID.class, Category.class, gateway, cache);
+    }
+
     @Bean
     public CreateCategoryUseCase createCategoryUseCase() {
         return new DefaultCreateCategoryUseCase(categoryGateway);
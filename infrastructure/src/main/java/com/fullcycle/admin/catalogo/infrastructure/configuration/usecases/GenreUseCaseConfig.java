@@ -11,9 +11,17 @@ import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUse
 import com.fullcycle.admin.catalogo.application.genre.update.DefaultUpdateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreUseCase;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidation;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CachingGateway;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.GatewayCaches;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 import java.util.Objects;
 
@@ -31,6 +39,17 @@ public class GenreUseCaseConfig {
         this.genreGateway = Objects.requireNonNull(genreGateway);
     }
 
+    /**
+     * The genre gateway every use case gets, behind the cache of genres by id.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "cache.gateways.enabled", havingValue = "true")
+    public static GenreGateway cachingGenreGateway(final GenreMySQLGateway gateway, final GatewayCaches caches) {
+        final var cache = caches.create(CacheInvalidation.GENRE, GenreID::from, Genre::with, Genre::getUpdatedAt);
+        return CachingGateway.of(GenreGateway.class, GenreID.class, Genre.class, gateway, cache);
+    }
+
     @Bean
     public CreateGenreUseCase createGenreUseCase() {
         return new DefaultCreateGenreUseCase(categoryGateway, genreGateway);
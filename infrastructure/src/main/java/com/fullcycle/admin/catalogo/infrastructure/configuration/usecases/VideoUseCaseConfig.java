@@ -6,6 +6,8 @@ import com.fullcycle.admin.catalogo.application.video.delete.DefaultDeleteVideoU
 import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.DefaultGetMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.update.BatchUpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.update.DefaultBatchUpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.DefaultUpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultUploadMediaUseCase;
@@ -21,10 +23,12 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.MediaStoreExecutor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 @Configuration
 public class VideoUseCaseConfig {
@@ -34,19 +38,22 @@ public class VideoUseCaseConfig {
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
     private final VideoGateway videoGateway;
+    private final ExecutorService mediaExecutor;
 
     public VideoUseCaseConfig(
         final CategoryGateway categoryGateway,
         final CastMemberGateway castMemberGateway,
         final GenreGateway genreGateway,
         final MediaResourceGateway mediaResourceGateway,
-        final VideoGateway videoGateway
+        final VideoGateway videoGateway,
+        @MediaStoreExecutor final ExecutorService mediaExecutor
     ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaExecutor = Objects.requireNonNull(mediaExecutor);
     }
 
     @Bean
@@ -56,7 +63,8 @@ public class VideoUseCaseConfig {
             castMemberGateway, 
             genreGateway, 
             mediaResourceGateway, 
-            videoGateway
+            videoGateway,
+            mediaExecutor
     );
     }
 
@@ -67,7 +75,8 @@ public class VideoUseCaseConfig {
             categoryGateway, 
             castMemberGateway, 
             genreGateway, 
-            mediaResourceGateway
+            mediaResourceGateway,
+            mediaExecutor
         );
     }
 
@@ -100,4 +109,9 @@ public class VideoUseCaseConfig {
     public UpdateMediaStatusUseCase updateMediaStatusUseCase() {
         return new DefaultUpdateMediaStatusUseCase(videoGateway);
     }
+
+    @Bean
+    public BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase() {
+        return new DefaultBatchUpdateMediaStatusUseCase(videoGateway);
+    }
 }
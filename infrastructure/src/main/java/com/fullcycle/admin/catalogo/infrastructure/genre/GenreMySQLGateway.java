@@ -1,22 +1,33 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre;
 
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
-import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.search.TextSearch;
+import com.fullcycle.admin.catalogo.infrastructure.search.TotalCounter;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidation;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidationBus;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.ExistenceIndex;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SliceUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 
 import static org.springframework.data.jpa.domain.Specification.where;
 
@@ -24,9 +35,26 @@ import static org.springframework.data.jpa.domain.Specification.where;
 public class GenreMySQLGateway implements GenreGateway {
 
     private final GenreRepository genreRepository;
-
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    private final EntityManager entityManager;
+    private final TextSearch textSearch;
+    private final TotalCounter totalCounter;
+    private final CacheInvalidationBus invalidations;
+    private final ExistenceIndex existenceIndex;
+
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final EntityManager entityManager,
+            final TextSearch textSearch,
+            final TotalCounter totalCounter,
+            final CacheInvalidationBus invalidations,
+            final ExistenceIndex existenceIndex
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.textSearch = Objects.requireNonNull(textSearch);
+        this.totalCounter = Objects.requireNonNull(totalCounter);
+        this.invalidations = Objects.requireNonNull(invalidations);
+        this.existenceIndex = Objects.requireNonNull(existenceIndex);
     }
 
     @Override
@@ -39,47 +67,67 @@ public class GenreMySQLGateway implements GenreGateway {
         final var aGenreId = anId.getValue();
         if (this.genreRepository.existsById(aGenreId)) {
             this.genreRepository.deleteById(aGenreId);
+            this.textSearch.unindex(GenreJpaEntity.class, aGenreId);
+            this.existenceIndex.remove(GenreJpaEntity.class, aGenreId);
+            this.invalidations.publish(CacheInvalidation.GENRE, aGenreId, InstantUtils.now());
         }
     }
 
     @Override
     public Optional<Genre> findById(final GenreID anId) {
-        return this.genreRepository.findById(anId.getValue())
+        return this.genreRepository.findWithCategoriesById(anId.getValue())
                 .map(GenreJpaEntity::toAggregate);
     }
 
     @Override
+    @Transactional
     public Genre update(final Genre aGenre) {
-        return save(aGenre);
+        return this.genreRepository.findWithCategoriesById(aGenre.getId().getValue())
+                .map(it -> invalidated(indexed(it.update(aGenre)).toAggregate()))
+                .orElseGet(() -> save(aGenre));
     }
 
     @Override
     public Pagination<Genre> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        if (aQuery.isCursor()) {
+            return findAllAfter(aQuery);
+        }
+
+        final var page = TextSearch.isRelevance(aQuery.sort())
+                ? PageRequest.of(aQuery.page(), aQuery.perPage())
+                : PageRequest.of(
+                        aQuery.page(),
+                        aQuery.perPage(),
+                        Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+                );
 
         final var where = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
                 .map(this::assembleSpecification)
                 .orElse(null);
 
-        final var pageResult =
-                this.genreRepository.findAll(where(where), page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList()
+        final var sliceResult = SliceUtils.findAll(
+                this.entityManager,
+                GenreJpaEntity.class,
+                where(where).and(ranking(aQuery)),
+                page
         );
+
+        return toAggregates(this.totalCounter.paginate(
+                sliceResult,
+                aQuery.total(),
+                List.of(GenreJpaEntity.class, Objects.requireNonNullElse(aQuery.terms(), "")),
+                () -> this.genreRepository.count(where)
+        ));
     }
 
     @Override
     public List<GenreID> existsByIds(final Iterable<GenreID> genreIDS) {
-        final var ids = StreamSupport.stream(genreIDS.spliterator(), false)
+        return this.existenceIndex.existing(GenreJpaEntity.class, genreIDS, GenreID::getValue, this::findExistingIds);
+    }
+
+    private List<GenreID> findExistingIds(final List<GenreID> genreIDS) {
+        final var ids = genreIDS.stream()
                 .map(GenreID::getValue)
                 .toList();
         return this.genreRepository.existsByIds(ids).stream()
@@ -87,12 +135,69 @@ public class GenreMySQLGateway implements GenreGateway {
                 .toList();
     }
 
+    private Pagination<Genre> findAllAfter(final SearchQuery aQuery) {
+        final var where = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(this::assembleSpecification)
+                .orElse(null);
+
+        final var rows = KeysetUtils.findAll(
+                this.entityManager,
+                GenreJpaEntity.class,
+                where,
+                aQuery.sort(),
+                Sort.Direction.fromString(aQuery.direction()),
+                KeysetUtils.decode(aQuery.cursor(), aQuery.sort()).orElse(null),
+                aQuery.perPage() + 1
+        );
+
+        return toAggregates(KeysetUtils.page(rows, aQuery.perPage(), aQuery.sort(), GenreJpaEntity::getId));
+    }
+
+    /**
+     * Reads the category ids of the whole page at once instead of one lazy load per genre.
+     */
+    private Pagination<Genre> toAggregates(final Pagination<GenreJpaEntity> aPage) {
+        if (aPage.items().isEmpty()) {
+            return aPage.map(GenreJpaEntity::toAggregate);
+        }
+
+        final var ids = aPage.items().stream()
+                .map(GenreJpaEntity::getId)
+                .toList();
+
+        final var categories = new HashMap<String, List<CategoryID>>();
+        for (final var row : this.genreRepository.findCategoryIds(ids)) {
+            categories.computeIfAbsent((String) row[0], it -> new ArrayList<>())
+                    .add(CategoryID.from((String) row[1]));
+        }
+
+        return aPage.map(it -> it.toAggregate(categories.getOrDefault(it.getId(), List.of())));
+    }
+
     private Genre save(final Genre aGenre) {
-        return this.genreRepository.save(GenreJpaEntity.from(aGenre))
-                .toAggregate();
+        final var result = invalidated(indexed(this.genreRepository.save(GenreJpaEntity.from(aGenre))).toAggregate());
+        this.existenceIndex.add(GenreJpaEntity.class, result.getId().getValue());
+        return result;
+    }
+
+    private Genre invalidated(final Genre aGenre) {
+        this.invalidations.publish(CacheInvalidation.GENRE, aGenre.getId().getValue(), aGenre.getUpdatedAt());
+        return aGenre;
+    }
+
+    private <T> T indexed(final T anEntity) {
+        this.textSearch.index(anEntity);
+        return anEntity;
     }
 
     private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+        return this.textSearch.matching(terms, "name");
+    }
+
+    private Specification<GenreJpaEntity> ranking(final SearchQuery aQuery) {
+        return TextSearch.isRelevance(aQuery.sort())
+                ? this.textSearch.rankedBy(aQuery.terms(), "name")
+                : null;
     }
 }
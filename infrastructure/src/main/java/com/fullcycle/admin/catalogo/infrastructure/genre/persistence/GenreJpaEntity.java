@@ -11,7 +11,7 @@ import java.util.List;
 import java.util.Set;
 
 import static javax.persistence.CascadeType.ALL;
-import static javax.persistence.FetchType.EAGER;
+import static java.util.function.Predicate.not;
 
 @Entity(name = "Genre")
 @Table(name = "genres")
@@ -27,7 +27,7 @@ public class GenreJpaEntity {
     @Column(name = "active", nullable = false)
     private boolean active;
 
-    @OneToMany(mappedBy = "genre", cascade = ALL, fetch = EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "genre", cascade = ALL, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
@@ -75,12 +75,44 @@ public class GenreJpaEntity {
         return anEntity;
     }
 
+    /**
+     * Copies the aggregate over this managed entity, adding and removing only the category rows
+     * that changed, so an update that keeps the categories issues no statement for them.
+     */
+    public GenreJpaEntity update(final Genre aGenre) {
+        this.name = aGenre.getName();
+        this.active = aGenre.isActive();
+        this.createdAt = aGenre.getCreatedAt();
+        this.updatedAt = aGenre.getUpdatedAt();
+        this.deletedAt = aGenre.getDeletedAt();
+
+        final var expected = Set.copyOf(aGenre.getCategories());
+        final var current = Set.copyOf(getCategoryIDs());
+
+        current.stream()
+                .filter(not(expected::contains))
+                .forEach(this::removeCategory);
+
+        expected.stream()
+                .filter(not(current::contains))
+                .forEach(this::addCategory);
+
+        return this;
+    }
+
     public Genre toAggregate() {
+        return toAggregate(getCategoryIDs());
+    }
+
+    /**
+     * Builds the aggregate with category ids read apart, leaving the lazy set untouched.
+     */
+    public Genre toAggregate(final List<CategoryID> categories) {
         return Genre.with(
                 GenreID.from(getId()),
                 getName(),
                 isActive(),
-                getCategoryIDs(),
+                categories,
                 getCreatedAt(),
                 getUpdatedAt(),
                 getDeletedAt()
@@ -1,8 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
 import java.util.List;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import java.util.Optional;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -10,7 +9,16 @@ import org.springframework.data.repository.query.Param;
 
 public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
 
-    Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
+    long count(Specification<GenreJpaEntity> whereClause);
+
+    @Query(value = "select g from Genre g left join fetch g.categories where g.id = :id")
+    Optional<GenreJpaEntity> findWithCategoriesById(@Param("id") String id);
+
+    /**
+     * The category ids of a whole page of genres in one statement, as {@code [genreId, categoryId]} rows.
+     */
+    @Query(value = "select gc.id.genreId, gc.id.categoryId from GenreCategoryJpaEntity gc where gc.id.genreId in :ids")
+    List<Object[]> findCategoryIds(@Param("ids") List<String> ids);
 
     @Query(value = "select g.id from Genre g where g.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
@@ -0,0 +1,194 @@
+package com.fullcycle.admin.catalogo.infrastructure.search;
+
+import com.fullcycle.admin.catalogo.infrastructure.search.index.InvertedIndex;
+import org.hibernate.jpa.QueryHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+/**
+ * Answers the searches from in-memory {@link InvertedIndex inverted indexes}, one per searched
+ * entity, and hands the matching ids to the database as an {@code id IN (...)} filter, so a page
+ * and its count are still one query each. The indexes are loaded by streaming the tables once the
+ * context is refreshed and kept up to date by the gateways after each commit, and by
+ * {@link #refresh} for the rows the other instances write. Until loaded, or when the terms match
+ * more than {@code maxMatches} rows, the database search answers instead.
+ */
+public class IndexedTextSearch implements TextSearch, ApplicationListener<ContextRefreshedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexedTextSearch.class);
+
+    private final TextSearch database;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Class<?>, Document> documents;
+    private final int maxMatches;
+    private final int fetchSize;
+    private volatile boolean ready;
+
+    public IndexedTextSearch(
+            final TextSearch database,
+            final EntityManager entityManager,
+            final PlatformTransactionManager transactionManager,
+            final Map<Class<?>, List<String>> attributes,
+            final int maxMatches,
+            final int fetchSize
+    ) {
+        this.database = Objects.requireNonNull(database);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.transactionTemplate.setReadOnly(true);
+        this.documents = attributes.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, it -> new Document(List.copyOf(it.getValue()), new InvertedIndex())));
+        this.maxMatches = maxMatches;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public <T> Specification<T> matching(final String terms, final String... attributes) {
+        return (root, query, cb) -> search(root.getJavaType(), terms)
+                .map(ids -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids))
+                .orElseGet(() -> this.database.<T>matching(terms, attributes).toPredicate(root, query, cb));
+    }
+
+    @Override
+    public <T> Specification<T> rankedBy(final String terms, final String... attributes) {
+        return this.database.rankedBy(terms, attributes);
+    }
+
+    @Override
+    public void index(final Object anEntity) {
+        final var document = this.documents.get(anEntity.getClass());
+        if (document == null) {
+            return;
+        }
+
+        final var fields = new DirectFieldAccessor(anEntity);
+        final var id = (String) fields.getPropertyValue("id");
+        final var texts = document.attributes().stream()
+                .map(it -> (String) fields.getPropertyValue(it))
+                .toList();
+
+        afterCommit(() -> document.index().put(id, texts));
+    }
+
+    @Override
+    public void unindex(final Class<?> type, final String id) {
+        final var document = this.documents.get(type);
+        if (document != null) {
+            afterCommit(() -> document.index().remove(id));
+        }
+    }
+
+    /**
+     * Reindexes a row written by another instance as the database has it now, or drops it when it
+     * no longer exists.
+     */
+    public void refresh(final Class<?> type, final String id) {
+        final var document = this.documents.get(type);
+        if (document == null) {
+            return;
+        }
+
+        final var select = select(type, document) + " where e.id = :id";
+        final var row = this.transactionTemplate.execute(status -> this.entityManager.createQuery(select, Object[].class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst());
+
+        if (row.isPresent()) {
+            document.index().put(id, texts(row.get()));
+        } else {
+            document.index().remove(id);
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(final ContextRefreshedEvent event) {
+        if (this.ready) {
+            return;
+        }
+
+        final var loader = new Thread(this::rebuild, "search-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Reloads every index from its table. Searches fall back to the database meanwhile.
+     */
+    public synchronized void rebuild() {
+        this.ready = false;
+        try {
+            this.documents.forEach(this::load);
+            this.ready = true;
+        } catch (RuntimeException e) {
+            log.error("Failed to load the search indexes, searching the database instead", e);
+        }
+    }
+
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    Optional<Set<String>> search(final Class<?> type, final String terms) {
+        final var document = this.documents.get(type);
+        if (!this.ready || document == null) {
+            return Optional.empty();
+        }
+        return document.index().search(terms).filter(it -> it.size() <= this.maxMatches);
+    }
+
+    private void load(final Class<?> type, final Document document) {
+        final var select = select(type, document);
+        final var index = document.index();
+        index.beginLoad();
+        try {
+            this.transactionTemplate.executeWithoutResult(status -> {
+                try (final var rows = this.entityManager.createQuery(select, Object[].class)
+                        .setHint(QueryHints.HINT_FETCH_SIZE, this.fetchSize)
+                        .getResultStream()) {
+                    rows.forEach(row -> index.load((String) row[0], texts(row)));
+                }
+            });
+        } finally {
+            index.endLoad();
+        }
+
+        log.info("Loaded {} {} into the search index", index.size(), entityName(type));
+    }
+
+    private String select(final Class<?> type, final Document document) {
+        return "select e.id, %s from %s e".formatted(
+                document.attributes().stream().map(it -> "e." + it).collect(Collectors.joining(", ")),
+                entityName(type)
+        );
+    }
+
+    private String entityName(final Class<?> type) {
+        return this.entityManager.getMetamodel().entity(type).getName();
+    }
+
+    private static List<String> texts(final Object[] row) {
+        return Arrays.stream(row, 1, row.length).map(it -> (String) it).toList();
+    }
+
+    private record Document(List<String> attributes, InvertedIndex index) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.infrastructure.search;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Arrays;
+
+/**
+ * Matches the terms anywhere in any of the attributes. Scans the whole table, but runs anywhere.
+ * Ranks the rows whose first attribute starts with the terms first.
+ */
+public class LikeTextSearch implements TextSearch {
+
+    @Override
+    public <T> Specification<T> matching(final String terms, final String... attributes) {
+        return Arrays.stream(attributes)
+                .map(it -> SpecificationUtils.<T>like(it, terms))
+                .reduce(Specification::or)
+                .orElseThrow();
+    }
+
+    @Override
+    public <T> Specification<T> rankedBy(final String terms, final String... attributes) {
+        return (root, query, cb) -> {
+            if (terms == null || terms.isBlank()) {
+                query.orderBy(cb.asc(root.get("id")));
+                return null;
+            }
+
+            final var prefix = cb.<Integer>selectCase()
+                    .when(cb.like(cb.upper(root.get(attributes[0])), SqlUtils.upper(terms) + "%"), 1)
+                    .otherwise(0);
+            query.orderBy(cb.desc(prefix), cb.asc(root.get("id")));
+            return null;
+        };
+    }
+}
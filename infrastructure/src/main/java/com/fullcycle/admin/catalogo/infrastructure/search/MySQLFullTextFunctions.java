@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.infrastructure.search;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Registers {@code match_against_N(column_1, ..., column_N, query)}, rendered as MySQL's
+ * {@code MATCH(column_1, ..., column_N) AGAINST (query IN BOOLEAN MODE)}, for the FULLTEXT
+ * indexes of up to {@value #MAX_COLUMNS} columns.
+ */
+public class MySQLFullTextFunctions implements MetadataBuilderContributor {
+
+    static final int MAX_COLUMNS = 2;
+
+    static String name(final int columns) {
+        if (columns < 1 || columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("FULLTEXT searches %d columns at most".formatted(MAX_COLUMNS));
+        }
+        return "match_against_" + columns;
+    }
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        for (int columns = 1; columns <= MAX_COLUMNS; columns++) {
+            final var match = IntStream.rangeClosed(1, columns)
+                    .mapToObj(it -> "?" + it)
+                    .collect(Collectors.joining(", "));
+
+            metadataBuilder.applySqlFunction(
+                    name(columns),
+                    new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "match(%s) against (?%d in boolean mode)".formatted(match, columns + 1))
+            );
+        }
+    }
+}
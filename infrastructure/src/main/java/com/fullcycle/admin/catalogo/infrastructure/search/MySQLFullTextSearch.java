@@ -0,0 +1,82 @@
+package com.fullcycle.admin.catalogo.infrastructure.search;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@code MATCH ... AGAINST} in boolean mode: every word of the terms must prefix a word of the
+ * attributes, ranked by the InnoDB relevance. Words shorter than the minimum token InnoDB indexes
+ * would never match, so those terms fall back to the {@code LIKE} search.
+ *
+ * @see MySQLFullTextFunctions
+ */
+public class MySQLFullTextSearch implements TextSearch {
+
+    // innodb_ft_min_token_size
+    private static final int MIN_TOKEN_SIZE = 3;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}_]+");
+
+    private final TextSearch fallback;
+
+    public MySQLFullTextSearch(final TextSearch fallback) {
+        this.fallback = Objects.requireNonNull(fallback);
+    }
+
+    @Override
+    public <T> Specification<T> matching(final String terms, final String... attributes) {
+        return booleanQuery(terms)
+                .<Specification<T>>map(against -> (root, query, cb) -> cb.greaterThan(match(cb, root, against, attributes), 0d))
+                .orElseGet(() -> this.fallback.matching(terms, attributes));
+    }
+
+    @Override
+    public <T> Specification<T> rankedBy(final String terms, final String... attributes) {
+        return booleanQuery(terms)
+                .<Specification<T>>map(against -> (root, query, cb) -> {
+                    query.orderBy(cb.desc(match(cb, root, against, attributes)), cb.asc(root.get("id")));
+                    return null;
+                })
+                .orElseGet(() -> this.fallback.rankedBy(terms, attributes));
+    }
+
+    static Optional<String> booleanQuery(final String terms) {
+        if (terms == null) {
+            return Optional.empty();
+        }
+
+        final var words = Stream.of(WORD_SEPARATOR.split(terms.trim()))
+                .filter(it -> !it.isEmpty())
+                .toList();
+
+        if (words.isEmpty() || words.stream().anyMatch(it -> it.length() < MIN_TOKEN_SIZE)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(words.stream()
+                .map(it -> "+" + it + "*")
+                .collect(Collectors.joining(" ")));
+    }
+
+    private static Expression<Double> match(
+            final CriteriaBuilder cb,
+            final Root<?> root,
+            final String against,
+            final String... attributes
+    ) {
+        final var args = new ArrayList<Expression<?>>();
+        Arrays.stream(attributes).map(root::get).forEach(args::add);
+        args.add(cb.literal(against));
+        return cb.function(MySQLFullTextFunctions.name(attributes.length), Double.class, args.toArray(Expression[]::new));
+    }
+}
@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalogo.infrastructure.search;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * How the gateways match the search terms of a listing. MySQL answers from its FULLTEXT indexes;
+ * databases without them (H2 in the tests) fall back to a case-insensitive {@code LIKE}.
+ */
+public interface TextSearch {
+
+    /**
+     * The sort that ranks the matches by relevance to the terms, most relevant first.
+     */
+    String RELEVANCE = "relevance";
+
+    /**
+     * @param attributes searched together, in the order of the FULLTEXT index that covers them
+     */
+    <T> Specification<T> matching(String terms, String... attributes);
+
+    /**
+     * Orders by relevance to the terms, ties by id; filters nothing.
+     */
+    <T> Specification<T> rankedBy(String terms, String... attributes);
+
+    /**
+     * Tells a search keeping its own index that the entity was written; applied once committed.
+     */
+    default void index(final Object anEntity) {
+    }
+
+    /**
+     * Tells a search keeping its own index that the entity was deleted; applied once committed.
+     */
+    default void unindex(final Class<?> type, final String id) {
+    }
+
+    static boolean isRelevance(final String sort) {
+        return RELEVANCE.equalsIgnoreCase(sort);
+    }
+}
@@ -0,0 +1,71 @@
+package com.fullcycle.admin.catalogo.infrastructure.search;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.springframework.data.domain.Slice;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+
+/**
+ * Fills the {@code total} of a page read as a {@link Slice}. A last page needs no count: its
+ * offset plus its size is the total. Otherwise the {@link TotalMode} decides between counting,
+ * not counting, or reusing a recent count of the same search.
+ */
+public class TotalCounter {
+
+    private final Cache<Object, Long> estimates;
+
+    public TotalCounter(final Duration estimateTtl, final long estimateMaxEntries) {
+        this.estimates = CacheBuilder.newBuilder()
+                .expireAfterWrite(estimateTtl)
+                .maximumSize(estimateMaxEntries)
+                .build();
+    }
+
+    /**
+     * @param aSearch identifies the search, without its paging, for the estimates
+     */
+    public <T> Pagination<T> paginate(
+            final Slice<T> aSlice,
+            final TotalMode aMode,
+            final Object aSearch,
+            final LongSupplier aCount
+    ) {
+        return new Pagination<>(
+                aSlice.getNumber(),
+                aSlice.getSize(),
+                total(aSlice, aMode, aSearch, aCount),
+                aSlice.getContent(),
+                null,
+                aSlice.hasNext()
+        );
+    }
+
+    private long total(final Slice<?> aSlice, final TotalMode aMode, final Object aSearch, final LongSupplier aCount) {
+        if (!aSlice.hasNext() && (aSlice.hasContent() || aSlice.isFirst())) {
+            return aSlice.getPageable().getOffset() + aSlice.getNumberOfElements();
+        }
+
+        return switch (aMode) {
+            case EXACT -> aCount.getAsLong();
+            case NONE -> Pagination.UNCOUNTED;
+            case ESTIMATED -> estimate(aSearch, aCount);
+        };
+    }
+
+    private long estimate(final Object aSearch, final LongSupplier aCount) {
+        try {
+            return this.estimates.get(aSearch, aCount::getAsLong);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException ex) {
+                throw ex;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
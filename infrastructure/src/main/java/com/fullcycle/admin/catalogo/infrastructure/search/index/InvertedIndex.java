@@ -0,0 +1,180 @@
+package com.fullcycle.admin.catalogo.infrastructure.search.index;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Maps every prefix (edge n-gram) of the accent-folded, lower-cased words of a document to the ids
+ * containing it, so a search is one lookup per word of the terms and an intersection. Prefixes
+ * longer than {@value #MAX_GRAM} characters are not indexed; longer words are checked against the
+ * words of the candidates instead.
+ */
+public class InvertedIndex {
+
+    static final int MAX_GRAM = 12;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private final Map<String, Set<String>> postings = new HashMap<>();
+    private final Map<String, Set<String>> wordsById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Set<String> removedWhileLoading;
+
+    public void put(final String id, final Collection<String> texts) {
+        this.lock.writeLock().lock();
+        try {
+            unindex(id);
+            index(id, texts);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final String id) {
+        this.lock.writeLock().lock();
+        try {
+            unindex(id);
+            if (this.removedWhileLoading != null) {
+                this.removedWhileLoading.add(id);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Empties the index for a reload. Until {@link #endLoad()}, documents written or removed by
+     * {@link #put} and {@link #remove} win over the ones {@link #load loaded}, which may be older.
+     */
+    public void beginLoad() {
+        this.lock.writeLock().lock();
+        try {
+            this.postings.clear();
+            this.wordsById.clear();
+            this.removedWhileLoading = new HashSet<>();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void load(final String id, final Collection<String> texts) {
+        this.lock.writeLock().lock();
+        try {
+            if (!this.wordsById.containsKey(id) && !this.removedWhileLoading.contains(id)) {
+                index(id, texts);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void endLoad() {
+        this.lock.writeLock().lock();
+        try {
+            this.removedWhileLoading = null;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the ids of the documents with a word starting with each word of the terms, or empty
+     * when the terms have no words at all
+     */
+    public Optional<Set<String>> search(final String terms) {
+        final var words = words(terms);
+        if (words.isEmpty()) {
+            return Optional.empty();
+        }
+
+        this.lock.readLock().lock();
+        try {
+            final var candidates = words.stream()
+                    .map(it -> this.postings.getOrDefault(gram(it), Set.of()))
+                    .sorted(Comparator.comparingInt(Set::size))
+                    .toList();
+
+            final var ids = new HashSet<>(candidates.get(0));
+            candidates.subList(1, candidates.size()).forEach(ids::retainAll);
+
+            words.stream()
+                    .filter(it -> it.length() > MAX_GRAM)
+                    .forEach(word -> ids.removeIf(id -> this.wordsById.get(id).stream().noneMatch(it -> it.startsWith(word))));
+
+            return Optional.of(ids);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.wordsById.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    static Set<String> words(final String text) {
+        if (text == null) {
+            return Set.of();
+        }
+
+        final var folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return Stream.of(WORD_SEPARATOR.split(folded.toLowerCase(Locale.ROOT)))
+                .filter(it -> !it.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private void index(final String id, final Collection<String> texts) {
+        final var words = texts.stream()
+                .flatMap(it -> words(it).stream())
+                .collect(Collectors.toCollection(HashSet::new));
+
+        this.wordsById.put(id, words);
+        grams(words).forEach(gram -> this.postings.computeIfAbsent(gram, k -> new HashSet<>()).add(id));
+    }
+
+    private void unindex(final String id) {
+        final var words = this.wordsById.remove(id);
+        if (words == null) {
+            return;
+        }
+
+        grams(words).forEach(gram -> {
+            final var ids = this.postings.get(gram);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                this.postings.remove(gram);
+            }
+        });
+    }
+
+    private static Set<String> grams(final Set<String> words) {
+        final var grams = new HashSet<String>();
+        for (final var word : words) {
+            for (int length = 1; length <= Math.min(word.length(), MAX_GRAM); length++) {
+                grams.add(word.substring(0, length));
+            }
+        }
+        return grams;
+    }
+
+    private static String gram(final String word) {
+        return word.length() > MAX_GRAM ? word.substring(0, MAX_GRAM) : word;
+    }
+}
@@ -1,5 +1,14 @@
 package com.fullcycle.admin.catalogo.infrastructure.services;
 
+import java.util.List;
+
 public interface EventService {
     void send(Object event);
+
+    /**
+     * Sends the events in order, returning only once all of them were accepted.
+     */
+    default void sendAll(final List<?> events) {
+        events.forEach(this::send);
+    }
 }
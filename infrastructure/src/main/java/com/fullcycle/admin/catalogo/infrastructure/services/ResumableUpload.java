@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalogo.infrastructure.services;
+
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+public interface ResumableUpload {
+
+    String id();
+
+    long committed();
+
+    /**
+     * Appends the whole chunk at the current committed offset, updating the CRC32C as the bytes
+     * go through, and returns the new committed offset.
+     */
+    long append(InputStream chunk);
+
+    Resource complete();
+
+    /**
+     * The CRC32C of the bytes committed so far, read without completing the upload, or empty
+     * when only the completed object tells it.
+     */
+    default Optional<String> checksum() {
+        return Optional.empty();
+    }
+
+    /**
+     * What another instance needs to carry on with the upload through
+     * {@link StorageService#resumeUpload}, or empty when only this one can.
+     */
+    default Optional<byte[]> capture() {
+        return Optional.empty();
+    }
+
+    /**
+     * Drops the upload, deleting whatever was already staged for it.
+     */
+    void discard();
+}
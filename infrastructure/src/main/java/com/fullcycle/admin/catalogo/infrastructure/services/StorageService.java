@@ -7,7 +7,24 @@ import java.util.Optional;
 
 public interface StorageService {
 
-    void store(String id, Resource resource);
+    /**
+     * Streams the resource into the storage and returns it with its checksum resolved.
+     */
+    Resource store(String id, Resource resource);
+
+    /**
+     * Opens an upload that is appended to chunk by chunk and only becomes a stored resource on
+     * {@link ResumableUpload#complete()}.
+     */
+    ResumableUpload startUpload(String id, String contentType, String name);
+
+    /**
+     * Carries on with an upload from the state it captured at the committed offset, or empty
+     * when the storage cannot resume it.
+     */
+    default Optional<ResumableUpload> resumeUpload(String id, String contentType, String name, long committed, byte[] state) {
+        return Optional.empty();
+    }
 
     Optional<Resource> get(String id);
 
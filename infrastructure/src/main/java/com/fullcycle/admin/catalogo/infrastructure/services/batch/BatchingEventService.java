@@ -0,0 +1,256 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.batch;
+
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accumulates events in a bounded queue and hands them to another {@link EventService} in
+ * batches, flushed once {@code batchSize} events are waiting or the oldest one waited for
+ * {@code linger}. The delegate's {@link EventService#sendAll(List)} has to return only once the
+ * broker confirmed the batch: that is what completes the future of each event. {@link #send}
+ * and {@link #sendAll} wait for those futures and throw when the batch failed, so callers that
+ * rely on a failed send, such as the outbox relay, keep their events; {@link #publish} hands the
+ * future back instead. Callers are blocked up to {@code enqueueTimeout} while the queue is full.
+ * The queue depth, the outcomes and the confirm latency of the batches are published as the
+ * {@code events.publisher} meters, tagged with the name of the publisher.
+ */
+public class BatchingEventService implements EventService, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingEventService.class);
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final String name;
+    private final EventService delegate;
+    private final BlockingQueue<PendingEvent> queue;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long enqueueTimeoutNanos;
+
+    private final AtomicLong published;
+    private final AtomicLong failed;
+    private final AtomicLong batches;
+    private final AtomicLong confirmNanos;
+    private final AtomicLong lastConfirmNanos;
+    private final AtomicLong maxConfirmNanos;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public BatchingEventService(
+            final String name,
+            final EventService delegate,
+            final int batchSize,
+            final int queueCapacity,
+            final Duration linger,
+            final Duration enqueueTimeout
+    ) {
+        if (batchSize < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("'batchSize' and 'queueCapacity' must be positive");
+        }
+        this.name = Objects.requireNonNull(name);
+        this.delegate = Objects.requireNonNull(delegate);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+        this.published = new AtomicLong();
+        this.failed = new AtomicLong();
+        this.batches = new AtomicLong();
+        this.confirmNanos = new AtomicLong();
+        this.lastConfirmNanos = new AtomicLong();
+        this.maxConfirmNanos = new AtomicLong();
+    }
+
+    public synchronized void start() {
+        if (this.flusher != null) {
+            return;
+        }
+        this.running = true;
+        this.flusher = new Thread(this::run, "event-publisher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Stops accepting events and flushes the ones already queued.
+     */
+    public synchronized void stop() {
+        if (this.flusher == null) {
+            return;
+        }
+        this.running = false;
+        try {
+            this.flusher.join(TimeUnit.NANOSECONDS.toMillis(this.lingerNanos) + 5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.flusher = null;
+
+        final var abandoned = new ArrayList<PendingEvent>();
+        this.queue.drainTo(abandoned);
+        abandoned.forEach(it -> it.future().completeExceptionally(new IllegalStateException("Event publisher stopped")));
+    }
+
+    public CompletableFuture<Void> publish(final Object event) {
+        if (!this.running) {
+            throw new IllegalStateException("Event publisher is not running");
+        }
+
+        final var pending = new PendingEvent(event, new CompletableFuture<>());
+        try {
+            if (!this.queue.offer(pending, this.enqueueTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new RejectedExecutionException("Event queue is full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the event queue", e);
+        }
+        return pending.future();
+    }
+
+    @Override
+    public void send(final Object event) {
+        sendAll(List.of(event));
+    }
+
+    @Override
+    public void sendAll(final List<?> events) {
+        final var futures = events.stream().map(this::publish).toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public Stats stats() {
+        final var batches = this.batches.get();
+        return new Stats(
+                this.queue.size(),
+                this.published.get(),
+                this.failed.get(),
+                batches,
+                Duration.ofNanos(this.lastConfirmNanos.get()),
+                Duration.ofNanos(this.maxConfirmNanos.get()),
+                Duration.ofNanos(batches > 0 ? this.confirmNanos.get() / batches : 0)
+        );
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("events.publisher.queue.depth", this.queue, BlockingQueue::size)
+                .tag("publisher", this.name)
+                .description("The events waiting to be published")
+                .register(registry);
+        FunctionCounter.builder("events.publisher.events", this.published, AtomicLong::get)
+                .tags("publisher", this.name, "result", "published")
+                .register(registry);
+        FunctionCounter.builder("events.publisher.events", this.failed, AtomicLong::get)
+                .tags("publisher", this.name, "result", "failed")
+                .register(registry);
+        FunctionTimer.builder("events.publisher.confirm", this, it -> it.batches.get(), it -> it.confirmNanos.get(), TimeUnit.NANOSECONDS)
+                .tag("publisher", this.name)
+                .description("How long the batches waited for the broker confirms")
+                .register(registry);
+        TimeGauge.builder("events.publisher.confirm.max", this.maxConfirmNanos, TimeUnit.NANOSECONDS, AtomicLong::get)
+                .tag("publisher", this.name)
+                .register(registry);
+    }
+
+    private void run() {
+        final var batch = new ArrayList<PendingEvent>(this.batchSize);
+        while (this.running || !this.queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(final List<PendingEvent> batch) throws InterruptedException {
+        final var first = this.queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        final var deadline = System.nanoTime() + this.lingerNanos;
+        while (batch.size() < this.batchSize) {
+            this.queue.drainTo(batch, this.batchSize - batch.size());
+            final var remaining = deadline - System.nanoTime();
+            if (batch.size() >= this.batchSize || remaining <= 0) {
+                return;
+            }
+            final var next = this.queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(final List<PendingEvent> batch) {
+        final var start = System.nanoTime();
+        Throwable error = null;
+        try {
+            this.delegate.sendAll(batch.stream().map(PendingEvent::event).toList());
+        } catch (final Throwable t) {
+            log.error("Could not publish a batch of {} events", batch.size(), t);
+            error = t;
+        }
+
+        // the stats are updated before the futures complete so callers see their own batch
+        final var elapsed = System.nanoTime() - start;
+        this.batches.incrementAndGet();
+        this.confirmNanos.addAndGet(elapsed);
+        this.lastConfirmNanos.set(elapsed);
+        this.maxConfirmNanos.accumulateAndGet(elapsed, Math::max);
+
+        if (error == null) {
+            this.published.addAndGet(batch.size());
+            batch.forEach(it -> it.future().complete(null));
+        } else {
+            final var cause = error;
+            this.failed.addAndGet(batch.size());
+            batch.forEach(it -> it.future().completeExceptionally(cause));
+        }
+    }
+
+    public record Stats(
+            int queueDepth,
+            long published,
+            long failed,
+            long batches,
+            Duration lastConfirmLatency,
+            Duration maxConfirmLatency,
+            Duration averageConfirmLatency
+    ) {
+    }
+
+    private record PendingEvent(Object event, CompletableFuture<Void> future) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.cache;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Tells the other instances that an aggregate was written. The version is the {@code updatedAt} of
+ * the write, in microseconds, or the instant of a delete: a cache keeps nothing older.
+ */
+public record CacheInvalidation(String node, String type, String id, long version) {
+
+    public static final String CATEGORY = "category";
+    public static final String GENRE = "genre";
+    public static final String CAST_MEMBER = "cast_member";
+    public static final String VIDEO = "video";
+
+    public static long versionOf(final Instant updatedAt) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt);
+    }
+}
@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.cache;
+
+import com.fullcycle.admin.catalogo.infrastructure.services.batch.BatchingEventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+/**
+ * Spreads the writes of the gateways to the in-process caches of the other instances. A write is
+ * published once its transaction committed, and each instance hands the writes of the others to
+ * the caches subscribed to their type. Publishing is best effort and off the request thread: the
+ * invalidations are queued to a {@link BatchingEventService} without waiting for room or for the
+ * broker, and a rejected or failed one is only logged, leaving the entry stale until it expires.
+ */
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final String node;
+    private final BatchingEventService publisher;
+    private final Map<String, List<Consumer<CacheInvalidation>>> subscribers;
+
+    /**
+     * @param publisher where the writes are published, or null to keep them local
+     */
+    public CacheInvalidationBus(final BatchingEventService publisher) {
+        this.node = UUID.randomUUID().toString();
+        this.publisher = publisher;
+        this.subscribers = new ConcurrentHashMap<>();
+    }
+
+    public void publish(final String type, final String id, final Instant updatedAt) {
+        publish(type, id, CacheInvalidation.versionOf(updatedAt));
+    }
+
+    public void publish(final String type, final String id, final long version) {
+        if (this.publisher == null) {
+            return;
+        }
+
+        final var anInvalidation = new CacheInvalidation(this.node, type, id, version);
+        afterCommit(() -> send(anInvalidation));
+    }
+
+    /**
+     * Whether the writes reach the other instances, and theirs reach this one.
+     */
+    public boolean isShared() {
+        return this.publisher != null;
+    }
+
+    public void subscribe(final String type, final Consumer<CacheInvalidation> subscriber) {
+        this.subscribers.computeIfAbsent(type, it -> new CopyOnWriteArrayList<>())
+                .add(Objects.requireNonNull(subscriber));
+    }
+
+    /**
+     * Hands an invalidation received from the broker to the subscribers of its type, unless this
+     * instance published it: its own caches were invalidated by the write itself.
+     */
+    public void receive(final CacheInvalidation anInvalidation) {
+        if (this.node.equals(anInvalidation.node())) {
+            return;
+        }
+
+        this.subscribers.getOrDefault(anInvalidation.type(), List.of())
+                .forEach(it -> it.accept(anInvalidation));
+    }
+
+    public String node() {
+        return node;
+    }
+
+    private void send(final CacheInvalidation anInvalidation) {
+        try {
+            this.publisher.publish(anInvalidation).whenComplete((ok, error) -> {
+                if (error != null) {
+                    log.warn("Could not publish the cache invalidation {}", anInvalidation, error);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Could not queue the cache invalidation {}", anInvalidation, e);
+        }
+    }
+}
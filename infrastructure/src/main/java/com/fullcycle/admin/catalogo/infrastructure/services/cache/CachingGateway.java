@@ -0,0 +1,104 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.cache;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serves {@code findById} of a gateway from a {@link GatewayCache}, invalidated by its own
+ * {@code create}, {@code update} and {@code deleteById}. Every other method, such as the listings,
+ * always reaches the gateway; {@code existsByIds} is answered there by the {@link ExistenceIndex}.
+ * The four methods are looked up on the gateway interface once, when the proxy is built, so a
+ * gateway without them fails at startup rather than going uncached.
+ */
+public class CachingGateway<ID extends Identifier, T extends AggregateRoot<ID>> implements MethodInterceptor {
+
+    private final GatewayCache<ID, T> cache;
+    private final Method findById;
+    private final Method create;
+    private final Method update;
+    private final Method deleteById;
+
+    private CachingGateway(
+            final Class<?> type,
+            final Class<ID> idType,
+            final Class<T> aggregateType,
+            final GatewayCache<ID, T> cache
+    ) {
+        this.cache = Objects.requireNonNull(cache);
+        this.findById = methodOf(type, "findById", idType);
+        this.create = methodOf(type, "create", aggregateType);
+        this.update = methodOf(type, "update", aggregateType);
+        this.deleteById = methodOf(type, "deleteById", idType);
+    }
+
+    /**
+     * A proxy of the given gateway interface, in front of the gateway.
+     */
+    public static <G, ID extends Identifier, T extends AggregateRoot<ID>> G of(
+            final Class<G> type,
+            final Class<ID> idType,
+            final Class<T> aggregateType,
+            final G gateway,
+            final GatewayCache<ID, T> cache
+    ) {
+        final var factory = new ProxyFactory();
+        factory.setTarget(Objects.requireNonNull(gateway));
+        factory.setInterfaces(type);
+        factory.addAdvice(new CachingGateway<>(type, idType, aggregateType, cache));
+        return type.cast(factory.getProxy(type.getClassLoader()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final var method = invocation.getMethod();
+        final var args = invocation.getArguments();
+
+        if (method.equals(this.findById)) {
+            return this.cache.get((ID) args[0], it -> (Optional<T>) proceed(invocation));
+        }
+        if (method.equals(this.create) || method.equals(this.update)) {
+            return proceedAndInvalidate(invocation, ((T) args[0]).getId());
+        }
+        if (method.equals(this.deleteById)) {
+            return proceedAndInvalidate(invocation, (ID) args[0]);
+        }
+        return invocation.proceed();
+    }
+
+    private Object proceedAndInvalidate(final MethodInvocation invocation, final ID anId) throws Throwable {
+        try {
+            return invocation.proceed();
+        } finally {
+            this.cache.invalidate(anId);
+        }
+    }
+
+    private static Object proceed(final MethodInvocation invocation) {
+        try {
+            return invocation.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    private static Method methodOf(final Class<?> type, final String name, final Class<?> parameterType) {
+        try {
+            return type.getMethod(name, parameterType);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(
+                    "%s has no %s(%s) to cache".formatted(type.getSimpleName(), name, parameterType.getSimpleName()), e
+            );
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.cache;
+
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.ResourceStream;
+import com.fullcycle.admin.catalogo.infrastructure.services.ResumableUpload;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Keeps hot, small payloads (the images of the videos) in heap buffers in front of another
+ * {@link StorageService}, bounded by their total size in bytes and evicted least recently used.
+ * Only the ids accepted by the admission rule are ever cached; writes and deletes invalidate.
+ * Evicted payloads are reclaimed by the garbage collector like any other array. Hits, misses,
+ * evictions and the bytes held are published as the {@code storage.images} cache meters.
+ */
+public class CachingStorageService implements StorageService, MeterBinder {
+
+    private static final String CACHE_NAME = "storage.images";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final StorageService delegate;
+    private final Predicate<String> admission;
+    private final long maxEntryBytes;
+    private final Cache<String, CachedResource> cache;
+    private final AtomicLong invalidations;
+
+    public CachingStorageService(
+            final StorageService delegate,
+            final long maxBytes,
+            final long maxEntryBytes,
+            final Predicate<String> admission
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.admission = Objects.requireNonNull(admission);
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxBytes);
+        this.invalidations = new AtomicLong();
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String id, CachedResource it) -> (int) Math.min(Integer.MAX_VALUE, it.length()))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Resource store(final String id, final Resource resource) {
+        try {
+            return this.delegate.store(id, resource);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public ResumableUpload startUpload(final String id, final String contentType, final String name) {
+        return this.delegate.startUpload(id, contentType, name);
+    }
+
+    @Override
+    public Optional<ResumableUpload> resumeUpload(
+            final String id,
+            final String contentType,
+            final String name,
+            final long committed,
+            final byte[] state
+    ) {
+        return this.delegate.resumeUpload(id, contentType, name, committed, state);
+    }
+
+    @Override
+    public Optional<Resource> get(final String id) {
+        if (!this.admission.test(id)) {
+            return this.delegate.get(id);
+        }
+
+        final var cached = this.cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached.resource());
+        }
+
+        // a write racing with the load must not leave the old payload behind
+        final var generation = this.invalidations.get();
+        return this.delegate.get(id).map(it -> {
+            if (it.length() > this.maxEntryBytes) {
+                return it;
+            }
+
+            final var loaded = CachedResource.from(it);
+            if (this.invalidations.get() == generation) {
+                this.cache.put(id, loaded);
+            }
+            return loaded.resource();
+        });
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        return this.delegate.list(prefix);
+    }
+
+    @Override
+    public void deleteAll(final List<String> ids) {
+        try {
+            this.delegate.deleteAll(ids);
+        } finally {
+            if (ids != null) {
+                ids.forEach(this::invalidate);
+            }
+        }
+    }
+
+    public Stats stats() {
+        final var stats = this.cache.stats();
+        final var bytes = this.cache.asMap().values().stream().mapToLong(CachedResource::length).sum();
+        return new Stats(stats.hitCount(), stats.missCount(), stats.evictionCount(), this.cache.size(), bytes);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, this.cache, CACHE_NAME);
+        Gauge.builder("cache.bytes", this, it -> it.stats().bytes())
+                .tag("cache", CACHE_NAME)
+                .description("The bytes of the cached payloads")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private void invalidate(final String id) {
+        this.invalidations.incrementAndGet();
+        this.cache.invalidate(id);
+    }
+
+    public record Stats(long hits, long misses, long evictions, long entries, long bytes) {
+    }
+
+    private record CachedResource(ByteBuffer content, String checksum, String contentType, String name) {
+
+        static CachedResource from(final Resource aResource) {
+            final var length = Math.toIntExact(aResource.length());
+            final var content = ByteBuffer.allocate(length);
+            try (final var in = aResource.openStream()) {
+                final var buffer = new byte[Math.max(1, Math.min(length, BUFFER_SIZE))];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    content.put(buffer, 0, Math.min(read, content.remaining()));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            content.flip();
+            return new CachedResource(content.asReadOnlyBuffer(), aResource.checksum(), aResource.contentType(), aResource.name());
+        }
+
+        long length() {
+            return content.limit();
+        }
+
+        Resource resource() {
+            return Resource.with(new BufferStream(content), length(), checksum, contentType, name);
+        }
+    }
+
+    private record BufferStream(ByteBuffer content) implements ResourceStream {
+
+        @Override
+        public InputStream open() {
+            return new BufferInputStream(content.duplicate());
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) {
+            final var view = content.duplicate();
+            view.position((int) Math.min(offset, view.limit()));
+            return new BufferInputStream(view);
+        }
+    }
+
+    private static class BufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private BufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final var count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
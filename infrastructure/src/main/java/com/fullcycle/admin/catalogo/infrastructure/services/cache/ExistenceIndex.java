@@ -0,0 +1,260 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.cache;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import org.hibernate.jpa.QueryHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+/**
+ * Answers whether referenced ids exist without a round trip, from the ids of each indexed entity
+ * held in memory. An id in the set exists. An id the Bloom filter never saw does not, and is left
+ * out without a query. Only the ids it may have seen but the set lacks, deleted or written by
+ * another instance since the load, are looked up in the database, and those found are known to
+ * exist again. The ids are loaded by streaming the tables once the context is refreshed and kept
+ * up to date by the gateways after each commit; until loaded, every id is looked up.
+ * <p>
+ * The filter learns the ids created on the other instances from their cache invalidations only.
+ * Until the invalidation of such an id arrives, a delay of the broker round trip, the id is taken
+ * as missing here; if the invalidation is lost, as a rejected or failed publish is, it stays so
+ * until the next {@link #rebuild()} or restart. Without the shared invalidations no filter is
+ * kept ({@code expectedIds} of 0), and every id the set lacks is looked up.
+ */
+public class ExistenceIndex implements ApplicationListener<ContextRefreshedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(ExistenceIndex.class);
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<Class<?>> entities;
+    private final long expectedIds;
+    private final double falsePositiveRate;
+    private final int fetchSize;
+    private volatile Map<Class<?>, Ids> indexes;
+    private volatile boolean ready;
+
+    public ExistenceIndex(
+            final EntityManager entityManager,
+            final PlatformTransactionManager transactionManager,
+            final Set<Class<?>> entities,
+            final long expectedIds,
+            final double falsePositiveRate,
+            final int fetchSize
+    ) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.transactionTemplate.setReadOnly(true);
+        this.entities = Set.copyOf(entities);
+        this.expectedIds = expectedIds;
+        this.falsePositiveRate = falsePositiveRate;
+        this.fetchSize = fetchSize;
+        this.indexes = newIndexes();
+    }
+
+    /**
+     * The given ids that exist, in the order given. Only the ids the index is not sure about are
+     * passed to the loader, all at once.
+     */
+    public <ID> List<ID> existing(
+            final Class<?> type,
+            final Iterable<ID> ids,
+            final Function<ID, String> value,
+            final Function<List<ID>, List<ID>> loader
+    ) {
+        final var index = this.indexes.get(type);
+        final var given = new ArrayList<ID>();
+        ids.forEach(given::add);
+
+        if (!this.ready || index == null) {
+            return given.isEmpty() ? List.of() : loader.apply(given);
+        }
+
+        final var unknown = given.stream()
+                .filter(it -> !index.exists(value.apply(it)) && index.mightExist(value.apply(it)))
+                .toList();
+
+        if (unknown.isEmpty()) {
+            return given.stream().filter(it -> index.exists(value.apply(it))).toList();
+        }
+
+        // a delete racing with the lookup must not leave the id known to exist
+        final var generation = index.removals();
+        final var found = Set.copyOf(loader.apply(unknown));
+        if (index.removals() == generation) {
+            found.forEach(it -> index.add(value.apply(it)));
+        }
+        return given.stream()
+                .filter(it -> found.contains(it) || index.exists(value.apply(it)))
+                .toList();
+    }
+
+    public void add(final Class<?> type, final String id) {
+        afterCommit(() -> {
+            final var index = this.indexes.get(type);
+            if (index != null) {
+                index.add(id);
+            }
+        });
+    }
+
+    public void remove(final Class<?> type, final String id) {
+        afterCommit(() -> {
+            final var index = this.indexes.get(type);
+            if (index != null) {
+                index.remove(id);
+            }
+        });
+    }
+
+    /**
+     * Forgets whether an id exists, without ruling it out: it was written by another instance,
+     * created there maybe, and is looked up in the database until found again.
+     */
+    public void forget(final Class<?> type, final String id) {
+        final var index = this.indexes.get(type);
+        if (index != null) {
+            index.remove(id);
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(final ContextRefreshedEvent event) {
+        if (this.ready || this.entities.isEmpty()) {
+            return;
+        }
+
+        final var loader = new Thread(this::rebuild, "existence-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Reloads every index from its table. Every id is looked up in the database meanwhile.
+     */
+    public synchronized void rebuild() {
+        this.ready = false;
+        this.indexes = newIndexes();
+        try {
+            this.indexes.forEach(this::load);
+            this.ready = true;
+        } catch (RuntimeException e) {
+            log.error("Failed to load the existence indexes, looking the ids up instead", e);
+        }
+    }
+
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    private void load(final Class<?> type, final Ids index) {
+        final var entityName = this.entityManager.getMetamodel().entity(type).getName();
+        final var select = "select e.id from %s e".formatted(entityName);
+
+        this.transactionTemplate.executeWithoutResult(status -> {
+            try (final var rows = this.entityManager.createQuery(select, String.class)
+                    .setHint(QueryHints.HINT_FETCH_SIZE, this.fetchSize)
+                    .getResultStream()) {
+                rows.forEach(index::load);
+            }
+        });
+        index.endLoad();
+
+        log.info("Loaded {} {} ids into the existence index", index.size(), entityName);
+    }
+
+    private Map<Class<?>, Ids> newIndexes() {
+        return this.entities.stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        Function.identity(),
+                        it -> new Ids(this.expectedIds, this.falsePositiveRate)
+                ));
+    }
+
+    /**
+     * The ids known to exist, and every id ever seen. Taking an id out of the set leaves it in the
+     * filter, so it is looked up instead of ruled out. The ids taken out during the load are kept
+     * aside, as the load may have read them before.
+     */
+    private static final class Ids {
+
+        private final Set<String> ids;
+        private final BloomFilter<String> seen;
+        private final Set<String> removedWhileLoading;
+        private final AtomicLong removals;
+        private volatile boolean loading;
+
+        private Ids(final long expectedIds, final double falsePositiveRate) {
+            this.ids = ConcurrentHashMap.newKeySet();
+            this.seen = expectedIds > 0
+                    ? BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedIds, falsePositiveRate)
+                    : null;
+            this.removedWhileLoading = ConcurrentHashMap.newKeySet();
+            this.removals = new AtomicLong();
+            this.loading = true;
+        }
+
+        boolean exists(final String id) {
+            return this.ids.contains(id);
+        }
+
+        boolean mightExist(final String id) {
+            return this.seen == null || this.seen.mightContain(id);
+        }
+
+        long removals() {
+            return this.removals.get();
+        }
+
+        long size() {
+            return this.ids.size();
+        }
+
+        void add(final String id) {
+            see(id);
+            this.ids.add(id);
+        }
+
+        void load(final String id) {
+            add(id);
+        }
+
+        void endLoad() {
+            this.loading = false;
+            this.ids.removeAll(this.removedWhileLoading);
+            this.removedWhileLoading.clear();
+        }
+
+        void remove(final String id) {
+            this.removals.incrementAndGet();
+            see(id);
+            this.ids.remove(id);
+            if (this.loading) {
+                this.removedWhileLoading.add(id);
+            }
+        }
+
+        private void see(final String id) {
+            if (this.seen != null) {
+                this.seen.put(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Read-through cache of the aggregates of a gateway by id, bounded in entries and expired after a
+ * while. Misses are cached too, so an id that does not exist is not looked up again until it is
+ * invalidated. Aggregates are mutable, so each one is copied in and out.
+ * <p>
+ * Invalidations coming from other instances carry the version of the write, and the highest one
+ * seen for an id is kept as long as the entries: an aggregate loaded older than that is not
+ * cached, and an invalidation older than the cached aggregate leaves it there.
+ */
+public class GatewayCache<ID, T> {
+
+    private final UnaryOperator<T> copy;
+    private final ToLongFunction<T> version;
+    private final Cache<ID, Optional<T>> aggregates;
+    private final Cache<ID, Long> floors;
+    private final AtomicLong invalidations;
+
+    public GatewayCache(
+            final Duration ttl,
+            final long maxEntries,
+            final UnaryOperator<T> copy,
+            final ToLongFunction<T> version
+    ) {
+        this.copy = Objects.requireNonNull(copy);
+        this.version = Objects.requireNonNull(version);
+        this.invalidations = new AtomicLong();
+        this.floors = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .build();
+        this.aggregates = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<T> get(final ID anId, final Function<ID, Optional<T>> loader) {
+        final var cached = this.aggregates.getIfPresent(anId);
+        if (cached != null) {
+            return cached.map(this.copy);
+        }
+
+        // a write racing with the load must not leave the old aggregate behind
+        final var generation = this.invalidations.get();
+        final var loaded = loader.apply(anId);
+        if (this.invalidations.get() == generation && !olderThanFloor(anId, loaded)) {
+            this.aggregates.put(anId, loaded.map(this.copy));
+        }
+        return loaded;
+    }
+
+    public void invalidate(final ID anId) {
+        this.invalidations.incrementAndGet();
+        this.aggregates.invalidate(anId);
+    }
+
+    /**
+     * Invalidates an id for a write of the given version, unless the aggregate cached is already
+     * as recent: invalidations are not delivered in order.
+     */
+    public void invalidate(final ID anId, final long aVersion) {
+        this.floors.asMap().merge(anId, aVersion, Math::max);
+
+        final var cached = this.aggregates.getIfPresent(anId);
+        if (cached != null && cached.isPresent() && this.version.applyAsLong(cached.get()) >= aVersion) {
+            return;
+        }
+        invalidate(anId);
+    }
+
+    public void invalidateAll() {
+        this.invalidations.incrementAndGet();
+        this.aggregates.invalidateAll();
+    }
+
+    public Stats stats() {
+        final var stats = this.aggregates.stats();
+        return new Stats(stats.hitCount(), stats.missCount(), stats.hitRate(), this.aggregates.size());
+    }
+
+    /**
+     * Publishes the standard cache meters (gets by result, evictions, size) under the given name.
+     */
+    public void bindTo(final MeterRegistry registry, final String name) {
+        GuavaCacheMetrics.monitor(registry, this.aggregates, name);
+    }
+
+    private boolean olderThanFloor(final ID anId, final Optional<T> loaded) {
+        final var floor = this.floors.getIfPresent(anId);
+        if (floor == null) {
+            return false;
+        }
+        // a miss says nothing of its version, so only a present aggregate can be checked
+        return loaded.isEmpty() || this.version.applyAsLong(loaded.get()) < floor;
+    }
+
+    public record Stats(long hits, long misses, double hitRatio, long entries) {
+    }
+}
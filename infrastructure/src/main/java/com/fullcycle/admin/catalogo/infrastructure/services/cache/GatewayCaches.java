@@ -0,0 +1,64 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.cache;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Builds the {@link GatewayCache} of each cached gateway: evicted of what the other instances
+ * write through the {@link CacheInvalidationBus}, and published as the {@code gateways.<type>}
+ * cache meters.
+ */
+public class GatewayCaches {
+
+    private final Duration ttl;
+    private final long maxEntries;
+    private final CacheInvalidationBus invalidations;
+    private final MeterRegistry registry;
+
+    /**
+     * @param registry where the meters of the caches are published, or null to skip them
+     */
+    public GatewayCaches(
+            final Duration ttl,
+            final long maxEntries,
+            final CacheInvalidationBus invalidations,
+            final MeterRegistry registry
+    ) {
+        this.ttl = Objects.requireNonNull(ttl);
+        this.maxEntries = maxEntries;
+        this.invalidations = Objects.requireNonNull(invalidations);
+        this.registry = registry;
+    }
+
+    /**
+     * @param type the {@link CacheInvalidation} type of the aggregate
+     * @param id parses the ids the invalidations carry
+     * @param copy copies an aggregate in and out of the cache
+     * @param updatedAt the version of an aggregate
+     */
+    public <ID extends Identifier, T extends AggregateRoot<ID>> GatewayCache<ID, T> create(
+            final String type,
+            final Function<String, ID> id,
+            final UnaryOperator<T> copy,
+            final Function<T, Instant> updatedAt
+    ) {
+        final var cache = new GatewayCache<ID, T>(
+                this.ttl,
+                this.maxEntries,
+                copy,
+                it -> CacheInvalidation.versionOf(updatedAt.apply(it))
+        );
+        this.invalidations.subscribe(type, it -> cache.invalidate(id.apply(it.id()), it.version()));
+        if (this.registry != null) {
+            cache.bindTo(this.registry, "gateways." + type);
+        }
+        return cache;
+    }
+}
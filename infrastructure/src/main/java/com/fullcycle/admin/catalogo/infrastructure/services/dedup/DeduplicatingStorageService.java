@@ -0,0 +1,215 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.dedup;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.services.ResumableUpload;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.dedup.persistence.MediaBlobJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.services.dedup.persistence.MediaBlobReferenceJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.services.dedup.persistence.MediaBlobReferenceRepository;
+import com.fullcycle.admin.catalogo.infrastructure.services.dedup.persistence.MediaBlobRepository;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Content-addressed layer over another {@link StorageService}: every unique payload is stored once
+ * under {@code blobs/{checksum}-{length}} and the ids used by the gateways are references to it,
+ * counted in MySQL. A reference is taken in the same transaction that locks the blob row, so it
+ * never points to a payload being swept. Deleting an id only releases its reference; the payloads
+ * nobody references any longer are deleted later by {@link #sweep()}.
+ */
+public class DeduplicatingStorageService implements StorageService {
+
+    private static final Logger log = LoggerFactory.getLogger(DeduplicatingStorageService.class);
+
+    private static final String BLOBS = "blobs/";
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final StorageService delegate;
+    private final MediaBlobRepository blobRepository;
+    private final MediaBlobReferenceRepository referenceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService sweeper;
+
+    public DeduplicatingStorageService(
+            final StorageService delegate,
+            final MediaBlobRepository blobRepository,
+            final MediaBlobReferenceRepository referenceRepository,
+            final PlatformTransactionManager transactionManager
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.blobRepository = Objects.requireNonNull(blobRepository);
+        this.referenceRepository = Objects.requireNonNull(referenceRepository);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+    }
+
+    /**
+     * Sweeps the unreferenced payloads every interval, on a daemon thread.
+     */
+    public synchronized DeduplicatingStorageService startSweeping(final Duration interval) {
+        if (this.sweeper == null) {
+            this.sweeper = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("media-blob-sweeper-%d").setDaemon(true).build()
+            );
+            this.sweeper.scheduleWithFixedDelay(this::sweepQuietly, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    @Override
+    public Resource store(final String id, final Resource resource) {
+        if (resource.hasChecksum()) {
+            referenceOnce(id, resource);
+            return resource;
+        }
+
+        // the checksum is only known after the bytes went through, so the payload is staged first
+        final var staging = BLOBS + "staging-" + IdUtils.uuid();
+        try {
+            final var staged = this.delegate.store(staging, resource);
+            final var payload = this.delegate.get(staging).orElse(staged);
+            final var key = referenceOnce(id, Resource.with(payload.stream(), staged.length(), staged.checksum(), staged.contentType(), staged.name()));
+            return this.delegate.get(key)
+                    .map(blob -> Resource.with(blob.stream(), blob.length(), blob.checksum(), staged.contentType(), staged.name()))
+                    .orElseThrow(() -> InternalErrorException.with("Blob %s of %s is missing".formatted(key, id), null));
+        } finally {
+            this.delegate.deleteAll(List.of(staging));
+        }
+    }
+
+    @Override
+    public ResumableUpload startUpload(final String id, final String contentType, final String name) {
+        return this.delegate.startUpload(id, contentType, name);
+    }
+
+    @Override
+    public Optional<ResumableUpload> resumeUpload(
+            final String id,
+            final String contentType,
+            final String name,
+            final long committed,
+            final byte[] state
+    ) {
+        return this.delegate.resumeUpload(id, contentType, name, committed, state);
+    }
+
+    @Override
+    public Optional<Resource> get(final String id) {
+        return this.referenceRepository.findById(id)
+                .flatMap(ref -> this.delegate.get(ref.getBlobKey())
+                        .map(blob -> Resource.with(blob.stream(), blob.length(), blob.checksum(), ref.getContentType(), ref.getName())));
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        return this.referenceRepository.findAllByIdStartingWith(prefix).stream()
+                .map(MediaBlobReferenceJpaEntity::getId)
+                .toList();
+    }
+
+    @Override
+    public void deleteAll(final List<String> ids) {
+        if (ids == null || ids.isEmpty())
+            return;
+
+        this.transactionTemplate.executeWithoutResult(status -> {
+            final var references = this.referenceRepository.findAllById(ids);
+            this.referenceRepository.deleteAll(references);
+            references.forEach(ref -> this.blobRepository.release(ref.getBlobKey()));
+        });
+    }
+
+    /**
+     * Deletes the payloads nobody references, each with its row locked so no store can take a
+     * reference to it meanwhile.
+     *
+     * @return how many payloads were deleted
+     */
+    public int sweep() {
+        var swept = 0;
+        List<String> keys;
+        do {
+            keys = this.blobRepository.findUnreferenced(PageRequest.ofSize(SWEEP_BATCH_SIZE));
+            for (final var key : keys) {
+                if (Boolean.TRUE.equals(this.transactionTemplate.execute(status -> sweep(key)))) {
+                    swept++;
+                }
+            }
+        } while (keys.size() == SWEEP_BATCH_SIZE);
+        return swept;
+    }
+
+    private String referenceOnce(final String id, final Resource payload) {
+        try {
+            return this.transactionTemplate.execute(status -> reference(id, payload));
+        } catch (DataIntegrityViolationException e) {
+            // the same payload was registered concurrently, its row is now there to be locked
+            return this.transactionTemplate.execute(status -> reference(id, payload));
+        }
+    }
+
+    /**
+     * Points the id to the blob of the payload, writing the payload only when nobody references
+     * it: a blob left unreferenced may have lost its payload to a sweep that failed to commit.
+     */
+    private String reference(final String id, final Resource payload) {
+        final var key = keyOf(payload);
+        final var blob = this.blobRepository.findForUpdate(key);
+
+        if (blob.isPresent() && blob.get().getRefCount() > 0) {
+            blob.get().setRefCount(blob.get().getRefCount() + 1);
+        } else {
+            // the new row is flushed first, so it is locked while its payload is written
+            this.blobRepository.saveAndFlush(blob.map(it -> it.setRefCount(1))
+                    .orElseGet(() -> MediaBlobJpaEntity.with(key, payload.checksum(), payload.length())));
+            this.delegate.store(key, payload);
+        }
+
+        final var previousKey = this.referenceRepository.findById(id).map(MediaBlobReferenceJpaEntity::getBlobKey);
+        this.referenceRepository.save(MediaBlobReferenceJpaEntity.with(id, key, payload.name(), payload.contentType()));
+        previousKey.ifPresent(this.blobRepository::release);
+        return key;
+    }
+
+    private boolean sweep(final String key) {
+        final var blob = this.blobRepository.findForUpdate(key).filter(it -> it.getRefCount() == 0);
+        if (blob.isEmpty()) {
+            return false;
+        }
+
+        // the row goes first, so a payload that fails to be deleted is kept along with it
+        this.blobRepository.delete(blob.get());
+        this.blobRepository.flush();
+        this.delegate.deleteAll(List.of(key));
+        return true;
+    }
+
+    private void sweepQuietly() {
+        try {
+            final var swept = sweep();
+            if (swept > 0) {
+                log.info("Swept {} unreferenced media blobs", swept);
+            }
+        } catch (final Throwable t) {
+            log.error("Could not sweep the unreferenced media blobs", t);
+        }
+    }
+
+    private static String keyOf(final Resource resource) {
+        return BLOBS + resource.checksum() + "-" + resource.length();
+    }
+}
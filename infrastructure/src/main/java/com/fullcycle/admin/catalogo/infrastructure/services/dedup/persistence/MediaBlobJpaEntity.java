@@ -0,0 +1,94 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.dedup.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity(name = "MediaBlob")
+@Table(name = "media_blobs")
+public class MediaBlobJpaEntity {
+
+    @Id
+    @Column(name = "blob_key", nullable = false)
+    private String key;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    @Column(name = "content_length", nullable = false)
+    private long length;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public MediaBlobJpaEntity() {
+    }
+
+    private MediaBlobJpaEntity(
+            final String key,
+            final String checksum,
+            final long length,
+            final int refCount,
+            final Instant createdAt
+    ) {
+        this.key = key;
+        this.checksum = checksum;
+        this.length = length;
+        this.refCount = refCount;
+        this.createdAt = createdAt;
+    }
+
+    public static MediaBlobJpaEntity with(final String key, final String checksum, final long length) {
+        return new MediaBlobJpaEntity(key, checksum, length, 1, Instant.now());
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public MediaBlobJpaEntity setKey(String key) {
+        this.key = key;
+        return this;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public MediaBlobJpaEntity setChecksum(String checksum) {
+        this.checksum = checksum;
+        return this;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    public MediaBlobJpaEntity setLength(long length) {
+        this.length = length;
+        return this;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+
+    public MediaBlobJpaEntity setRefCount(int refCount) {
+        this.refCount = refCount;
+        return this;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public MediaBlobJpaEntity setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+}
@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.dedup.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Entity(name = "MediaBlobReference")
+@Table(name = "media_blob_references")
+public class MediaBlobReferenceJpaEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "blob_key", nullable = false)
+    private String blobKey;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    public MediaBlobReferenceJpaEntity() {
+    }
+
+    private MediaBlobReferenceJpaEntity(
+            final String id,
+            final String blobKey,
+            final String name,
+            final String contentType
+    ) {
+        this.id = id;
+        this.blobKey = blobKey;
+        this.name = name;
+        this.contentType = contentType;
+    }
+
+    public static MediaBlobReferenceJpaEntity with(
+            final String id,
+            final String blobKey,
+            final String name,
+            final String contentType
+    ) {
+        return new MediaBlobReferenceJpaEntity(id, blobKey, name, contentType);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public MediaBlobReferenceJpaEntity setId(String id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getBlobKey() {
+        return blobKey;
+    }
+
+    public MediaBlobReferenceJpaEntity setBlobKey(String blobKey) {
+        this.blobKey = blobKey;
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public MediaBlobReferenceJpaEntity setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public MediaBlobReferenceJpaEntity setContentType(String contentType) {
+        this.contentType = contentType;
+        return this;
+    }
+}
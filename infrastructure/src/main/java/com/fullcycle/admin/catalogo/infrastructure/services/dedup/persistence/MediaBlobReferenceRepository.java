@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.dedup.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface MediaBlobReferenceRepository extends JpaRepository<MediaBlobReferenceJpaEntity, String> {
+
+    List<MediaBlobReferenceJpaEntity> findAllByIdStartingWith(String prefix);
+}
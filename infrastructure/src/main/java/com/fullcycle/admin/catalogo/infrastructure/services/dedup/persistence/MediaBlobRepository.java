@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.dedup.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+
+public interface MediaBlobRepository extends JpaRepository<MediaBlobJpaEntity, String> {
+
+    /**
+     * The blob, locked until the transaction ends so its count and its payload change together:
+     * a store referencing it and a sweep deleting it wait for each other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from MediaBlob b where b.key = :key")
+    Optional<MediaBlobJpaEntity> findForUpdate(@Param("key") String key);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update MediaBlob b set b.refCount = b.refCount - 1 where b.key = :key and b.refCount > 0")
+    int release(@Param("key") String key);
+
+    @Query("select b.key from MediaBlob b where b.refCount = 0")
+    List<String> findUnreferenced(Pageable page);
+}
@@ -1,17 +1,37 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 
 import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.ResourceStream;
+import com.fullcycle.admin.catalogo.infrastructure.services.ResumableUpload;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
+import java.util.zip.Checksum;
 
 public class GCStorageService implements StorageService {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // bounds what an upload buffers, and so captures, between two requests to GCS
+    private static final int UPLOAD_CHUNK_SIZE = 2 * 1024 * 1024;
+
     private final String bucket;
     private final Storage storage;
 
@@ -21,20 +41,65 @@ public class GCStorageService implements StorageService {
     }
 
     @Override
-    public void store(final String id, final Resource resource) {
+    public Resource store(final String id, final Resource resource) {
+        final var info = BlobInfo.newBuilder(this.bucket, id)
+                .setContentType(resource.contentType());
+
+        if (resource.stream() instanceof BlobStream source && source.isFrom(this.storage) && resource.hasChecksum()) {
+            this.storage.copy(Storage.CopyRequest.of(source.blobId, info.build())).getResult();
+            return resource;
+        }
+
+        if (resource.hasChecksum()) {
+            info.setCrc32cFromHexString(resource.checksum());
+        }
+
+        try (final var in = HashingUtils.checksumOf(resource.openStream())) {
+            this.storage.createFrom(info.build(), in);
+            return resource.hasChecksum() ? resource : resource.withChecksum(HashingUtils.checksum(in.hash()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ResumableUpload startUpload(final String id, final String contentType, final String name) {
         final var info = BlobInfo.newBuilder(this.bucket, id)
-                .setContentType(resource.contentType())
-                .setCrc32cFromHexString(resource.checksum())
+                .setContentType(contentType)
                 .build();
 
-        this.storage.create(info, resource.content());
+        final var channel = this.storage.writer(info);
+        channel.setChunkSize(UPLOAD_CHUNK_SIZE);
+        return new BlobUpload(info, name, channel, 0, HashingUtils.runningChecksum());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<ResumableUpload> resumeUpload(
+            final String id,
+            final String contentType,
+            final String name,
+            final long committed,
+            final byte[] state
+    ) {
+        final var info = BlobInfo.newBuilder(this.bucket, id)
+                .setContentType(contentType)
+                .build();
+
+        try (final var in = new ObjectInputStream(new ByteArrayInputStream(state))) {
+            final var channel = ((RestorableState<WriteChannel>) in.readObject()).restore();
+            return Optional.of(new BlobUpload(info, name, channel, committed, null));
+        } catch (IOException | ClassNotFoundException e) {
+            return Optional.empty();
+        }
     }
 
     @Override
     public Optional<Resource> get(final String id) {
         return Optional.ofNullable(this.storage.get(this.bucket, id))
                 .map(blob -> Resource.with(
-                        blob.getContent(),
+                        reader(blob.getBlobId()),
+                        blob.getSize(),
                         blob.getCrc32cToHexString(),
                         blob.getContentType(),
                         blob.getName()
@@ -62,4 +127,139 @@ public class GCStorageService implements StorageService {
 
         this.storage.delete(blobs);
     }
+
+    private ResourceStream reader(final BlobId blobId) {
+        return new BlobStream(blobId);
+    }
+
+    private class BlobStream implements ResourceStream {
+
+        private final BlobId blobId;
+
+        private BlobStream(final BlobId blobId) {
+            this.blobId = blobId;
+        }
+
+        private boolean isFrom(final Storage aStorage) {
+            return storage == aStorage;
+        }
+
+        @Override
+        public InputStream open() {
+            return Channels.newInputStream(storage.reader(blobId));
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            final var channel = storage.reader(blobId);
+            channel.seek(offset);
+            channel.limit(offset + length);
+            return Channels.newInputStream(channel);
+        }
+    }
+
+    /**
+     * Appends to a GCS resumable upload session; the object only becomes visible once the
+     * channel is closed in {@link #complete()}. A restored upload has no running checksum, so it
+     * takes the one GCS computed.
+     */
+    private class BlobUpload implements ResumableUpload {
+
+        private final BlobInfo info;
+        private final String name;
+        private final WriteChannel channel;
+        private final Checksum hasher;
+        private long committed;
+        private Resource completed;
+
+        private BlobUpload(
+                final BlobInfo info,
+                final String name,
+                final WriteChannel channel,
+                final long committed,
+                final Checksum hasher
+        ) {
+            this.info = info;
+            this.name = name;
+            this.channel = channel;
+            this.committed = committed;
+            this.hasher = hasher;
+        }
+
+        @Override
+        public String id() {
+            return info.getName();
+        }
+
+        @Override
+        public synchronized long committed() {
+            return committed;
+        }
+
+        @Override
+        public synchronized long append(final InputStream chunk) {
+            if (completed != null) {
+                throw new IllegalStateException("Upload %s was already completed".formatted(id()));
+            }
+
+            final var buffer = new byte[BUFFER_SIZE];
+            try {
+                int read;
+                while ((read = chunk.read(buffer)) != -1) {
+                    final var src = ByteBuffer.wrap(buffer, 0, read);
+                    while (src.hasRemaining()) {
+                        channel.write(src);
+                    }
+                    if (hasher != null) {
+                        hasher.update(buffer, 0, read);
+                    }
+                    committed += read;
+                }
+                return committed;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public synchronized Resource complete() {
+            if (completed == null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                final var checksum = checksum()
+                        .orElseGet(() -> storage.get(info.getBlobId()).getCrc32cToHexString());
+                completed = Resource.with(reader(info.getBlobId()), committed, checksum, info.getContentType(), name);
+            }
+            return completed;
+        }
+
+        @Override
+        public synchronized Optional<String> checksum() {
+            return Optional.ofNullable(hasher).map(HashingUtils::checksum);
+        }
+
+        @Override
+        public synchronized Optional<byte[]> capture() {
+            if (completed != null) {
+                return Optional.empty();
+            }
+
+            final var state = new ByteArrayOutputStream();
+            try (final var out = new ObjectOutputStream(state)) {
+                out.writeObject(channel.capture());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return Optional.of(state.toByteArray());
+        }
+
+        @Override
+        public synchronized void discard() {
+            // an unfinished session holds nothing visible, but another instance may have completed it
+            storage.delete(info.getBlobId());
+        }
+    }
 }
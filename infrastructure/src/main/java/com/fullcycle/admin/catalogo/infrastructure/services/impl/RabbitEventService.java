@@ -4,6 +4,8 @@ import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
 import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 
 public class RabbitEventService implements EventService {
@@ -11,19 +13,35 @@ public class RabbitEventService implements EventService {
     private final String exchange;
     private final String routingKey;
     private final RabbitOperations ops;
+    private final Duration confirmTimeout;
 
     public RabbitEventService(
             final String exchange,
             final String routingKey,
-            final RabbitOperations ops
+            final RabbitOperations ops,
+            final Duration confirmTimeout
     ) {
         this.exchange = Objects.requireNonNull(exchange);
         this.routingKey = Objects.requireNonNull(routingKey);
         this.ops = Objects.requireNonNull(ops);
+        this.confirmTimeout = Objects.requireNonNull(confirmTimeout);
     }
 
     @Override
     public void send(final Object event) {
         this.ops.convertAndSend(this.exchange, this.routingKey, Json.writeValueAsString(event));
     }
+
+    /**
+     * Publishes the events on a single channel and waits for the publisher confirms of all of them,
+     * failing if any was nacked or the broker did not answer in time.
+     */
+    @Override
+    public void sendAll(final List<?> events) {
+        this.ops.invoke(it -> {
+            events.forEach(event -> it.convertAndSend(this.exchange, this.routingKey, Json.writeValueAsString(event)));
+            it.waitForConfirmsOrDie(this.confirmTimeout.toMillis());
+            return null;
+        });
+    }
 }
@@ -0,0 +1,424 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.local;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.ResourceStream;
+import com.fullcycle.admin.catalogo.infrastructure.services.ResumableUpload;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.zip.Checksum;
+
+/**
+ * Stores every object as a file under the root directory, using the object id as its relative
+ * path, so the layout follows the location pattern (e.g. {@code videoId-123/type-VIDEO}).
+ * Content type, name and checksum live in a hidden {@code .<file>.meta} file next to it.
+ * Writes go to a hidden temporary file that is atomically renamed into place. A file without
+ * metadata is not served, so a write drops the previous metadata, moves the data into place and
+ * only then writes its metadata, and a delete removes the data before the metadata: a reader or a
+ * crash in between never pairs metadata with other or missing bytes.
+ */
+public class FileSystemStorageService implements StorageService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String CHECKSUM = "checksum";
+    private static final String CONTENT_TYPE = "contentType";
+    private static final String NAME = "name";
+
+    private final Path root;
+
+    public FileSystemStorageService(final Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Resource store(final String id, final Resource resource) {
+        final var target = resolve(id);
+
+        try {
+            Files.createDirectories(target.getParent());
+            final var tmp = temporaryOf(target);
+
+            try (final var out = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                final var stored = resource.stream() instanceof FileStream source
+                        ? copy(source, out, target, resource)
+                        : write(resource, out, target);
+
+                out.force(true);
+                Files.deleteIfExists(metadataOf(target));
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                writeMetadata(target, stored);
+                return stored;
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ResumableUpload startUpload(final String id, final String contentType, final String name) {
+        final var target = resolve(id);
+        try {
+            Files.createDirectories(target.getParent());
+            return new FileUpload(target, temporaryOf(target), contentType, name, 0, HashingUtils.runningChecksum());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Picks the temporary file of the upload back up, cut to the committed offset, and hashes
+     * what it already holds.
+     */
+    @Override
+    public Optional<ResumableUpload> resumeUpload(
+            final String id,
+            final String contentType,
+            final String name,
+            final long committed,
+            final byte[] state
+    ) {
+        final var target = resolve(id);
+        final var tmp = target.resolveSibling(new String(state, StandardCharsets.UTF_8)).normalize();
+        final var prefix = ".%s.".formatted(target.getFileName());
+        if (!tmp.getParent().equals(target.getParent()) || !tmp.getFileName().toString().startsWith(prefix)) {
+            return Optional.empty();
+        }
+
+        try (final var channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            if (channel.size() < committed) {
+                return Optional.empty();
+            }
+            channel.truncate(committed);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final var hasher = HashingUtils.runningChecksum();
+        try (final var in = Files.newInputStream(tmp)) {
+            final var buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                hasher.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return Optional.of(new FileUpload(target, tmp, contentType, name, committed, hasher));
+    }
+
+    @Override
+    public Optional<Resource> get(final String id) {
+        final var file = resolve(id);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try {
+            final var metadata = readMetadata(file);
+            return Optional.of(Resource.with(
+                    new FileStream(file),
+                    Files.size(file),
+                    metadata.getProperty(CHECKSUM),
+                    metadata.getProperty(CONTENT_TYPE),
+                    metadata.getProperty(NAME)
+            ));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        final var slash = prefix.lastIndexOf('/');
+        final var folder = slash < 0 ? this.root : resolve(prefix.substring(0, slash));
+
+        if (!Files.isDirectory(folder)) {
+            return List.of();
+        }
+
+        try (final var files = Files.walk(folder)) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .filter(it -> !it.getFileName().toString().startsWith("."))
+                    .map(this::idOf)
+                    .filter(it -> it.startsWith(prefix))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void deleteAll(final List<String> ids) {
+        if (ids == null || ids.isEmpty())
+            return;
+
+        try {
+            for (final var id : ids) {
+                final var file = resolve(id);
+                Files.deleteIfExists(file);
+                Files.deleteIfExists(metadataOf(file));
+                deleteEmptyParents(file.getParent());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Resource write(final Resource resource, final FileChannel out, final Path target) throws IOException {
+        try (final var in = HashingUtils.checksumOf(resource.openStream())) {
+            final var src = Channels.newChannel(in);
+            long position = 0;
+            long transferred;
+            while ((transferred = out.transferFrom(src, position, BUFFER_SIZE)) > 0) {
+                position += transferred;
+            }
+
+            final var checksum = resource.hasChecksum() ? resource.checksum() : HashingUtils.checksum(in.hash());
+            return Resource.with(new FileStream(target), position, checksum, resource.contentType(), resource.name());
+        }
+    }
+
+    /**
+     * Files already in this storage are copied channel to channel, letting the kernel move the
+     * bytes without them ever reaching the heap.
+     */
+    private Resource copy(final FileStream source, final FileChannel out, final Path target, final Resource resource) throws IOException {
+        try (final var in = FileChannel.open(source.file, StandardOpenOption.READ)) {
+            final var size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+
+            final var checksum = resource.hasChecksum() ? resource.checksum() : checksumOf(in);
+            return Resource.with(new FileStream(target), size, checksum, resource.contentType(), resource.name());
+        }
+    }
+
+    private String checksumOf(final FileChannel in) throws IOException {
+        final var hasher = HashingUtils.checksumHasher();
+        final var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        in.position(0);
+        while (in.read(buffer) != -1) {
+            buffer.flip();
+            hasher.putBytes(buffer);
+            buffer.clear();
+        }
+        return HashingUtils.checksum(hasher.hash());
+    }
+
+    private Path resolve(final String id) {
+        final var file = this.root.resolve(id).normalize();
+        if (!file.startsWith(this.root) || file.equals(this.root)) {
+            throw new IllegalArgumentException("Invalid storage id '%s'".formatted(id));
+        }
+        return file;
+    }
+
+    private String idOf(final Path file) {
+        return this.root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+    }
+
+    private Path temporaryOf(final Path target) {
+        return target.resolveSibling(".%s.%s.tmp".formatted(target.getFileName(), IdUtils.uuid()));
+    }
+
+    private Path metadataOf(final Path file) {
+        return file.resolveSibling(".%s.meta".formatted(file.getFileName()));
+    }
+
+    private void writeMetadata(final Path target, final Resource resource) throws IOException {
+        final var metadata = new Properties();
+        metadata.setProperty(CHECKSUM, resource.checksum());
+        metadata.setProperty(CONTENT_TYPE, resource.contentType());
+        metadata.setProperty(NAME, resource.name());
+
+        final var tmp = temporaryOf(metadataOf(target));
+        try (final Writer out = Files.newBufferedWriter(tmp)) {
+            metadata.store(out, null);
+        }
+        Files.move(tmp, metadataOf(target), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Properties readMetadata(final Path file) throws IOException {
+        final var metadata = new Properties();
+        try (final Reader in = Files.newBufferedReader(metadataOf(file))) {
+            metadata.load(in);
+        }
+        return metadata;
+    }
+
+    private void deleteEmptyParents(final Path folder) throws IOException {
+        var current = folder;
+        while (current != null && !current.equals(this.root) && current.startsWith(this.root)) {
+            try (final var entries = Files.list(current)) {
+                if (entries.findAny().isPresent()) {
+                    return;
+                }
+            }
+            Files.deleteIfExists(current);
+            current = current.getParent();
+        }
+    }
+
+    private static class FileStream implements ResourceStream {
+
+        private final Path file;
+
+        private FileStream(final Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public InputStream open() throws IOException {
+            return Files.newInputStream(file);
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            return Channels.newInputStream(FileChannel.open(file, StandardOpenOption.READ).position(offset));
+        }
+    }
+
+    /**
+     * Appends the chunks to a hidden temporary file next to the target, which is renamed into
+     * place once the upload is completed.
+     */
+    private class FileUpload implements ResumableUpload {
+
+        private final Path target;
+        private final Path tmp;
+        private final String contentType;
+        private final String name;
+        private final Checksum hasher;
+        private long committed;
+        private Resource completed;
+
+        private FileUpload(
+                final Path target,
+                final Path tmp,
+                final String contentType,
+                final String name,
+                final long committed,
+                final Checksum hasher
+        ) {
+            this.target = target;
+            this.tmp = tmp;
+            this.contentType = contentType;
+            this.name = name;
+            this.committed = committed;
+            this.hasher = hasher;
+        }
+
+        @Override
+        public String id() {
+            return idOf(target);
+        }
+
+        @Override
+        public synchronized long committed() {
+            return committed;
+        }
+
+        @Override
+        public synchronized long append(final InputStream chunk) {
+            if (completed != null) {
+                throw new IllegalStateException("Upload %s was already completed".formatted(id()));
+            }
+
+            try (final var out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                final var buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = chunk.read(buffer)) != -1) {
+                    final var src = ByteBuffer.wrap(buffer, 0, read);
+                    while (src.hasRemaining()) {
+                        out.write(src);
+                    }
+                    hasher.update(buffer, 0, read);
+                    committed += read;
+                }
+                return committed;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public synchronized Resource complete() {
+            if (completed == null) {
+                try {
+                    if (Files.notExists(tmp)) {
+                        Files.createFile(tmp);
+                    }
+
+                    try (final var out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                        out.force(true);
+                    }
+
+                    final var aResource = Resource.with(new FileStream(target), committed, HashingUtils.checksum(hasher), contentType, name);
+                    Files.deleteIfExists(metadataOf(target));
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    writeMetadata(target, aResource);
+                    completed = aResource;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return completed;
+        }
+
+        @Override
+        public synchronized Optional<String> checksum() {
+            return Optional.of(HashingUtils.checksum(hasher));
+        }
+
+        @Override
+        public synchronized Optional<byte[]> capture() {
+            return completed == null
+                    ? Optional.of(tmp.getFileName().toString().getBytes(StandardCharsets.UTF_8))
+                    : Optional.empty();
+        }
+
+        @Override
+        public synchronized void discard() {
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            deleteAll(List.of(id()));
+        }
+    }
+}
@@ -1,12 +1,23 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.local;
 
 import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.services.ResumableUpload;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
 
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Checksum;
 
 public class InMemoryStorageService implements StorageService {
 
@@ -25,8 +36,19 @@ public class InMemoryStorageService implements StorageService {
     }
 
     @Override
-    public void store(final String id, final Resource resource) {
-        this.storage.put(id, resource);
+    public Resource store(final String id, final Resource resource) {
+        final var stored = read(resource);
+        this.storage.put(id, stored);
+        return stored;
+    }
+
+    @Override
+    public ResumableUpload startUpload(final String id, final String contentType, final String name) {
+        try {
+            return new FileUpload(id, contentType, name, Files.createTempFile("upload-", ".part"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
@@ -45,4 +67,109 @@ public class InMemoryStorageService implements StorageService {
     public void deleteAll(final List<String> ids) {
         ids.forEach(this.storage::remove);
     }
+
+    private Resource read(final Resource resource) {
+        try (final var in = HashingUtils.checksumOf(resource.openStream())) {
+            final var content = in.readAllBytes();
+            final var checksum = resource.hasChecksum() ? resource.checksum() : HashingUtils.checksum(in.hash());
+            return Resource.with(content, checksum, resource.contentType(), resource.name());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Spools the chunks to a temporary file so that local uploads behave like the resumable
+     * ones: nothing is visible in the storage until the upload is completed.
+     */
+    private class FileUpload implements ResumableUpload {
+
+        private final String id;
+        private final String contentType;
+        private final String name;
+        private final Path file;
+        private final Checksum hasher;
+        private long committed;
+        private Resource completed;
+
+        private FileUpload(final String id, final String contentType, final String name, final Path file) {
+            this.id = id;
+            this.contentType = contentType;
+            this.name = name;
+            this.file = file;
+            this.hasher = HashingUtils.runningChecksum();
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public synchronized long committed() {
+            return committed;
+        }
+
+        @Override
+        public synchronized long append(final InputStream chunk) {
+            if (completed != null) {
+                throw new IllegalStateException("Upload %s was already completed".formatted(id));
+            }
+
+            try (final var out = new HashingOutputStream(Files.newOutputStream(file, StandardOpenOption.APPEND))) {
+                committed += chunk.transferTo(out);
+                return committed;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public synchronized Resource complete() {
+            if (completed == null) {
+                try {
+                    final var content = Files.readAllBytes(file);
+                    completed = store(id, Resource.with(content, HashingUtils.checksum(hasher), contentType, name));
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return completed;
+        }
+
+        @Override
+        public synchronized Optional<String> checksum() {
+            return Optional.of(HashingUtils.checksum(hasher));
+        }
+
+        @Override
+        public synchronized void discard() {
+            storage.remove(id);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private class HashingOutputStream extends FilterOutputStream {
+
+            private HashingOutputStream(final OutputStream out) {
+                super(out);
+            }
+
+            @Override
+            public void write(final int b) throws IOException {
+                out.write(b);
+                hasher.update(b);
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                out.write(b, off, len);
+                hasher.update(b, off, len);
+            }
+        }
+    }
 }
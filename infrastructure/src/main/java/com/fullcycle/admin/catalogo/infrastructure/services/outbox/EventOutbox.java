@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.outbox;
+
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.infrastructure.services.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.services.outbox.persistence.OutboxEventRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+/**
+ * Records domain events in the same transaction as the aggregate that raised them; the
+ * {@link OutboxRelay} publishes them once committed, so a write never waits on the broker and a
+ * rolled back write never leaks its events.
+ */
+@Component
+public class EventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    public EventOutbox(final OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(final String aggregateId, final DomainEvent event) {
+        this.outboxEventRepository.save(OutboxEventJpaEntity.with(aggregateId, event));
+    }
+}
@@ -0,0 +1,94 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.outbox;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.OutboxProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.services.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.services.outbox.persistence.OutboxEventRepository;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the outbox to an {@link EventService} in batches. Each batch is locked, published in the
+ * order it was written and only deleted once the broker confirmed all of it; on failure the whole
+ * batch stays and is retried on the next poll, so events of an aggregate are never reordered
+ * (but may be delivered more than once).
+ */
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final EventService eventService;
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties props;
+    private ScheduledExecutorService scheduler;
+
+    public OutboxRelay(
+            final EventService eventService,
+            final OutboxEventRepository outboxEventRepository,
+            final PlatformTransactionManager transactionManager,
+            final OutboxProperties props
+    ) {
+        this.eventService = Objects.requireNonNull(eventService);
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.props = Objects.requireNonNull(props);
+    }
+
+    public synchronized void start() {
+        if (!this.props.isEnabled() || this.scheduler != null) {
+            return;
+        }
+
+        final var interval = this.props.getPollInterval().toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("outbox-relay-%d").setDaemon(true).build()
+        );
+        this.scheduler.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * Publishes the next batch of pending events.
+     *
+     * @return how many events were published
+     */
+    public int drain() {
+        final var published = this.transactionTemplate.execute(status -> {
+            final var batch = this.outboxEventRepository.findNext(PageRequest.ofSize(this.props.getBatchSize()));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            this.eventService.sendAll(batch.stream().map(OutboxEventJpaEntity::toEvent).toList());
+            this.outboxEventRepository.deleteAllInBatch(batch);
+            return batch.size();
+        });
+        return published != null ? published : 0;
+    }
+
+    private void poll() {
+        try {
+            while (drain() == this.props.getBatchSize() && !Thread.currentThread().isInterrupted()) {
+                // keep draining while full batches come back
+            }
+        } catch (final Throwable t) {
+            log.error("Could not relay the outbox, retrying in {}", this.props.getPollInterval(), t);
+        }
+    }
+}
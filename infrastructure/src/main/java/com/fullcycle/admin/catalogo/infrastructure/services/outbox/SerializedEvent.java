@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.outbox;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * An event already serialized to JSON by the outbox, written as is when sent again.
+ */
+public record SerializedEvent(String payload) implements JsonSerializable {
+
+    public SerializedEvent {
+        Objects.requireNonNull(payload);
+    }
+
+    public static SerializedEvent with(final String payload) {
+        return new SerializedEvent(payload);
+    }
+
+    @Override
+    public void serialize(final JsonGenerator gen, final SerializerProvider serializers) throws IOException {
+        gen.writeRawValue(payload);
+    }
+
+    @Override
+    public void serializeWithType(
+            final JsonGenerator gen,
+            final SerializerProvider serializers,
+            final TypeSerializer typeSer
+    ) throws IOException {
+        serialize(gen, serializers);
+    }
+}
@@ -0,0 +1,102 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.outbox.persistence;
+
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.services.outbox.SerializedEvent;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+@Entity(name = "OutboxEvent")
+@Table(name = "events_outbox")
+public class OutboxEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public OutboxEventJpaEntity() {
+    }
+
+    private OutboxEventJpaEntity(
+            final String aggregateId,
+            final String eventType,
+            final String payload,
+            final Instant createdAt
+    ) {
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public static OutboxEventJpaEntity with(final String aggregateId, final DomainEvent event) {
+        return new OutboxEventJpaEntity(
+                aggregateId,
+                event.getClass().getName(),
+                Json.writeValueAsString(event),
+                Instant.now()
+        );
+    }
+
+    public SerializedEvent toEvent() {
+        return SerializedEvent.with(payload);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OutboxEventJpaEntity setId(Long id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public OutboxEventJpaEntity setAggregateId(String aggregateId) {
+        this.aggregateId = aggregateId;
+        return this;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public OutboxEventJpaEntity setEventType(String eventType) {
+        this.eventType = eventType;
+        return this;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public OutboxEventJpaEntity setPayload(String payload) {
+        this.payload = payload;
+        return this;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public OutboxEventJpaEntity setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.outbox.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    /**
+     * The oldest pending events, locked so a single relay drains them at a time and the order
+     * they were written in is kept.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from OutboxEvent e order by e.id asc")
+    List<OutboxEventJpaEntity> findNext(Pageable page);
+}
@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Strong entity tags for the API representations. Aggregates are tagged by id and the exact
+ * {@code updatedAt}; the ids they reference are folded in as well, since removing a referenced
+ * aggregate changes the representation without touching {@code updatedAt}.
+ */
+public final class ETagUtils {
+
+    private ETagUtils() {}
+
+    public static String of(final String checksum) {
+        return checksum != null ? "\"%s\"".formatted(checksum) : null;
+    }
+
+    public static String of(final String id, final Instant updatedAt) {
+        return of(id, updatedAt, List.of());
+    }
+
+    public static String of(final String id, final Instant updatedAt, final Collection<String> references) {
+        final var version = "%s-%d%09d".formatted(id, updatedAt.getEpochSecond(), updatedAt.getNano());
+        if (references == null || references.isEmpty()) {
+            return of(version);
+        }
+
+        final var hasher = HashingUtils.checksumHasher();
+        references.stream().sorted().forEach(it -> hasher.putString(it, StandardCharsets.UTF_8).putByte((byte) 0));
+        return of(version + "-" + hasher.hash());
+    }
+}
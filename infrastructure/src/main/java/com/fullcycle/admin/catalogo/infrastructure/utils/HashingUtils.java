@@ -1,8 +1,19 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
+import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
 
+import java.io.InputStream;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/**
+ * CRC32C checksums of the medias, as big-endian hex: the form GCS reports and accepts, so a
+ * payload has the same checksum, ETag and deduplication key whichever storage holds it.
+ */
 public final class HashingUtils {
 
     private static final HashFunction CHECKSUM = Hashing.crc32c();
@@ -10,6 +21,31 @@ public final class HashingUtils {
     private HashingUtils() {}
 
     public static String checksum(final byte[] content) {
-        return CHECKSUM.hashBytes(content).toString();
+        return checksum(CHECKSUM.hashBytes(content));
+    }
+
+    public static String checksum(final HashCode aHash) {
+        // Guava renders the bytes of a CRC little-endian
+        return "%08x".formatted(aHash.asInt());
+    }
+
+    public static String checksum(final Checksum aChecksum) {
+        return "%08x".formatted(aChecksum.getValue());
+    }
+
+    public static Hasher checksumHasher() {
+        return CHECKSUM.newHasher();
+    }
+
+    /**
+     * A CRC32C that can be read at any point and still be updated afterwards, unlike a
+     * {@link Hasher}: what the resumable uploads keep while the chunks come in.
+     */
+    public static Checksum runningChecksum() {
+        return new CRC32C();
+    }
+
+    public static HashingInputStream checksumOf(final InputStream in) {
+        return new HashingInputStream(CHECKSUM, in);
     }
 }
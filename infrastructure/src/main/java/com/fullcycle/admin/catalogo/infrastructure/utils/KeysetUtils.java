@@ -0,0 +1,209 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination: a page starts right after the sort value and id of the last row of the
+ * previous one instead of at an OFFSET, so a deep page costs as much as the first and nothing is
+ * counted. The position travels as an opaque cursor bound to the sort it was read with.
+ */
+public final class KeysetUtils {
+
+    private KeysetUtils() {
+    }
+
+    public record Cursor(String sort, String value, String id) {
+    }
+
+    /**
+     * @return empty for the first page, which is requested with an empty cursor
+     */
+    public static Optional<Cursor> decode(final String aCursor, final String sort) {
+        if (aCursor == null || aCursor.isBlank()) {
+            return Optional.empty();
+        }
+
+        final String[] parts;
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(aCursor), StandardCharsets.UTF_8);
+            parts = Json.readValue(json, String[].class);
+        } catch (RuntimeException e) {
+            throw invalidCursor();
+        }
+
+        if (parts == null || parts.length != 3 || parts[2] == null) {
+            throw invalidCursor();
+        }
+
+        if (!Objects.equals(parts[0], sort)) {
+            throw DomainException.with(new Error("'cursor' was read with another sort"));
+        }
+
+        return Optional.of(new Cursor(parts[0], parts[1], parts[2]));
+    }
+
+    public static String encode(final String sort, final Object value, final String id) {
+        final var json = Json.writeValueAsString(new String[]{sort, value != null ? value.toString() : null, id});
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Rows strictly after the cursor in {@code sort, id} order. Nulls sort lowest, as in MySQL:
+     * first when ascending and last when descending.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Predicate after(
+            final CriteriaBuilder cb,
+            final Path<?> sortPath,
+            final Path<String> idPath,
+            final Cursor aCursor,
+            final Direction direction
+    ) {
+        final var key = (Expression<Comparable>) sortPath;
+        final var value = (Comparable) valueOf(aCursor.value(), sortPath.getJavaType());
+        final var id = aCursor.id();
+
+        if (direction.isAscending()) {
+            if (value == null) {
+                return cb.or(cb.and(cb.isNull(key), cb.greaterThan(idPath, id)), cb.isNotNull(key));
+            }
+            return cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), cb.greaterThan(idPath, id)));
+        }
+
+        if (value == null) {
+            return cb.and(cb.isNull(key), cb.lessThan(idPath, id));
+        }
+        return cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), cb.lessThan(idPath, id)), cb.isNull(key));
+    }
+
+    /**
+     * The attribute a cursor page is sorted by. Computed sorts, such as the relevance of a search,
+     * have no value a cursor could point at.
+     */
+    public static Path<?> sortPath(final Path<?> root, final String sort) {
+        try {
+            return root.get(sort);
+        } catch (IllegalArgumentException e) {
+            throw unsupportedSort(sort);
+        }
+    }
+
+    public static List<Order> orderBy(
+            final CriteriaBuilder cb,
+            final Path<?> sortPath,
+            final Path<String> idPath,
+            final Direction direction
+    ) {
+        return direction.isAscending()
+                ? List.of(cb.asc(sortPath), cb.asc(idPath))
+                : List.of(cb.desc(sortPath), cb.desc(idPath));
+    }
+
+    /**
+     * Reads up to {@code limit} entities matching {@code where} after the cursor, in keyset order.
+     */
+    public static <T> List<T> findAll(
+            final EntityManager entityManager,
+            final Class<T> type,
+            final Specification<T> where,
+            final String sort,
+            final Direction direction,
+            final Cursor after,
+            final int limit
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(type);
+        final var root = query.from(type);
+        final Path<String> idPath = root.get("id");
+        final var sortPath = sortPath(root, sort);
+
+        final var predicates = new ArrayList<Predicate>();
+        if (where != null) {
+            Optional.ofNullable(where.toPredicate(root, query, cb)).ifPresent(predicates::add);
+        }
+        if (after != null) {
+            predicates.add(after(cb, sortPath, idPath, after, direction));
+        }
+
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orderBy(cb, sortPath, idPath, direction));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Builds the page from rows read with a limit of {@code perPage + 1}: the extra row only tells
+     * whether there is a next page.
+     */
+    public static <T> Pagination<T> page(
+            final List<T> rows,
+            final int perPage,
+            final String sort,
+            final Function<T, String> idOf
+    ) {
+        if (rows.size() <= perPage) {
+            return new Pagination<>(0, perPage, Pagination.UNCOUNTED, rows, null);
+        }
+
+        final var items = List.copyOf(rows.subList(0, perPage));
+        final var last = items.get(items.size() - 1);
+        return new Pagination<>(0, perPage, Pagination.UNCOUNTED, items, encode(sort, sortValueOf(last, sort), idOf.apply(last)));
+    }
+
+    private static Object sortValueOf(final Object aRow, final String sort) {
+        try {
+            return new DirectFieldAccessor(aRow).getPropertyValue(sort);
+        } catch (BeansException e) {
+            throw unsupportedSort(sort);
+        }
+    }
+
+    private static Object valueOf(final String value, final Class<?> type) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            if (Instant.class.equals(type)) {
+                return Instant.parse(value);
+            }
+            return DefaultConversionService.getSharedInstance().convert(value, type);
+        } catch (RuntimeException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static DomainException unsupportedSort(final String sort) {
+        return DomainException.with(new Error("'sort' %s cannot be used with a cursor".formatted(sort)));
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("'cursor' is invalid"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+/**
+ * Pages without a count: a page reads one row more than it holds, which only tells whether
+ * another page follows.
+ */
+public final class SliceUtils {
+
+    private SliceUtils() {
+    }
+
+    /**
+     * Reads the page of entities matching {@code where}, ordered by the sort of the page when it has
+     * one and by whatever order {@code where} applied otherwise.
+     */
+    public static <T> Slice<T> findAll(
+            final EntityManager entityManager,
+            final Class<T> type,
+            final Specification<T> where,
+            final Pageable page
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(type);
+        final var root = query.from(type);
+
+        query.select(root);
+        if (where != null) {
+            final var predicate = where.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        if (page.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(page.getSort(), root, cb));
+        }
+
+        final var rows = entityManager.createQuery(query)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize() + 1)
+                .getResultList();
+
+        return slice(rows, page);
+    }
+
+    public static <T> Slice<T> slice(final List<T> rows, final Pageable page) {
+        final var hasNext = rows.size() > page.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, page.getPageSize()) : rows, page, hasNext);
+    }
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers what has to reflect committed data only, such as the in-memory indexes or the messages
+ * to the other instances, until the current transaction commits. Outside a transaction it runs
+ * right away.
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {}
+
+    public static void afterCommit(final Runnable anAction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            anAction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                anAction.run();
+            }
+        });
+    }
+}
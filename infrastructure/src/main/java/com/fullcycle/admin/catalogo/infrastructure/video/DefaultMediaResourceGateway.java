@@ -23,16 +23,14 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
     @Override
     public AudioVideoMedia storeAudioVideo(final VideoID anId, final VideoResource videoResource) {
         final var filepath = filepath(anId, videoResource.type());
-        final var aResource = videoResource.resource();
-        store(filepath, aResource);
+        final var aResource = store(filepath, videoResource.resource());
         return AudioVideoMedia.with(aResource.checksum(), aResource.name(), filepath);
     }
 
     @Override
     public ImageMedia storeImage(final VideoID anId, final VideoResource videoResource) {
         final var filepath = filepath(anId, videoResource.type());
-        final var aResource = videoResource.resource();
-        store(filepath, aResource);
+        final var aResource = store(filepath, videoResource.resource());
         return ImageMedia.with(aResource.checksum(), aResource.name(), filepath);
     }
 
@@ -61,7 +59,7 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
                 .concat(filename(aType));
     }
 
-    private void store(final String filepath, final Resource aResource) {
-        this.storageService.store(filepath, aResource);
+    private Resource store(final String filepath, final Resource aResource) {
+        return this.storageService.store(filepath, aResource);
     }
 }
@@ -1,20 +1,44 @@
 package com.fullcycle.admin.catalogo.infrastructure.video;
 
 import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalogo.domain.video.*;
-import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
-import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
-import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.search.TextSearch;
+import com.fullcycle.admin.catalogo.infrastructure.search.TotalCounter;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidation;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidationBus;
+import com.fullcycle.admin.catalogo.infrastructure.services.outbox.EventOutbox;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SliceUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoCastMemberJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoCategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoGenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.AbstractQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.nullIfEmpty;
@@ -22,15 +46,29 @@ import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.nullIfEm
 @Component
 public class DefaultVideoGateway implements VideoGateway {
 
-    private final EventService eventService;
+    private static final String[] SEARCHED = {"title", "description"};
+
+    private final EventOutbox eventOutbox;
     private final VideoRepository videoRepository;
+    private final EntityManager entityManager;
+    private final TextSearch textSearch;
+    private final TotalCounter totalCounter;
+    private final CacheInvalidationBus invalidations;
 
     public DefaultVideoGateway(
-            @VideoCreatedQueue final EventService eventService,
-            final VideoRepository videoRepository
+            final EventOutbox eventOutbox,
+            final VideoRepository videoRepository,
+            final EntityManager entityManager,
+            final TextSearch textSearch,
+            final TotalCounter totalCounter,
+            final CacheInvalidationBus invalidations
     ) {
-        this.eventService = Objects.requireNonNull(eventService);
+        this.eventOutbox = Objects.requireNonNull(eventOutbox);
         this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.textSearch = Objects.requireNonNull(textSearch);
+        this.totalCounter = Objects.requireNonNull(totalCounter);
+        this.invalidations = Objects.requireNonNull(invalidations);
     }
 
     @Override
@@ -44,51 +82,211 @@ public class DefaultVideoGateway implements VideoGateway {
         final var aVideoId = anId.getValue();
         if (this.videoRepository.existsById(aVideoId)) {
             this.videoRepository.deleteById(aVideoId);
+            this.textSearch.unindex(VideoJpaEntity.class, aVideoId);
+            this.invalidations.publish(CacheInvalidation.VIDEO, aVideoId, InstantUtils.now());
         }
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Video> findById(final VideoID anId) {
-        return this.videoRepository.findById(anId.getValue())
-                .map(VideoJpaEntity::toAggregate);
+        final var aVideoId = anId.getValue();
+        return this.videoRepository.findWithMediasById(aVideoId)
+                .map(it -> toAggregate(it, this.videoRepository.findAssociationIds(aVideoId)));
     }
 
     @Override
     @Transactional
     public Video update(final Video aVideo) {
-        return save(aVideo);
+        return this.videoRepository.findWithMediasById(aVideo.getId().getValue())
+                .map(it -> publishDomainEvents(aVideo, indexed(it.update(aVideo))))
+                .orElseGet(() -> save(aVideo));
+    }
+
+    @Override
+    public boolean existsById(final VideoID anId) {
+        return this.videoRepository.existsById(anId.getValue());
+    }
+
+    @Override
+    @Transactional
+    public boolean updateMediaStatus(
+            final VideoID anId,
+            final String aResourceId,
+            final MediaStatus aStatus,
+            final String anEncodedPath
+    ) {
+        final var aVideoId = anId.getValue();
+        final var updated = switch (aStatus) {
+            case PROCESSING -> this.videoRepository.updateMediaStatus(
+                    aVideoId, aResourceId, MediaStatus.PROCESSING, MediaStatus.PENDING
+            );
+            case COMPLETED -> this.videoRepository.completeMedia(aVideoId, aResourceId, anEncodedPath);
+            default -> 0;
+        };
+
+        if (updated == 0) {
+            return false;
+        }
+
+        final var updatedAt = InstantUtils.now();
+        this.videoRepository.touch(aVideoId, updatedAt);
+        this.invalidations.publish(CacheInvalidation.VIDEO, aVideoId, updatedAt);
+        return true;
     }
 
     @Override
     public Pagination<VideoPreview> findAll(final VideoSearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        if (aQuery.isCursor()) {
+            return findAllAfter(aQuery);
+        }
+
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(VideoPreview.class);
+        final var video = query.from(VideoJpaEntity.class);
+
+        query.select(preview(cb, video))
+                .where(search(cb, query, video, aQuery));
+
+        if (TextSearch.isRelevance(aQuery.sort())) {
+            this.textSearch.<VideoJpaEntity>rankedBy(aQuery.terms(), SEARCHED).toPredicate(video, query, cb);
+        } else {
+            query.orderBy(KeysetUtils.orderBy(cb, video.get(aQuery.sort()), video.get("id"), Direction.fromString(aQuery.direction())));
+        }
 
-        final var actualPage = this.videoRepository.findAll(
-                SqlUtils.like(SqlUtils.upper(aQuery.terms())),
-                nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue)),
-                nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue)),
-                nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue)),
-                page
+        final var page = PageRequest.of(aQuery.page(), aQuery.perPage());
+        final var rows = this.entityManager.createQuery(query)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize() + 1)
+                .getResultList();
+
+        return this.totalCounter.paginate(
+                SliceUtils.slice(rows, page),
+                aQuery.total(),
+                Arrays.asList(VideoJpaEntity.class, aQuery.terms(), aQuery.castMembers(), aQuery.categories(), aQuery.genres()),
+                () -> count(aQuery)
         );
+    }
+
+    private Pagination<VideoPreview> findAllAfter(final VideoSearchQuery aQuery) {
+        final var sort = aQuery.sort();
+        final var direction = Direction.fromString(aQuery.direction());
+        final var after = KeysetUtils.decode(aQuery.cursor(), sort);
+
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(VideoPreview.class);
+        final var video = query.from(VideoJpaEntity.class);
+        final Path<String> id = video.get("id");
+        final var sortPath = KeysetUtils.sortPath(video, sort);
+
+        final var where = new ArrayList<>(List.of(search(cb, query, video, aQuery)));
+        after.ifPresent(it -> where.add(KeysetUtils.after(cb, sortPath, id, it, direction)));
+
+        query.select(preview(cb, video))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(KeysetUtils.orderBy(cb, sortPath, id, direction));
 
-        return new Pagination<>(
-                actualPage.getNumber(),
-                actualPage.getSize(),
-                actualPage.getTotalElements(),
-                actualPage.toList()
+        final var rows = this.entityManager.createQuery(query)
+                .setMaxResults(aQuery.perPage() + 1)
+                .getResultList();
+
+        return KeysetUtils.page(rows, aQuery.perPage(), sort, VideoPreview::id);
+    }
+
+    private long count(final VideoSearchQuery aQuery) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Long.class);
+        final var video = query.from(VideoJpaEntity.class);
+
+        query.select(cb.count(video))
+                .where(search(cb, query, video, aQuery));
+
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Each association filter is a semi-join on its join table, so a video matches at most once
+     * however many of the given ids it has: no DISTINCT, and the count needs no join at all.
+     */
+    private Predicate[] search(
+            final CriteriaBuilder cb,
+            final CriteriaQuery<?> query,
+            final Root<VideoJpaEntity> video,
+            final VideoSearchQuery aQuery
+    ) {
+        final var where = new ArrayList<Predicate>();
+        if (aQuery.terms() != null && !aQuery.terms().isBlank()) {
+            where.add(this.textSearch.<VideoJpaEntity>matching(aQuery.terms(), SEARCHED).toPredicate(video, query, cb));
+        }
+        if (nullIfEmpty(aQuery.castMembers()) != null) {
+            where.add(videoIdIn(query, video, VideoCastMemberJpaEntity.class, "castMemberId", aQuery.castMembers()));
+        }
+        if (nullIfEmpty(aQuery.categories()) != null) {
+            where.add(videoIdIn(query, video, VideoCategoryJpaEntity.class, "categoryId", aQuery.categories()));
+        }
+        if (nullIfEmpty(aQuery.genres()) != null) {
+            where.add(videoIdIn(query, video, VideoGenreJpaEntity.class, "genreId", aQuery.genres()));
+        }
+        return where.toArray(Predicate[]::new);
+    }
+
+    private static Predicate videoIdIn(
+            final AbstractQuery<?> query,
+            final Root<VideoJpaEntity> video,
+            final Class<?> joinTable,
+            final String idAttribute,
+            final Set<? extends Identifier> ids
+    ) {
+        final var subquery = query.subquery(String.class);
+        final var association = subquery.from(joinTable);
+        subquery.select(association.get("id").get("videoId"))
+                .where(association.get("id").get(idAttribute).in(mapTo(ids, Identifier::getValue)));
+        return video.get("id").in(subquery);
+    }
+
+    private static Selection<VideoPreview> preview(final CriteriaBuilder cb, final Root<VideoJpaEntity> video) {
+        return cb.construct(
+                VideoPreview.class,
+                video.get("id"),
+                video.get("title"),
+                video.get("description"),
+                video.get("createdAt"),
+                video.get("updatedAt")
         );
     }
 
+    private static Video toAggregate(final VideoJpaEntity aVideo, final List<Object[]> associationIds) {
+        final var categories = new HashSet<CategoryID>();
+        final var genres = new HashSet<GenreID>();
+        final var castMembers = new HashSet<CastMemberID>();
+
+        for (final var row : associationIds) {
+            final var id = (String) row[1];
+            switch ((String) row[0]) {
+                case "CATEGORY" -> categories.add(CategoryID.from(id));
+                case "GENRE" -> genres.add(GenreID.from(id));
+                case "CAST_MEMBER" -> castMembers.add(CastMemberID.from(id));
+                default -> throw new IllegalStateException("Unexpected association %s".formatted(row[0]));
+            }
+        }
+
+        return aVideo.toAggregate(categories, genres, castMembers);
+    }
+
     private Video save(final Video aVideo) {
-        final var result = this.videoRepository.save(VideoJpaEntity.from(aVideo))
-                .toAggregate();
+        return publishDomainEvents(aVideo, indexed(this.videoRepository.save(VideoJpaEntity.from(aVideo))));
+    }
+
+    private <T> T indexed(final T anEntity) {
+        this.textSearch.index(anEntity);
+        return anEntity;
+    }
+
+    private Video publishDomainEvents(final Video aVideo, final VideoJpaEntity anEntity) {
+        final var result = anEntity.toAggregate();
 
-        aVideo.publishDomainEvents(this.eventService::send);
+        aVideo.publishDomainEvents(event -> this.eventOutbox.append(result.getId().getValue(), event));
+        this.invalidations.publish(CacheInvalidation.VIDEO, result.getId().getValue(), result.getUpdatedAt());
 
         return result;
     }
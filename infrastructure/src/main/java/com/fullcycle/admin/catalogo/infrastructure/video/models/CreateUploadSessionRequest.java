@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CreateUploadSessionRequest(
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("name") String name,
+        @JsonProperty("length") Long length
+) {
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.video.upload.MediaUploadJob;
+
+import java.time.Instant;
+import java.util.List;
+
+public record UploadJobResponse(
+        @JsonProperty("job_id") String jobId,
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_types") List<VideoMediaType> mediaTypes,
+        @JsonProperty("status") MediaUploadJob.Status status,
+        @JsonProperty("error") String error,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+public record UploadSessionResponse(
+        @JsonProperty("session_id") String sessionId,
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") VideoMediaType mediaType,
+        @JsonProperty("offset") long offset,
+        @JsonProperty("length") Long length
+) {
+}
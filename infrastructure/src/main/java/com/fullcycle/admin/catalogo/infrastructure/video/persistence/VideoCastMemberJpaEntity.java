@@ -36,12 +36,12 @@ public class VideoCastMemberJpaEntity {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         VideoCastMemberJpaEntity that = (VideoCastMemberJpaEntity) o;
-        return Objects.equals(getId(), that.getId()) && Objects.equals(getVideo(), that.getVideo());
+        return Objects.equals(getId(), that.getId());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getId(), getVideo());
+        return Objects.hash(getId());
     }
 
     public VideoCastMemberID getId() {
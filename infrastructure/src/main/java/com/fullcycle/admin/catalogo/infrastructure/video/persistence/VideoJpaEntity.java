@@ -4,6 +4,8 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
 import com.fullcycle.admin.catalogo.domain.video.Rating;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
@@ -14,8 +16,12 @@ import java.time.Year;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static java.util.function.Predicate.not;
+
 @Table(name = "videos")
 @Entity(name = "Video")
 public class VideoJpaEntity {
@@ -161,7 +167,56 @@ public class VideoJpaEntity {
         return entity;
     }
 
+    /**
+     * Copies the aggregate over this managed entity. Medias keeping their id are updated in place
+     * and only the category, genre and cast member rows that were added or removed are written, so
+     * an update that keeps the associations issues no statement for them.
+     */
+    public VideoJpaEntity update(final Video aVideo) {
+        this.title = aVideo.getTitle();
+        this.description = aVideo.getDescription();
+        this.yearLaunched = aVideo.getLaunchedAt().getValue();
+        this.opened = aVideo.getOpened();
+        this.published = aVideo.getPublished();
+        this.rating = aVideo.getRating();
+        this.duration = aVideo.getDuration();
+        this.createdAt = aVideo.getCreatedAt();
+        this.updatedAt = aVideo.getUpdatedAt();
+        this.video = update(this.video, aVideo.getVideo().orElse(null));
+        this.trailer = update(this.trailer, aVideo.getTrailer().orElse(null));
+        this.banner = update(this.banner, aVideo.getBanner().orElse(null));
+        this.thumbnail = update(this.thumbnail, aVideo.getThumbnail().orElse(null));
+        this.thumbnailHalf = update(this.thumbnailHalf, aVideo.getThumbnailHalf().orElse(null));
+
+        sync(this.categories, aVideo.getCategories(), it -> CategoryID.from(it.getId().getCategoryId()), this::addCategory);
+        sync(this.genres, aVideo.getGenres(), it -> GenreID.from(it.getId().getGenreId()), this::addGenre);
+        sync(this.castMembers, aVideo.getCastMembers(), it -> CastMemberID.from(it.getId().getCastMemberId()), this::addCastMember);
+
+        return this;
+    }
+
     public Video toAggregate() {
+        return toAggregate(
+                getCategories().stream()
+                        .map(it -> CategoryID.from(it.getId().getCategoryId()))
+                        .collect(Collectors.toSet()),
+                getGenres().stream()
+                        .map(it -> GenreID.from(it.getId().getGenreId()))
+                        .collect(Collectors.toSet()),
+                getCastMembers().stream()
+                        .map(it -> CastMemberID.from(it.getId().getCastMemberId()))
+                        .collect(Collectors.toSet())
+        );
+    }
+
+    /**
+     * Builds the aggregate with association ids read apart, leaving the lazy sets untouched.
+     */
+    public Video toAggregate(
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> castMembers
+    ) {
         return Video.with(
                 VideoID.from(getId()),
                 getTitle(),
@@ -188,18 +243,58 @@ public class VideoJpaEntity {
                 Optional.ofNullable(getVideo())
                         .map(AudioVideoMediaJpaEntity::toDomain)
                         .orElse(null),
-                getCategories().stream()
-                        .map(it -> CategoryID.from(it.getId().getCategoryId()))
-                        .collect(Collectors.toSet()),
-                getGenres().stream()
-                        .map(it -> GenreID.from(it.getId().getGenreId()))
-                        .collect(Collectors.toSet()),
-                getCastMembers().stream()
-                        .map(it -> CastMemberID.from(it.getId().getCastMemberId()))
-                        .collect(Collectors.toSet())
+                categories,
+                genres,
+                castMembers
         );
     }
 
+    private static AudioVideoMediaJpaEntity update(final AudioVideoMediaJpaEntity current, final AudioVideoMedia media) {
+        if (media == null) {
+            return null;
+        }
+
+        if (current == null || !current.getId().equals(media.id())) {
+            return AudioVideoMediaJpaEntity.from(media);
+        }
+
+        return current
+                .setChecksum(media.checksum())
+                .setName(media.name())
+                .setFilePath(media.rawLocation())
+                .setEncodedPath(media.encodedLocation())
+                .setStatus(media.status());
+    }
+
+    private static ImageMediaJpaEntity update(final ImageMediaJpaEntity current, final ImageMedia media) {
+        if (media == null) {
+            return null;
+        }
+
+        if (current == null || !current.getId().equals(media.id())) {
+            return ImageMediaJpaEntity.from(media);
+        }
+
+        return current
+                .setChecksum(media.checksum())
+                .setName(media.name())
+                .setFilePath(media.location());
+    }
+
+    private static <T, ID> void sync(
+            final Set<T> current,
+            final Set<ID> expected,
+            final Function<T, ID> idOf,
+            final Consumer<ID> add
+    ) {
+        current.removeIf(it -> !expected.contains(idOf.apply(it)));
+
+        final var existing = CollectionUtils.mapTo(current, idOf);
+        expected.stream()
+                .filter(not(existing::contains))
+                .forEach(add);
+    }
+
     public void addCategory(final CategoryID anId) {
         this.categories.add(VideoCategoryJpaEntity.from(this, anId));
     }
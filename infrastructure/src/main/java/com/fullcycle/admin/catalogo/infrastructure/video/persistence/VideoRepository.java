@@ -1,42 +1,79 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
 
-import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Set;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 
 public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
 
+    /**
+     * The video joined with its medias in one statement; the associations are left unloaded.
+     */
     @Query("""
-            select distinct new com.fullcycle.admin.catalogo.domain.video.VideoPreview(
-                v.id as id,
-                v.title as title,
-                v.description as description,
-                v.createdAt as createdAt,
-                v.updatedAt as updatedAt
+            select v from Video v
+            left join fetch v.video
+            left join fetch v.trailer
+            left join fetch v.banner
+            left join fetch v.thumbnail
+            left join fetch v.thumbnailHalf
+            where v.id = :id
+            """)
+    Optional<VideoJpaEntity> findWithMediasById(@Param("id") String id);
+
+    /**
+     * The category, genre and cast member ids of a video in one statement, as {@code [kind, id]}
+     * rows. Joining the three sets to the video instead would multiply their rows.
+     */
+    @Query(value = """
+            select 'CATEGORY', category_id from videos_categories where video_id = :id
+            union all
+            select 'GENRE', genre_id from videos_genres where video_id = :id
+            union all
+            select 'CAST_MEMBER', cast_member_id from videos_cast_members where video_id = :id
+            """, nativeQuery = true)
+    List<Object[]> findAssociationIds(@Param("id") String id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update AudioVideoMedia m set m.status = :status
+            where m.id = :mediaId
+            and m.status = :expected
+            and exists (
+                select v.id from Video v
+                where v.id = :videoId and (v.video.id = m.id or v.trailer.id = m.id)
+            )
+            """)
+    int updateMediaStatus(
+            @Param("videoId") String videoId,
+            @Param("mediaId") String mediaId,
+            @Param("status") MediaStatus status,
+            @Param("expected") MediaStatus expected
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update AudioVideoMedia m
+            set m.status = com.fullcycle.admin.catalogo.domain.video.MediaStatus.COMPLETED, m.encodedPath = :encodedPath
+            where m.id = :mediaId
+            and (m.status <> com.fullcycle.admin.catalogo.domain.video.MediaStatus.COMPLETED or m.encodedPath <> :encodedPath)
+            and exists (
+                select v.id from Video v
+                where v.id = :videoId and (v.video.id = m.id or v.trailer.id = m.id)
             )
-            from Video v
-                left join v.castMembers members
-                left join v.categories categories
-                left join v.genres genres
-            where
-                ( :terms is null or UPPER(v.title) like :terms )
-            and
-                ( :castMembers is null or members.id.castMemberId in :castMembers )
-            and
-                ( :categories is null or categories.id.categoryId in :categories )
-            and
-                ( :genres is null or genres.id.genreId in :genres )
             """)
-    Page<VideoPreview> findAll(
-            @Param("terms") String terms,
-            @Param("castMembers") Set<String> castMembers,
-            @Param("categories") Set<String> categories,
-            @Param("genres") Set<String> genres,
-            Pageable page
+    int completeMedia(
+            @Param("videoId") String videoId,
+            @Param("mediaId") String mediaId,
+            @Param("encodedPath") String encodedPath
     );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Video v set v.updatedAt = :updatedAt where v.id = :id")
+    int touch(@Param("id") String id, @Param("updatedAt") Instant updatedAt);
 }
@@ -8,6 +8,8 @@ import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
 import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.*;
+import com.fullcycle.admin.catalogo.infrastructure.video.upload.MediaUploadJob;
+import com.fullcycle.admin.catalogo.infrastructure.video.upload.MediaUploadSession;
 
 public interface VideoApiPresenter {
 
@@ -81,4 +83,26 @@ public interface VideoApiPresenter {
     static UploadMediaResponse present(final UploadMediaOutput output) {
         return new UploadMediaResponse(output.videoId(), output.mediaType());
     }
+
+    static UploadSessionResponse present(final MediaUploadSession session) {
+        return new UploadSessionResponse(
+            session.id(),
+            session.videoId().getValue(),
+            session.type(),
+            session.committed(),
+            session.length()
+        );
+    }
+
+    static UploadJobResponse present(final MediaUploadJob job) {
+        return new UploadJobResponse(
+            job.id(),
+            job.videoId().getValue(),
+            job.types(),
+            job.status(),
+            job.error(),
+            job.createdAt(),
+            job.updatedAt()
+        );
+    }
 }
@@ -0,0 +1,92 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.upload;
+
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A batch of medias spooled to local disk, waiting to be pushed to the storage and attached to
+ * the video by the background uploader.
+ */
+public class MediaUploadJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+
+    private final String id;
+    private final VideoID videoId;
+    private final List<VideoMediaType> types;
+    private final Instant createdAt;
+    private volatile Status status;
+    private volatile String error;
+    private volatile Instant updatedAt;
+
+    private MediaUploadJob(final String id, final VideoID videoId, final List<VideoMediaType> types) {
+        this.id = Objects.requireNonNull(id);
+        this.videoId = Objects.requireNonNull(videoId);
+        this.types = List.copyOf(types);
+        this.createdAt = InstantUtils.now();
+        this.updatedAt = this.createdAt;
+        this.status = Status.QUEUED;
+    }
+
+    public static MediaUploadJob with(final String id, final VideoID videoId, final List<VideoMediaType> types) {
+        return new MediaUploadJob(id, videoId, types);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public VideoID videoId() {
+        return videoId;
+    }
+
+    public List<VideoMediaType> types() {
+        return types;
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    public String error() {
+        return error;
+    }
+
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    public Instant updatedAt() {
+        return updatedAt;
+    }
+
+    MediaUploadJob running() {
+        return update(Status.RUNNING, null);
+    }
+
+    MediaUploadJob completed() {
+        return update(Status.COMPLETED, null);
+    }
+
+    MediaUploadJob failed(final String error) {
+        return update(Status.FAILED, error);
+    }
+
+    private MediaUploadJob update(final Status status, final String error) {
+        this.error = error;
+        this.updatedAt = InstantUtils.now();
+        this.status = status;
+        return this;
+    }
+}
@@ -0,0 +1,167 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.upload;
+
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.MediaUploadExecutor;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Asynchronous media uploads: the request only spools the parts to local disk, a bounded pool
+ * pushes them to the storage through {@link UploadMediaUseCase} and the job keeps the outcome
+ * for the status endpoint. The medias of a job are uploaded one after the other, as each upload
+ * rewrites the same video. A job is refused when the pool is saturated.
+ * <p>
+ * Jobs only live in memory: a restart loses the queued ones along with their status, so the
+ * spool, which must not be shared with other instances, is emptied on startup.
+ */
+@Component
+public class MediaUploadJobs {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaUploadJobs.class);
+
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    private final Path spool;
+    private final UploadMediaUseCase uploadMediaUseCase;
+    private final ExecutorService executor;
+    private final Map<String, MediaUploadJob> jobs;
+
+    public MediaUploadJobs(
+            final StorageProperties props,
+            final UploadMediaUseCase uploadMediaUseCase,
+            @MediaUploadExecutor final ExecutorService executor
+    ) {
+        this.spool = Path.of(props.getSpool()).toAbsolutePath().normalize();
+        this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.executor = Objects.requireNonNull(executor);
+        this.jobs = new ConcurrentHashMap<>();
+        cleanSpool();
+    }
+
+    public MediaUploadJob submit(final VideoID anId, final Map<VideoMediaType, MultipartFile> medias) {
+        evictFinished();
+
+        final var jobId = IdUtils.uuid();
+        final var spooled = new ArrayList<SpooledMedia>(medias.size());
+
+        try {
+            Files.createDirectories(this.spool);
+            for (final var entry : medias.entrySet()) {
+                spooled.add(spool(jobId, entry.getKey(), entry.getValue()));
+            }
+        } catch (IOException e) {
+            spooled.forEach(SpooledMedia::delete);
+            throw new UncheckedIOException(e);
+        }
+
+        final var aJob = MediaUploadJob.with(jobId, anId, spooled.stream().map(SpooledMedia::type).toList());
+        this.jobs.put(jobId, aJob);
+        try {
+            this.executor.execute(() -> run(aJob, spooled));
+        } catch (RejectedExecutionException e) {
+            this.jobs.remove(jobId);
+            spooled.forEach(SpooledMedia::delete);
+            throw new RejectedExecutionException("Too many media uploads are queued, try again later", e);
+        }
+        return aJob;
+    }
+
+    public MediaUploadJob get(final VideoID anId, final String jobId) {
+        final var aJob = this.jobs.get(jobId);
+        if (aJob == null || !aJob.videoId().equals(anId)) {
+            throw NotFoundException.with(new Error("Upload job %s not found".formatted(jobId)));
+        }
+        return aJob;
+    }
+
+    private void run(final MediaUploadJob aJob, final List<SpooledMedia> medias) {
+        aJob.running();
+        try {
+            for (final var media : medias) {
+                this.uploadMediaUseCase.execute(UploadMediaCommand.with(
+                        aJob.videoId().getValue(),
+                        VideoResource.with(media.type(), media.resource())
+                ));
+                media.delete();
+            }
+            aJob.completed();
+        } catch (final Throwable t) {
+            log.error("Upload job {} of video {} failed", aJob.id(), aJob.videoId().getValue(), t);
+            aJob.failed(t.getMessage());
+        } finally {
+            medias.forEach(SpooledMedia::delete);
+        }
+    }
+
+    private SpooledMedia spool(final String jobId, final VideoMediaType aType, final MultipartFile part) throws IOException {
+        final var file = this.spool.resolve("%s-%s".formatted(jobId, aType.name()));
+        part.transferTo(file);
+        return new SpooledMedia(aType, file, part.getContentType(), part.getOriginalFilename());
+    }
+
+    /**
+     * Deletes what the jobs lost with the previous run left behind.
+     */
+    private void cleanSpool() {
+        if (Files.notExists(this.spool)) {
+            return;
+        }
+
+        try (final var files = Files.list(this.spool)) {
+            final var leftovers = files.filter(Files::isRegularFile).toList();
+            for (final var file : leftovers) {
+                Files.deleteIfExists(file);
+            }
+            if (!leftovers.isEmpty()) {
+                log.warn("Deleted {} medias spooled by upload jobs lost with the previous run", leftovers.size());
+            }
+        } catch (IOException e) {
+            log.warn("Could not clean the upload spool {}", this.spool, e);
+        }
+    }
+
+    private void evictFinished() {
+        final var threshold = InstantUtils.now().minus(FINISHED_JOB_RETENTION);
+        this.jobs.values().removeIf(it -> it.status().isFinished() && it.updatedAt().isBefore(threshold));
+    }
+
+    private record SpooledMedia(VideoMediaType type, Path file, String contentType, String name) {
+
+        Resource resource() throws IOException {
+            return Resource.with(() -> Files.newInputStream(file), Files.size(file), contentType, name);
+        }
+
+        void delete() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete spooled media {}", file, e);
+            }
+        }
+    }
+}
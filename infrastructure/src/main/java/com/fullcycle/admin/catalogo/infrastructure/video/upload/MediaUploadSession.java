@@ -0,0 +1,173 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.upload;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.services.ResumableUpload;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public class MediaUploadSession {
+
+    private final String id;
+    private final VideoID videoId;
+    private final VideoMediaType type;
+    private final String contentType;
+    private final String name;
+    private final Long length;
+    private volatile ResumableUpload upload;
+    private volatile Instant accessedAt;
+
+    private MediaUploadSession(
+            final String id,
+            final VideoID videoId,
+            final VideoMediaType type,
+            final String contentType,
+            final String name,
+            final Long length,
+            final ResumableUpload upload
+    ) {
+        this.id = Objects.requireNonNull(id);
+        this.videoId = Objects.requireNonNull(videoId);
+        this.type = Objects.requireNonNull(type);
+        this.contentType = Objects.requireNonNull(contentType);
+        this.name = Objects.requireNonNull(name);
+        this.length = length;
+        this.upload = Objects.requireNonNull(upload);
+        this.accessedAt = InstantUtils.now();
+    }
+
+    public static MediaUploadSession with(
+            final String id,
+            final VideoID videoId,
+            final VideoMediaType type,
+            final String contentType,
+            final String name,
+            final Long length,
+            final ResumableUpload upload
+    ) {
+        return new MediaUploadSession(id, videoId, type, contentType, name, length, upload);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public VideoID videoId() {
+        return videoId;
+    }
+
+    public VideoMediaType type() {
+        return type;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Long length() {
+        return length;
+    }
+
+    public String stagingId() {
+        return upload.id();
+    }
+
+    public Optional<byte[]> capture() {
+        return upload.capture();
+    }
+
+    public Instant accessedAt() {
+        return accessedAt;
+    }
+
+    MediaUploadSession touch() {
+        this.accessedAt = InstantUtils.now();
+        return this;
+    }
+
+    public long committed() {
+        return upload.committed();
+    }
+
+    /**
+     * A chunk can start anywhere up to the committed offset: bytes that were already committed
+     * by a previous attempt are skipped, so retrying a chunk is safe.
+     */
+    public boolean accepts(final long offset) {
+        return offset >= 0 && offset <= committed();
+    }
+
+    public synchronized long append(final long offset, final InputStream chunk) {
+        final var committed = committed();
+        if (offset > committed) {
+            return committed;
+        }
+
+        try {
+            ByteStreams.limit(chunk, committed - offset).transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return upload.append(chunk);
+    }
+
+    /**
+     * Finalizes the upload, provided it holds the expected checksum. Whenever the upload keeps a
+     * running checksum it is verified before finalizing, so a mismatch leaves the session as it
+     * was. A restored GCS upload only learns its checksum from the finalized object: on a
+     * mismatch that object is deleted and the session starts over on a fresh upload, at offset 0.
+     */
+    public synchronized Resource complete(final String expectedChecksum, final Supplier<ResumableUpload> aRestart) {
+        if (length != null && length != committed()) {
+            throw DomainException.with(new Error(
+                    "Upload %s has %d of %d bytes".formatted(id, committed(), length)
+            ));
+        }
+
+        final var running = upload.checksum();
+        if (running.isPresent() && mismatches(expectedChecksum, running.get())) {
+            throw checksumMismatch(running.get(), expectedChecksum, "");
+        }
+
+        final var aResource = upload.complete();
+
+        if (running.isEmpty() && mismatches(expectedChecksum, aResource.checksum())) {
+            upload.discard();
+            upload = aRestart.get();
+            throw checksumMismatch(aResource.checksum(), expectedChecksum, ", the upload starts over at offset 0");
+        }
+
+        return aResource;
+    }
+
+    public void discard() {
+        upload.discard();
+    }
+
+    private static boolean mismatches(final String expectedChecksum, final String actualChecksum) {
+        return expectedChecksum != null && !expectedChecksum.equalsIgnoreCase(actualChecksum);
+    }
+
+    private DomainException checksumMismatch(final String actualChecksum, final String expectedChecksum, final String outcome) {
+        return DomainException.with(new Error(
+                "Upload %s checksum %s doesn't match %s%s".formatted(id, actualChecksum, expectedChecksum, outcome)
+        ));
+    }
+}
@@ -0,0 +1,248 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.upload;
+
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.video.upload.persistence.MediaUploadSessionJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.upload.persistence.MediaUploadSessionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the resumable uploads of audio and video medias. Chunks are staged next to the video
+ * medias and the media is only attached to the video once the session is finalized. Every
+ * session is also written to MySQL with the state its upload captured after the last chunk, so
+ * the next one may land on another instance, or after a restart, whenever the storage can resume
+ * the upload. Sessions untouched for the TTL are aborted, dropping what they staged.
+ */
+@Component
+public class MediaUploadSessions {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaUploadSessions.class);
+
+    private static final Duration REAP_INTERVAL = Duration.ofMinutes(5);
+
+    private final String locationPattern;
+    private final Duration ttl;
+    private final StorageService storageService;
+    private final UploadMediaUseCase uploadMediaUseCase;
+    private final MediaUploadSessionRepository repository;
+    private final Map<String, MediaUploadSession> sessions;
+    private final AtomicLong nextReap;
+
+    public MediaUploadSessions(
+            final StorageProperties props,
+            final StorageService storageService,
+            final UploadMediaUseCase uploadMediaUseCase,
+            final MediaUploadSessionRepository repository
+    ) {
+        this.locationPattern = props.getLocationPattern();
+        this.ttl = Objects.requireNonNull(props.getUploadSessionTtl());
+        this.storageService = Objects.requireNonNull(storageService);
+        this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.repository = Objects.requireNonNull(repository);
+        this.sessions = new ConcurrentHashMap<>();
+        this.nextReap = new AtomicLong();
+    }
+
+    public MediaUploadSession create(
+            final VideoID anId,
+            final VideoMediaType aType,
+            final String contentType,
+            final String name,
+            final Long length
+    ) {
+        if (aType != VideoMediaType.VIDEO && aType != VideoMediaType.TRAILER) {
+            throw DomainException.with(new Error("Resumable uploads are only supported for VIDEO and TRAILER medias"));
+        }
+
+        if (contentType == null || contentType.isBlank() || name == null || name.isBlank()) {
+            throw DomainException.with(new Error("'content_type' and 'name' are required to start an upload"));
+        }
+
+        reapIfDue();
+
+        final var sessionId = IdUtils.uuid();
+        final var anUpload = this.storageService.startUpload(staging(anId, sessionId), contentType, name);
+        final var aSession = MediaUploadSession.with(sessionId, anId, aType, contentType, name, length, anUpload);
+
+        this.sessions.put(sessionId, aSession);
+        save(aSession);
+        return aSession;
+    }
+
+    public MediaUploadSession get(final VideoID anId, final VideoMediaType aType, final String sessionId) {
+        reapIfDue();
+
+        return find(sessionId)
+                .filter(it -> it.videoId().equals(anId) && it.type() == aType)
+                .map(MediaUploadSession::touch)
+                .orElseThrow(() -> NotFoundException.with(new Error("Upload session %s not found".formatted(sessionId))));
+    }
+
+    /**
+     * Appends the chunk and records how far the upload went, so the next chunk can go to any
+     * instance.
+     */
+    public long append(final MediaUploadSession aSession, final long offset, final InputStream chunk) {
+        synchronized (aSession) {
+            final var committed = aSession.append(offset, chunk);
+            save(aSession);
+            return committed;
+        }
+    }
+
+    public UploadMediaOutput complete(
+            final VideoID anId,
+            final VideoMediaType aType,
+            final String sessionId,
+            final String expectedChecksum
+    ) {
+        final var aSession = get(anId, aType, sessionId);
+        final Resource aResource;
+        synchronized (aSession) {
+            try {
+                aResource = aSession.complete(expectedChecksum, () -> this.storageService.startUpload(
+                        aSession.stagingId(), aSession.contentType(), aSession.name()
+                ));
+            } catch (final DomainException e) {
+                // a session that had to start over is back at offset 0 for every instance
+                save(aSession);
+                throw e;
+            }
+        }
+
+        final var output = this.uploadMediaUseCase.execute(
+                UploadMediaCommand.with(anId.getValue(), VideoResource.with(aType, aResource))
+        );
+
+        forget(sessionId);
+        aSession.discard();
+        return output;
+    }
+
+    public void abort(final VideoID anId, final VideoMediaType aType, final String sessionId) {
+        final var aSession = get(anId, aType, sessionId);
+        forget(sessionId);
+        aSession.discard();
+    }
+
+    /**
+     * Aborts the sessions of every instance that nobody touched for the TTL.
+     */
+    public void reapExpired() {
+        final var threshold = InstantUtils.now().minus(this.ttl);
+
+        for (final var expired : this.repository.findAllByUpdatedAtBefore(threshold)) {
+            Optional.ofNullable(this.sessions.remove(expired.getId()))
+                    .or(() -> resume(expired))
+                    .ifPresent(MediaUploadSession::discard);
+            this.repository.delete(expired);
+            log.info("Aborted upload session {} of video {} after {} idle", expired.getId(), expired.getVideoId(), this.ttl);
+        }
+
+        // the ones left are still going on, only their last chunks went to other instances
+        this.sessions.values().removeIf(it -> it.accessedAt().isBefore(threshold));
+    }
+
+    /**
+     * The session as this instance holds it, unless its last chunks went to another instance or
+     * it was started before a restart: then its upload is resumed from the state recorded.
+     */
+    private Optional<MediaUploadSession> find(final String sessionId) {
+        final var stored = this.repository.findById(sessionId);
+        if (stored.isEmpty()) {
+            this.sessions.remove(sessionId);
+            return Optional.empty();
+        }
+
+        final var local = this.sessions.get(sessionId);
+        if (local != null && local.committed() == stored.get().getCommitted()) {
+            return Optional.of(local);
+        }
+
+        final var resumed = resume(stored.get());
+        resumed.ifPresentOrElse(it -> this.sessions.put(sessionId, it), () -> this.sessions.remove(sessionId));
+        return resumed;
+    }
+
+    private Optional<MediaUploadSession> resume(final MediaUploadSessionJpaEntity aSession) {
+        if (aSession.getState() == null) {
+            return Optional.empty();
+        }
+
+        return this.storageService.resumeUpload(
+                        aSession.getStagingId(),
+                        aSession.getContentType(),
+                        aSession.getName(),
+                        aSession.getCommitted(),
+                        aSession.getState()
+                )
+                .map(anUpload -> MediaUploadSession.with(
+                        aSession.getId(),
+                        VideoID.from(aSession.getVideoId()),
+                        aSession.getType(),
+                        aSession.getContentType(),
+                        aSession.getName(),
+                        aSession.getLength(),
+                        anUpload
+                ));
+    }
+
+    private void save(final MediaUploadSession aSession) {
+        this.repository.save(MediaUploadSessionJpaEntity.with(
+                aSession.id(),
+                aSession.videoId().getValue(),
+                aSession.type(),
+                aSession.stagingId(),
+                aSession.contentType(),
+                aSession.name(),
+                aSession.length(),
+                aSession.committed(),
+                aSession.capture().orElse(null)
+        ));
+    }
+
+    private void forget(final String sessionId) {
+        this.sessions.remove(sessionId);
+        this.repository.findById(sessionId).ifPresent(this.repository::delete);
+    }
+
+    private void reapIfDue() {
+        final var now = System.currentTimeMillis();
+        final var due = this.nextReap.get();
+        if (now >= due && this.nextReap.compareAndSet(due, now + REAP_INTERVAL.toMillis())) {
+            try {
+                reapExpired();
+            } catch (final RuntimeException e) {
+                log.warn("Could not abort the expired upload sessions", e);
+            }
+        }
+    }
+
+    private String staging(final VideoID anId, final String sessionId) {
+        return locationPattern.replace("{videoId}", anId.getValue())
+                .concat("/upload-")
+                .concat(sessionId);
+    }
+}
@@ -0,0 +1,180 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.upload.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity(name = "MediaUploadSession")
+@Table(name = "media_upload_sessions")
+public class MediaUploadSessionJpaEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "media_type", nullable = false)
+    private VideoMediaType type;
+
+    @Column(name = "staging_id", nullable = false)
+    private String stagingId;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "content_length")
+    private Long length;
+
+    @Column(name = "committed", nullable = false)
+    private long committed;
+
+    @Lob
+    @Column(name = "upload_state", columnDefinition = "MEDIUMBLOB")
+    private byte[] state;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    public MediaUploadSessionJpaEntity() {
+    }
+
+    private MediaUploadSessionJpaEntity(
+            final String id,
+            final String videoId,
+            final VideoMediaType type,
+            final String stagingId,
+            final String contentType,
+            final String name,
+            final Long length,
+            final long committed,
+            final byte[] state,
+            final Instant updatedAt
+    ) {
+        this.id = id;
+        this.videoId = videoId;
+        this.type = type;
+        this.stagingId = stagingId;
+        this.contentType = contentType;
+        this.name = name;
+        this.length = length;
+        this.committed = committed;
+        this.state = state;
+        this.updatedAt = updatedAt;
+    }
+
+    public static MediaUploadSessionJpaEntity with(
+            final String id,
+            final String videoId,
+            final VideoMediaType type,
+            final String stagingId,
+            final String contentType,
+            final String name,
+            final Long length,
+            final long committed,
+            final byte[] state
+    ) {
+        return new MediaUploadSessionJpaEntity(id, videoId, type, stagingId, contentType, name, length, committed, state, Instant.now());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public MediaUploadSessionJpaEntity setId(String id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public MediaUploadSessionJpaEntity setVideoId(String videoId) {
+        this.videoId = videoId;
+        return this;
+    }
+
+    public VideoMediaType getType() {
+        return type;
+    }
+
+    public MediaUploadSessionJpaEntity setType(VideoMediaType type) {
+        this.type = type;
+        return this;
+    }
+
+    public String getStagingId() {
+        return stagingId;
+    }
+
+    public MediaUploadSessionJpaEntity setStagingId(String stagingId) {
+        this.stagingId = stagingId;
+        return this;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public MediaUploadSessionJpaEntity setContentType(String contentType) {
+        this.contentType = contentType;
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public MediaUploadSessionJpaEntity setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public Long getLength() {
+        return length;
+    }
+
+    public MediaUploadSessionJpaEntity setLength(Long length) {
+        this.length = length;
+        return this;
+    }
+
+    public long getCommitted() {
+        return committed;
+    }
+
+    public MediaUploadSessionJpaEntity setCommitted(long committed) {
+        this.committed = committed;
+        return this;
+    }
+
+    public byte[] getState() {
+        return state;
+    }
+
+    public MediaUploadSessionJpaEntity setState(byte[] state) {
+        this.state = state;
+        return this;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public MediaUploadSessionJpaEntity setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+        return this;
+    }
+}
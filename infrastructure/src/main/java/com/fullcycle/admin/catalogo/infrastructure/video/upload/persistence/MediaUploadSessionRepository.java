@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.upload.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface MediaUploadSessionRepository extends JpaRepository<MediaUploadSessionJpaEntity, String> {
+
+    List<MediaUploadSessionJpaEntity> findAllByUpdatedAtBefore(Instant threshold);
+}
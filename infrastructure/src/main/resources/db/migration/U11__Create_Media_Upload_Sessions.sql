@@ -0,0 +1 @@
+DROP TABLE media_upload_sessions;
\ No newline at end of file
@@ -0,0 +1,14 @@
+CREATE TABLE media_upload_sessions (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    video_id CHAR(32) NOT NULL,
+    media_type VARCHAR(32) NOT NULL,
+    staging_id VARCHAR(500) NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    content_length BIGINT NULL,
+    committed BIGINT NOT NULL,
+    upload_state MEDIUMBLOB NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_media_upload_sessions_updated_at ON media_upload_sessions (updated_at);
@@ -0,0 +1,15 @@
+CREATE TABLE media_blobs (
+    blob_key VARCHAR(255) NOT NULL PRIMARY KEY,
+    checksum VARCHAR(255) NOT NULL,
+    content_length BIGINT NOT NULL,
+    ref_count INT NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE TABLE media_blob_references (
+    id VARCHAR(500) NOT NULL PRIMARY KEY,
+    blob_key VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    CONSTRAINT fk_mbr_blob_key FOREIGN KEY (blob_key) REFERENCES media_blobs (blob_key)
+);
@@ -0,0 +1,7 @@
+CREATE TABLE processed_encoder_results (
+    id CHAR(64) NOT NULL PRIMARY KEY,
+    video_id CHAR(32) NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_processed_encoder_results_created_at ON processed_encoder_results (created_at);
@@ -1,8 +1,12 @@
 package com.fullcycle.admin.catalogo;
 
+import com.fullcycle.admin.catalogo.infrastructure.amqp.persistence.ProcessedEncoderResultRepository;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.services.dedup.persistence.MediaBlobReferenceRepository;
+import com.fullcycle.admin.catalogo.infrastructure.services.dedup.persistence.MediaBlobRepository;
+import com.fullcycle.admin.catalogo.infrastructure.services.outbox.persistence.OutboxEventRepository;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -22,7 +26,11 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
                 appContext.getBean(VideoRepository.class),
                 appContext.getBean(CastMemberRepository.class),
                 appContext.getBean(GenreRepository.class),
-                appContext.getBean(CategoryRepository.class)
+                appContext.getBean(CategoryRepository.class),
+                appContext.getBean(MediaBlobReferenceRepository.class),
+                appContext.getBean(MediaBlobRepository.class),
+                appContext.getBean(OutboxEventRepository.class),
+                appContext.getBean(ProcessedEncoderResultRepository.class)
         ));
     }
 
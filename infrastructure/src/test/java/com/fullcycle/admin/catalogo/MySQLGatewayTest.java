@@ -1,5 +1,7 @@
 package com.fullcycle.admin.catalogo;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.CacheConfig;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.SearchConfig;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -17,7 +19,8 @@ import java.lang.annotation.*;
         basePackages = "com.fullcycle.admin.catalogo",
         useDefaultFilters = false,
         includeFilters = {
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway")
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway"),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {SearchConfig.class, CacheConfig.class})
         }
 )
 @DataJpaTest
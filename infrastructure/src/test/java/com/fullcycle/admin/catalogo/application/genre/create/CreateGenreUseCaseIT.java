@@ -53,7 +53,7 @@ public class CreateGenreUseCaseIT {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        final var actualGenre = genreRepository.findById(actualOutput.id()).get();
+        final var actualGenre = genreRepository.findWithCategoriesById(actualOutput.id()).get();
 
         Assertions.assertEquals(expectedName, actualGenre.getName());
         Assertions.assertEquals(expectedIsActive, actualGenre.isActive());
@@ -83,7 +83,7 @@ public class CreateGenreUseCaseIT {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        final var actualGenre = genreRepository.findById(actualOutput.id()).get();
+        final var actualGenre = genreRepository.findWithCategoriesById(actualOutput.id()).get();
 
         Assertions.assertEquals(expectedName, actualGenre.getName());
         Assertions.assertEquals(expectedIsActive, actualGenre.isActive());
@@ -113,7 +113,7 @@ public class CreateGenreUseCaseIT {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        final var actualGenre = genreRepository.findById(actualOutput.id()).get();
+        final var actualGenre = genreRepository.findWithCategoriesById(actualOutput.id()).get();
 
         Assertions.assertEquals(expectedName, actualGenre.getName());
         Assertions.assertEquals(expectedIsActive, actualGenre.isActive());
@@ -59,7 +59,7 @@ public class UpdateGenreUseCaseIT {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
 
-        final var actualGenre = genreRepository.findById(aGenre.getId().getValue()).get();
+        final var actualGenre = genreRepository.findWithCategoriesById(aGenre.getId().getValue()).get();
 
         Assertions.assertEquals(expectedName, actualGenre.getName());
         Assertions.assertEquals(expectedIsActive, actualGenre.isActive());
@@ -102,7 +102,7 @@ public class UpdateGenreUseCaseIT {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
 
-        final var actualGenre = genreRepository.findById(aGenre.getId().getValue()).get();
+        final var actualGenre = genreRepository.findWithCategoriesById(aGenre.getId().getValue()).get();
 
         Assertions.assertEquals(expectedName, actualGenre.getName());
         Assertions.assertEquals(expectedIsActive, actualGenre.isActive());
@@ -142,7 +142,7 @@ public class UpdateGenreUseCaseIT {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
 
-        final var actualGenre = genreRepository.findById(aGenre.getId().getValue()).get();
+        final var actualGenre = genreRepository.findWithCategoriesById(aGenre.getId().getValue()).get();
 
         Assertions.assertEquals(expectedName, actualGenre.getName());
         Assertions.assertEquals(expectedIsActive, actualGenre.isActive());
@@ -63,7 +63,7 @@ public class GenreE2ETest implements MockDsl {
                 final var actualId =
                                 givenAGenre(expectedName, expectedIsActive, expectedCategories);
 
-                final var actualGenre = genreRepository.findById(actualId.getValue()).get();
+                final var actualGenre = genreRepository.findWithCategoriesById(actualId.getValue()).get();
 
                 Assertions.assertEquals(expectedName, actualGenre.getName());
                 Assertions.assertEquals(expectedIsActive, actualGenre.isActive());
@@ -90,7 +90,7 @@ public class GenreE2ETest implements MockDsl {
                 final var actualId =
                                 givenAGenre(expectedName, expectedIsActive, expectedCategories);
 
-                final var actualGenre = genreRepository.findById(actualId.getValue()).get();
+                final var actualGenre = genreRepository.findWithCategoriesById(actualId.getValue()).get();
 
                 Assertions.assertEquals(expectedName, actualGenre.getName());
                 Assertions.assertEquals(expectedIsActive, actualGenre.isActive());
@@ -234,7 +234,7 @@ public class GenreE2ETest implements MockDsl {
 
                 updateAGenre(actualId, aRequestBody).andExpect(status().isOk());
 
-                final var actualGenre = genreRepository.findById(actualId.getValue()).get();
+                final var actualGenre = genreRepository.findWithCategoriesById(actualId.getValue()).get();
 
                 Assertions.assertEquals(expectedName, actualGenre.getName());
                 Assertions.assertTrue(
@@ -266,7 +266,7 @@ public class GenreE2ETest implements MockDsl {
 
                 updateAGenre(actualId, aRequestBody).andExpect(status().isOk());
 
-                final var actualGenre = genreRepository.findById(actualId.getValue()).get();
+                final var actualGenre = genreRepository.findWithCategoriesById(actualId.getValue()).get();
 
                 Assertions.assertEquals(expectedName, actualGenre.getName());
                 Assertions.assertTrue(
@@ -295,7 +295,7 @@ public class GenreE2ETest implements MockDsl {
 
                 updateAGenre(actualId, aRequestBody).andExpect(status().isOk());
 
-                final var actualGenre = genreRepository.findById(actualId.getValue()).get();
+                final var actualGenre = genreRepository.findWithCategoriesById(actualId.getValue()).get();
 
                 Assertions.assertEquals(expectedName, actualGenre.getName());
                 Assertions.assertEquals(expectedCategories, actualGenre.getCategoryIDs());
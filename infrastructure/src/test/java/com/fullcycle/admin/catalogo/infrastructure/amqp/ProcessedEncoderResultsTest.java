@@ -0,0 +1,129 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.infrastructure.amqp.persistence.ProcessedEncoderResultRepository;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoEncodedQueue;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.ListenerProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@IntegrationTest
+public class ProcessedEncoderResultsTest {
+
+    @Autowired
+    private ProcessedEncoderResults processedEncoderResults;
+
+    @Autowired
+    private ProcessedEncoderResultRepository repository;
+
+    @Autowired
+    @VideoEncodedQueue
+    private ListenerProperties props;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    public void givenRepeatedCommands_whenCallsUnprocessed_shouldKeepTheFirstOfEachInOrder() {
+        // given
+        final var aVideoId = IdUtils.uuid();
+        final var processing = command(MediaStatus.PROCESSING, aVideoId, "resource", null, null);
+        final var completed = command(MediaStatus.COMPLETED, aVideoId, "resource", "folder", "file.mp4");
+        final var completedElsewhere = command(MediaStatus.COMPLETED, aVideoId, "resource", "folder", "other.mp4");
+
+        // when
+        final var actualCommands = processedEncoderResults.unprocessed(
+                List.of(processing, completed, processing, completedElsewhere, completed)
+        );
+
+        // then
+        Assertions.assertEquals(List.of(processing, completed, completedElsewhere), actualCommands);
+    }
+
+    @Test
+    public void givenCommittedCommands_whenCallsUnprocessed_shouldDropThem() {
+        // given
+        final var aVideoId = IdUtils.uuid();
+        final var processed = command(MediaStatus.COMPLETED, aVideoId, "video", "folder", "file.mp4");
+        final var fresh = command(MediaStatus.COMPLETED, aVideoId, "trailer", "folder", "file.mp4");
+
+        transactionTemplate.executeWithoutResult(status -> processedEncoderResults.markProcessed(List.of(processed)));
+
+        // when
+        final var actualCommands = processedEncoderResults.unprocessed(List.of(processed, fresh));
+
+        // then
+        Assertions.assertEquals(List.of(fresh), actualCommands);
+        Assertions.assertEquals(1, repository.count());
+    }
+
+    @Test
+    public void givenCommandsProcessedBeforeARestart_whenCallsUnprocessed_shouldDropThemFromTheTable() {
+        // given
+        final var processed = command(MediaStatus.COMPLETED, IdUtils.uuid(), "video", "folder", "file.mp4");
+        transactionTemplate.executeWithoutResult(status -> processedEncoderResults.markProcessed(List.of(processed)));
+
+        final var restarted = new ProcessedEncoderResults(repository, props);
+
+        // when
+        final var actualCommands = restarted.unprocessed(List.of(processed));
+
+        // then
+        Assertions.assertTrue(actualCommands.isEmpty());
+    }
+
+    @Test
+    public void givenARolledBackTransaction_whenCallsUnprocessed_shouldKeepTheCommands() {
+        // given
+        final var aCmd = command(MediaStatus.COMPLETED, IdUtils.uuid(), "video", "folder", "file.mp4");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            processedEncoderResults.markProcessed(List.of(aCmd));
+            status.setRollbackOnly();
+        });
+
+        // when
+        final var actualCommands = processedEncoderResults.unprocessed(List.of(aCmd));
+
+        // then
+        Assertions.assertEquals(List.of(aCmd), actualCommands);
+        Assertions.assertEquals(0, repository.count());
+    }
+
+    @Test
+    public void givenNoTransaction_whenCallsMarkProcessed_shouldFail() {
+        final var aCmd = command(MediaStatus.COMPLETED, IdUtils.uuid(), "video", "folder", "file.mp4");
+
+        Assertions.assertThrows(
+                IllegalTransactionStateException.class,
+                () -> processedEncoderResults.markProcessed(List.of(aCmd))
+        );
+    }
+
+    private static UpdateMediaStatusCommand command(
+            final MediaStatus status,
+            final String videoId,
+            final String resourceId,
+            final String folder,
+            final String filename
+    ) {
+        return UpdateMediaStatusCommand.with(status, videoId, resourceId, folder, filename);
+    }
+}
@@ -1,13 +1,12 @@
 package com.fullcycle.admin.catalogo.infrastructure.amqp;
 
 import com.fullcycle.admin.catalogo.AmqpTest;
+import com.fullcycle.admin.catalogo.application.video.media.update.BatchUpdateMediaStatusOutput;
+import com.fullcycle.admin.catalogo.application.video.media.update.BatchUpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
-import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
-import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoEncodedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
-import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderCompleted;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderError;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoMessage;
@@ -15,32 +14,36 @@ import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoMetadata;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import com.rabbitmq.client.Channel;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
 import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
-import org.springframework.amqp.rabbit.test.TestRabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.*;
 
 @AmqpTest
 public class VideoEncoderListenerTest {
 
         @Autowired
-        private TestRabbitTemplate rabbitTemplate;
+        private RabbitListenerEndpointRegistry registry;
 
         @Autowired
         private RabbitListenerTestHarness harness;
 
         @MockBean
-        private UpdateMediaStatusUseCase updateMediaStatusUseCase;
+        private BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase;
 
-        @Autowired
-        @VideoEncodedQueue
-        private QueueProperties queueProperties;
 
         @Test
         public void givenErrorResult_whenCallsListener_shouldProcess() throws InterruptedException {
@@ -53,7 +56,7 @@ public class VideoEncoderListenerTest {
                 final var expectedMessage = Json.writeValueAsString(expectedError);
 
                 // when
-                this.rabbitTemplate.convertAndSend(queueProperties.getQueue(), expectedMessage);
+                deliver(expectedMessage);
 
                 // then
                 final var invocationData = harness.getNextInvocationDataFor(VideoEncoderListener.LISTENER_ID, 1, TimeUnit.SECONDS);
@@ -61,8 +64,10 @@ public class VideoEncoderListenerTest {
                 Assertions.assertNotNull(invocationData);
                 Assertions.assertNotNull(invocationData.getArguments());
 
-                final var actualMessage = (String) invocationData.getArguments()[0];
-                Assertions.assertEquals(expectedMessage, actualMessage);
+                final var actualMessages = (List<?>) invocationData.getArguments()[0];
+                Assertions.assertEquals(List.of(expectedMessage), actualMessages);
+
+                verify(batchUpdateMediaStatusUseCase, never()).execute(any());
         }
 
         @Test
@@ -80,10 +85,11 @@ public class VideoEncoderListenerTest {
 
                 final var expectedMessage = Json.writeValueAsString(aResult);
 
-                doNothing().when(updateMediaStatusUseCase).execute(any());
+                when(batchUpdateMediaStatusUseCase.execute(any()))
+                        .thenReturn(new BatchUpdateMediaStatusOutput(List.of(expectedId), List.of()));
 
                 // when
-                this.rabbitTemplate.convertAndSend(queueProperties.getQueue(), expectedMessage);
+                deliver(expectedMessage);
 
                 // then
                 final var invocationData = harness.getNextInvocationDataFor(VideoEncoderListener.LISTENER_ID, 1, TimeUnit.SECONDS);
@@ -91,17 +97,102 @@ public class VideoEncoderListenerTest {
                 Assertions.assertNotNull(invocationData);
                 Assertions.assertNotNull(invocationData.getArguments());
 
-                final var actualMessage = (String) invocationData.getArguments()[0];
-                Assertions.assertEquals(expectedMessage, actualMessage);
+                final var actualMessages = (List<?>) invocationData.getArguments()[0];
+                Assertions.assertEquals(List.of(expectedMessage), actualMessages);
+
+                @SuppressWarnings("unchecked") final ArgumentCaptor<List<UpdateMediaStatusCommand>> cmdCaptor = ArgumentCaptor.forClass(List.class);
+                verify(batchUpdateMediaStatusUseCase).execute(cmdCaptor.capture());
 
-                final var cmdCaptor = ArgumentCaptor.forClass(UpdateMediaStatusCommand.class);
-                verify(updateMediaStatusUseCase).execute(cmdCaptor.capture());
+                Assertions.assertEquals(1, cmdCaptor.getValue().size());
 
-                final var actualCommand = cmdCaptor.getValue();
+                final var actualCommand = cmdCaptor.getValue().get(0);
                 Assertions.assertEquals(expectedStatus, actualCommand.status());
                 Assertions.assertEquals(expectedId, actualCommand.videoId());
                 Assertions.assertEquals(expectedResourceId, actualCommand.resourceId());
                 Assertions.assertEquals(expectedEncoderVideoFolder, actualCommand.folder());
                 Assertions.assertEquals(expectedFilePath, actualCommand.filename());
         }
+
+        @Test
+        public void givenABatchOfResults_whenCallsListener_shouldUpdateThemInASingleCall() throws InterruptedException {
+                // given
+                final var expectedId = IdUtils.uuid();
+                final var aCompleted = new VideoEncoderCompleted(
+                        expectedId,
+                        "codeeducationtest",
+                        new VideoMetadata("anyfolder", IdUtils.uuid(), "any.mp4")
+                );
+                final var aTrailerCompleted = new VideoEncoderCompleted(
+                        expectedId,
+                        "codeeducationtest",
+                        new VideoMetadata("anyfolder", IdUtils.uuid(), "trailer.mp4")
+                );
+                final var anError = new VideoEncoderError(new VideoMessage("123", "abc"), "Video not found");
+
+                when(batchUpdateMediaStatusUseCase.execute(any()))
+                        .thenReturn(new BatchUpdateMediaStatusOutput(List.of(expectedId), List.of()));
+
+                // when
+                deliver(
+                        Json.writeValueAsString(aCompleted),
+                        Json.writeValueAsString(anError),
+                        "not a json",
+                        Json.writeValueAsString(aTrailerCompleted)
+                );
+
+                // then
+                final var invocationData = harness.getNextInvocationDataFor(VideoEncoderListener.LISTENER_ID, 1, TimeUnit.SECONDS);
+
+                Assertions.assertNotNull(invocationData);
+                Assertions.assertEquals(4, ((List<?>) invocationData.getArguments()[0]).size());
+
+                @SuppressWarnings("unchecked") final ArgumentCaptor<List<UpdateMediaStatusCommand>> cmdCaptor = ArgumentCaptor.forClass(List.class);
+                verify(batchUpdateMediaStatusUseCase, times(1)).execute(cmdCaptor.capture());
+
+                final var actualCommands = cmdCaptor.getValue();
+                Assertions.assertEquals(2, actualCommands.size());
+                Assertions.assertEquals(aCompleted.video().resourceId(), actualCommands.get(0).resourceId());
+                Assertions.assertEquals(aTrailerCompleted.video().resourceId(), actualCommands.get(1).resourceId());
+        }
+
+        @Test
+        public void givenARedeliveredResult_whenCallsListener_shouldUpdateItOnce() throws InterruptedException {
+                // given
+                final var expectedId = IdUtils.uuid();
+                final var aResult = new VideoEncoderCompleted(
+                        expectedId,
+                        "codeeducationtest",
+                        new VideoMetadata("anyfolder", IdUtils.uuid(), "any.mp4")
+                );
+                final var expectedMessage = Json.writeValueAsString(aResult);
+
+                when(batchUpdateMediaStatusUseCase.execute(any()))
+                        .thenReturn(new BatchUpdateMediaStatusOutput(List.of(expectedId), List.of()));
+
+                // when
+                deliver(expectedMessage, expectedMessage);
+                deliver(expectedMessage);
+
+                // then
+                Assertions.assertNotNull(harness.getNextInvocationDataFor(VideoEncoderListener.LISTENER_ID, 1, TimeUnit.SECONDS));
+                Assertions.assertNotNull(harness.getNextInvocationDataFor(VideoEncoderListener.LISTENER_ID, 1, TimeUnit.SECONDS));
+
+                @SuppressWarnings("unchecked") final ArgumentCaptor<List<UpdateMediaStatusCommand>> cmdCaptor = ArgumentCaptor.forClass(List.class);
+                verify(batchUpdateMediaStatusUseCase, times(1)).execute(cmdCaptor.capture());
+                Assertions.assertEquals(1, cmdCaptor.getValue().size());
+        }
+
+        private void deliver(final String... messages) {
+                final var container = (AbstractMessageListenerContainer) registry.getListenerContainer(VideoEncoderListener.LISTENER_ID);
+                final var listener = (ChannelAwareBatchMessageListener) container.getMessageListener();
+
+                listener.onMessageBatch(
+                        Arrays.stream(messages)
+                                .map(it -> MessageBuilder.withBody(it.getBytes(StandardCharsets.UTF_8))
+                                        .setContentType(MessageProperties.CONTENT_TYPE_TEXT_PLAIN)
+                                        .build())
+                                .toList(),
+                        mock(Channel.class)
+                );
+        }
 }
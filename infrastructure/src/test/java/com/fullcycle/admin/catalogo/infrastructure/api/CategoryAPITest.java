@@ -17,6 +17,7 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
@@ -24,6 +25,7 @@ import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategor
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -211,6 +213,66 @@ public class CategoryAPITest {
         verify(getCategoryByIdUseCase, times(1)).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenTheCurrentETag_whenCallsGetCategory_shouldReturnNotModified() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        final var anETag = this.mvc.perform(get("/categories/{id}", expectedId).with(ApiTest.CATEGORIES_JWT))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        final var request = get("/categories/{id}", expectedId)
+                .with(ApiTest.CATEGORIES_JWT)
+                .header(HttpHeaders.IF_NONE_MATCH, anETag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request);
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, anETag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void givenAnUpdatedCategory_whenCallsGetCategoryWithThePreviousETag_shouldReturnIt() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        final var previousETag = this.mvc.perform(get("/categories/{id}", expectedId).with(ApiTest.CATEGORIES_JWT))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Thread.sleep(1);
+        aCategory.update("Filmes", "A categoria mais assistida", false);
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        // when
+        final var request = get("/categories/{id}", expectedId)
+                .with(ApiTest.CATEGORIES_JWT)
+                .header(HttpHeaders.IF_NONE_MATCH, previousETag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(equalTo(previousETag))))
+                .andExpect(jsonPath("$.is_active", equalTo(false)));
+    }
+
     @Test
     public void givenAInvalidId_whenCallsGetCategory_shouldReturnNotFound() throws Exception {
         // given
@@ -424,4 +486,99 @@ public class CategoryAPITest {
                         && Objects.equals(expectedTerms, query.terms())
         ));
     }
+
+    @Test
+    public void givenACursor_whenCallsListCategories_shouldPassItAndReturnTheNextCursor() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        final var expectedPerPage = 10;
+        final var expectedCursor = "WyJuYW1lIiwiQW5pbWVzIiwiMTIzIl0";
+        final var expectedNextCursor = "WyJuYW1lIiwiTW92aWVzIiwiNDU2Il0";
+
+        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, expectedPerPage, Pagination.UNCOUNTED, expectedItems, expectedNextCursor));
+
+        // when
+        final var request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("sort", "name")
+                .queryParam("cursor", expectedCursor)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNCOUNTED)))
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(aCategory.getId().getValue())));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedCursor, query.cursor())
+                        && query.isCursor()
+                        && Objects.equals(expectedPerPage, query.perPage())
+        ));
+    }
+
+    @Test
+    public void givenWithTotalFalse_whenCallsListCategories_shouldNotAskForTheTotalAndReturnHasNext() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        final var expectedPerPage = 1;
+        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, expectedPerPage, Pagination.UNCOUNTED, expectedItems, null, true));
+
+        // when
+        final var request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("with_total", "false")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNCOUNTED)))
+                .andExpect(jsonPath("$.has_next", equalTo(true)))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                TotalMode.NONE == query.total() && !query.isCursor()
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidWithTotal_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedMessage = "'with_total' should be true, false or estimated";
+
+        // when
+        final var request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("with_total", "maybe")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedMessage)));
+
+        verify(listCategoriesUseCase, times(0)).execute(any());
+    }
 }
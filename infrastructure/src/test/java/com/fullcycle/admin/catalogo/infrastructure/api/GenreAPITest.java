@@ -25,6 +25,7 @@ import com.fullcycle.admin.catalogo.infrastructure.genre.models.UpdateGenreReque
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -177,6 +178,50 @@ public class GenreAPITest {
         verify(getGenreByIdUseCase).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenTheCurrentETag_whenCallsGetGenreById_shouldReturnNotModified() throws Exception {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true)
+                .addCategories(List.of(CategoryID.from("123")));
+
+        final var expectedId = aGenre.getId().getValue();
+
+        when(getGenreByIdUseCase.execute(any()))
+                .thenReturn(GenreOutput.from(aGenre));
+
+        final var anETag = this.mvc.perform(get("/genres/{id}", expectedId).with(ApiTest.GENRES_JWT))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        final var aRequest = get("/genres/{id}", expectedId)
+                .with(ApiTest.GENRES_JWT)
+                .header(HttpHeaders.IF_NONE_MATCH, anETag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // a deleted category leaves the genre without it but doesn't touch its updatedAt
+        final var current = GenreOutput.from(aGenre);
+        when(getGenreByIdUseCase.execute(any()))
+                .thenReturn(new GenreOutput(
+                        current.id(),
+                        current.name(),
+                        current.isActive(),
+                        List.of(),
+                        current.createdAt(),
+                        current.updatedAt(),
+                        current.deletedAt()
+                ));
+
+        this.mvc.perform(aRequest)
+                .andExpect(status().isOk());
+    }
+
     @Test
     public void givenAnInvalidId_whenCallsGetGenreById_shouldReturnNotFound() throws Exception {
         // given
@@ -0,0 +1,169 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalogo.ApiTest;
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateUploadSessionRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.upload.MediaUploadSession;
+import com.fullcycle.admin.catalogo.infrastructure.video.upload.MediaUploadSessions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ControllerTest(controllers = MediaUploadAPI.class)
+public class MediaUploadAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @MockBean
+    private MediaUploadSessions mediaUploadSessions;
+
+    @Test
+    public void givenAValidRequest_whenCallsCreate_shouldReturnTheSession() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var aSession = session(expectedId, expectedType);
+
+        when(mediaUploadSessions.create(any(), any(), any(), any(), any())).thenReturn(aSession);
+
+        final var aRequest = post("/videos/{id}/medias/{type}/uploads", expectedId.getValue(), "video")
+                .with(ApiTest.VIDEOS_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(new CreateUploadSessionRequest("video/mp4", "video.mp4", 8L)));
+
+        // when
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, "/videos/%s/medias/VIDEO/uploads/%s".formatted(expectedId.getValue(), aSession.id())))
+                .andExpect(header().string(MediaUploadAPI.UPLOAD_OFFSET, "0"))
+                .andExpect(jsonPath("$.session_id", equalTo(aSession.id())))
+                .andExpect(jsonPath("$.offset", equalTo(0)));
+
+        verify(mediaUploadSessions).create(eq(expectedId), eq(expectedType), eq("video/mp4"), eq("video.mp4"), eq(8L));
+    }
+
+    @Test
+    public void givenAChunkAtTheCommittedOffset_whenCallsAppend_shouldReturnTheNewOffset() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var aSession = session(expectedId, VideoMediaType.VIDEO);
+
+        when(mediaUploadSessions.get(any(), any(), any())).thenReturn(aSession);
+        when(mediaUploadSessions.append(any(), anyLong(), any()))
+                .thenAnswer(t -> aSession.append(t.getArgument(1), t.getArgument(2)));
+
+        final var aRequest = put("/videos/{id}/medias/{type}/uploads/{sessionId}", expectedId.getValue(), "VIDEO", aSession.id())
+                .with(ApiTest.VIDEOS_JWT)
+                .header(MediaUploadAPI.UPLOAD_OFFSET, 0)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content("Conteudo".getBytes());
+
+        // when
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(MediaUploadAPI.UPLOAD_OFFSET, "8"))
+                .andExpect(jsonPath("$.offset", equalTo(8)));
+    }
+
+    @Test
+    public void givenAChunkAheadOfTheCommittedOffset_whenCallsAppend_shouldReturnConflict() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var aSession = session(expectedId, VideoMediaType.VIDEO);
+
+        when(mediaUploadSessions.get(any(), any(), any())).thenReturn(aSession);
+
+        final var aRequest = put("/videos/{id}/medias/{type}/uploads/{sessionId}", expectedId.getValue(), "VIDEO", aSession.id())
+                .with(ApiTest.VIDEOS_JWT)
+                .header(MediaUploadAPI.UPLOAD_OFFSET, 4)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content("udo".getBytes());
+
+        // when
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isConflict())
+                .andExpect(header().string(MediaUploadAPI.UPLOAD_OFFSET, "0"));
+    }
+
+    @Test
+    public void givenAnInvalidSession_whenCallsGetById_shouldReturnNotFound() throws Exception {
+        // given
+        final var expectedErrorMessage = "Upload session 123 not found";
+
+        when(mediaUploadSessions.get(any(), any(), any()))
+                .thenThrow(NotFoundException.with(new Error(expectedErrorMessage)));
+
+        final var aRequest = get("/videos/{id}/medias/{type}/uploads/{sessionId}", "abc", "VIDEO", "123")
+                .with(ApiTest.VIDEOS_JWT);
+
+        // when
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenACompleteSession_whenCallsFinalize_shouldReturnTheMedia() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+
+        when(mediaUploadSessions.complete(any(), any(), any(), any()))
+                .thenReturn(new UploadMediaOutput(expectedId.getValue(), expectedType));
+
+        final var aRequest = post("/videos/{id}/medias/{type}/uploads/{sessionId}/finalize", expectedId.getValue(), "trailer", "123")
+                .with(ApiTest.VIDEOS_JWT);
+
+        // when
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, "/videos/%s/medias/TRAILER".formatted(expectedId.getValue())))
+                .andExpect(jsonPath("$.video_id", equalTo(expectedId.getValue())))
+                .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())));
+
+        verify(mediaUploadSessions).complete(eq(expectedId), eq(expectedType), eq("123"), isNull());
+    }
+
+    private MediaUploadSession session(final VideoID anId, final VideoMediaType aType) {
+        final var anUpload = new InMemoryStorageService().startUpload("upload", "video/mp4", "video.mp4");
+        return MediaUploadSession.with("123", anId, aType, "video/mp4", "video.mp4", 8L, anUpload);
+    }
+}
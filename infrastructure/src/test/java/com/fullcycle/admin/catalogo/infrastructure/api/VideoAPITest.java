@@ -6,12 +6,20 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ACCEPT_RANGES;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 import static org.springframework.http.HttpHeaders.CONTENT_LENGTH;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.IF_RANGE;
+import static org.springframework.http.HttpHeaders.LAST_MODIFIED;
 import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.HttpHeaders.RANGE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
@@ -24,15 +32,20 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.multipart.MultipartFile;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ApiTest;
 import com.fullcycle.admin.catalogo.ControllerTest;
@@ -60,6 +73,7 @@ import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
@@ -68,6 +82,8 @@ import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
 import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.upload.MediaUploadJob;
+import com.fullcycle.admin.catalogo.infrastructure.video.upload.MediaUploadJobs;
 
 @ControllerTest(controllers = VideoAPI.class)
 public class VideoAPITest {
@@ -99,6 +115,12 @@ public class VideoAPITest {
         @MockBean
         private UploadMediaUseCase uploadMediaUseCase;
 
+        @MockBean
+        private MediaUploadJobs mediaUploadJobs;
+
+        @Captor
+        private ArgumentCaptor<Map<VideoMediaType, MultipartFile>> mediasCaptor;
+
         @Test
         public void givenAValidCommand_whenCallsCreateFull_shouldReturnAnId() throws Exception {
                 // given
@@ -343,6 +365,45 @@ public class VideoAPITest {
         }
 
 
+        @Test
+        public void givenTheCurrentETag_whenCallsGetById_shouldReturnNotModified() throws Exception {
+                // given
+                final var aVideo = Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.duration(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Fixture.Videos.rating(),
+                        Set.of(Fixture.Categories.aulas().getId()),
+                        Set.of(Fixture.Genres.tech().getId()),
+                        Set.of(Fixture.CastMembers.wesley().getId())
+                );
+
+                final var expectedId = aVideo.getId().getValue();
+
+                when(getVideoByIdUseCase.execute(any())).thenReturn(VideoOutput.from(aVideo));
+
+                final var anETag = this.mvc.perform(get("/videos/{id}", expectedId).with(ApiTest.GENRES_JWT))
+                        .andExpect(status().isOk())
+                        .andExpect(header().exists(LAST_MODIFIED))
+                        .andReturn().getResponse().getHeader(ETAG);
+
+                // when
+                final var aRequest = get("/videos/{id}", expectedId)
+                        .with(ApiTest.GENRES_JWT)
+                        .header(IF_NONE_MATCH, anETag)
+                        .accept(MediaType.APPLICATION_JSON);
+
+                final var response = this.mvc.perform(aRequest);
+
+                // then
+                response.andExpect(status().isNotModified())
+                        .andExpect(header().string(ETAG, anETag))
+                        .andExpect(content().string(""));
+        }
+
         @Test
         public void givenAValidCommand_whenCallsUpdateVideo_shouldReturnVideoId() throws Exception {
                 // given
@@ -612,7 +673,7 @@ public class VideoAPITest {
                 final var expectedMediaType = VideoMediaType.VIDEO;
                 final var expectedResource = Fixture.Videos.resource(expectedMediaType);
 
-                final var expectedMedia = new MediaOutput(expectedResource.content(), expectedResource.contentType(), expectedResource.name());
+                final var expectedMedia = MediaOutput.with(expectedResource);
 
                 when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
 
@@ -624,9 +685,11 @@ public class VideoAPITest {
                 // then
                 response.andExpect(status().isOk())
                         .andExpect(header().string(CONTENT_TYPE, expectedMedia.contentType()))
-                        .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.content().length)))
+                        .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.length())))
                         .andExpect(header().string(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedMedia.name())))
-                        .andExpect(content().bytes(expectedMedia.content()));
+                        .andExpect(header().string(ACCEPT_RANGES, "bytes"))
+                        .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedMedia.checksum())))
+                        .andExpect(content().bytes(expectedResource.content()));
 
                 final var captor = ArgumentCaptor.forClass(GetMediaCommand.class);
 
@@ -637,6 +700,130 @@ public class VideoAPITest {
                 Assertions.assertEquals(expectedMediaType.name(), actualCmd.mediaType());
         }
 
+
+        @Test
+        public void givenARange_whenCallsGetMediaById_shouldReturnPartialContent() throws Exception {
+                // given
+                final var expectedId = VideoID.unique();
+                final var expectedMediaType = VideoMediaType.VIDEO;
+                final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+                final var expectedLength = expectedResource.length();
+
+                when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+                // when
+                final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                        .header(RANGE, "bytes=2-4")
+                        .with(ApiTest.GENRES_JWT);
+
+                final var response = this.mvc.perform(aRequest);
+
+                // then
+                response.andExpect(status().isPartialContent())
+                        .andExpect(header().string(CONTENT_LENGTH, "3"))
+                        .andExpect(header().string(CONTENT_RANGE, "bytes 2-4/%d".formatted(expectedLength)))
+                        .andExpect(content().bytes("nte".getBytes()));
+        }
+
+        @Test
+        public void givenASuffixRangeAndMatchingIfRange_whenCallsGetMediaById_shouldReturnPartialContent() throws Exception {
+                // given
+                final var expectedId = VideoID.unique();
+                final var expectedMediaType = VideoMediaType.VIDEO;
+                final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+                final var expectedLength = expectedResource.length();
+
+                when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+                // when
+                final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                        .header(RANGE, "bytes=-3")
+                        .header(IF_RANGE, "\"%s\"".formatted(expectedResource.checksum()))
+                        .with(ApiTest.GENRES_JWT);
+
+                final var response = this.mvc.perform(aRequest);
+
+                // then
+                response.andExpect(status().isPartialContent())
+                        .andExpect(header().string(CONTENT_RANGE, "bytes %d-%d/%d".formatted(expectedLength - 3, expectedLength - 1, expectedLength)))
+                        .andExpect(content().bytes("udo".getBytes()));
+        }
+
+        @Test
+        public void givenAStaleIfRange_whenCallsGetMediaById_shouldReturnFullContent() throws Exception {
+                // given
+                final var expectedId = VideoID.unique();
+                final var expectedMediaType = VideoMediaType.VIDEO;
+                final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+
+                when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+                // when
+                final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                        .header(RANGE, "bytes=2-4")
+                        .header(IF_RANGE, "\"stale\"")
+                        .with(ApiTest.GENRES_JWT);
+
+                final var response = this.mvc.perform(aRequest);
+
+                // then
+                response.andExpect(status().isOk())
+                        .andExpect(header().doesNotExist(CONTENT_RANGE))
+                        .andExpect(content().bytes(expectedResource.content()));
+        }
+
+        @Test
+        public void givenAnUnsatisfiableRange_whenCallsGetMediaById_shouldReturnRangeNotSatisfiable() throws Exception {
+                // given
+                final var expectedId = VideoID.unique();
+                final var expectedMediaType = VideoMediaType.VIDEO;
+                final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+                final var expectedLength = expectedResource.length();
+
+                when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+                // when
+                final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                        .header(RANGE, "bytes=%d-".formatted(expectedLength))
+                        .with(ApiTest.GENRES_JWT);
+
+                final var response = this.mvc.perform(aRequest);
+
+                // then
+                response.andExpect(status().isRequestedRangeNotSatisfiable())
+                        .andExpect(header().string(CONTENT_RANGE, "bytes */%d".formatted(expectedLength)));
+        }
+        @Test
+        public void givenTheCurrentETag_whenCallsGetMediaById_shouldReturnNotModifiedWithoutOpeningTheContent() throws Exception {
+                // given
+                final var expectedId = VideoID.unique();
+                final var expectedMediaType = VideoMediaType.VIDEO;
+                final var expectedChecksum = Fixture.checksum();
+
+                final var expectedMedia = new MediaOutput(
+                        () -> { throw new IllegalStateException("content should not be opened"); },
+                        8,
+                        expectedChecksum,
+                        "video/mp4",
+                        "video.mp4"
+                );
+
+                when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
+
+                // when
+                final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                        .header(IF_NONE_MATCH, "\"%s\"".formatted(expectedChecksum))
+                        .header(RANGE, "bytes=0-3")
+                        .with(ApiTest.GENRES_JWT);
+
+                final var response = this.mvc.perform(aRequest);
+
+                // then
+                response.andExpect(status().isNotModified())
+                        .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedChecksum)))
+                        .andExpect(content().bytes(new byte[0]));
+        }
+
         @Test
         public void givenAValidVideoIdAndFile_whenCallsUploadMedia_shouldStoreIt() throws Exception {
                 // given
@@ -673,7 +860,7 @@ public class VideoAPITest {
 
                 final var actualCmd = captor.getValue();
                 Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
-                Assertions.assertEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
+                Assertions.assertArrayEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
                 Assertions.assertEquals(expectedResource.name(), actualCmd.videoResource().resource().name());
                 Assertions.assertEquals(expectedResource.contentType(), actualCmd.videoResource().resource().contentType());
                 Assertions.assertEquals(expectedType, actualCmd.videoResource().type());
@@ -705,6 +892,160 @@ public class VideoAPITest {
                         .andExpect(jsonPath("$.message", equalTo("Invalid INVALID for VideoMediaType")));
         }
 
+        @Test
+        public void givenRespondAsync_whenCallsUploadMedia_shouldReturnAcceptedWithJob() throws Exception {
+                // given
+                final var expectedId = VideoID.unique();
+                final var expectedType = VideoMediaType.VIDEO;
+                final var expectedResource = Fixture.Videos.resource(expectedType);
+                final var expectedJob = MediaUploadJob.with(IdUtils.uuid(), expectedId, List.of(expectedType));
+
+                final var expectedVideo = new MockMultipartFile(
+                        "media_file",
+                        expectedResource.name(),
+                        expectedResource.contentType(),
+                        expectedResource.content()
+                );
+
+                when(mediaUploadJobs.submit(any(), any())).thenReturn(expectedJob);
+
+                // when
+                final var aRequest = multipart("/videos/{id}/medias/{type}", expectedId.getValue(), expectedType.name()).file(expectedVideo).with(ApiTest.GENRES_JWT)
+                        .header(VideoAPI.PREFER, VideoAPI.RESPOND_ASYNC)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.MULTIPART_FORM_DATA);
+
+                final var response = this.mvc.perform(aRequest);
+
+                // then
+                response.andExpect(status().isAccepted())
+                        .andExpect(header().string(LOCATION, "/videos/%s/jobs/%s".formatted(expectedId.getValue(), expectedJob.id())))
+                        .andExpect(jsonPath("$.job_id", equalTo(expectedJob.id())))
+                        .andExpect(jsonPath("$.video_id", equalTo(expectedId.getValue())))
+                        .andExpect(jsonPath("$.media_types[0]", equalTo(expectedType.name())))
+                        .andExpect(jsonPath("$.status", equalTo("QUEUED")));
+
+                verify(this.getVideoByIdUseCase).execute(eq(expectedId.getValue()));
+                verify(this.mediaUploadJobs).submit(eq(expectedId), mediasCaptor.capture());
+                verify(this.uploadMediaUseCase, never()).execute(any());
+
+                Assertions.assertEquals(Set.of(expectedType), mediasCaptor.getValue().keySet());
+        }
+
+        @Test
+        public void givenRespondAsync_whenCallsCreateFull_shouldCreateVideoAndReturnAcceptedWithJob() throws Exception {
+                // given
+                final var expectedId = VideoID.unique();
+                final var expectedJob = MediaUploadJob.with(IdUtils.uuid(), expectedId, List.of(VideoMediaType.VIDEO, VideoMediaType.BANNER));
+
+                final var expectedVideo = new MockMultipartFile("video_file", "video.mp4", "video/mp4", "VIDEO".getBytes());
+                final var expectedBanner = new MockMultipartFile("banner_file", "banner.jpg","image/jpg", "BANNER".getBytes());
+
+                when(createVideoUseCase.execute(any())).thenReturn(new CreateVideoOutput(expectedId.getValue()));
+                when(mediaUploadJobs.submit(any(), any())).thenReturn(expectedJob);
+
+                // when
+                final var aRequest = multipart("/videos")
+                        .file(expectedVideo)
+                        .file(expectedBanner)
+                        .param("title", Fixture.title())
+                        .header(VideoAPI.PREFER, "wait=10, " + VideoAPI.RESPOND_ASYNC)
+                        .with(ApiTest.GENRES_JWT)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.MULTIPART_FORM_DATA);
+
+                final var response = this.mvc.perform(aRequest);
+
+                // then
+                response.andExpect(status().isAccepted())
+                        .andExpect(header().string(LOCATION, "/videos/%s/jobs/%s".formatted(expectedId.getValue(), expectedJob.id())))
+                        .andExpect(jsonPath("$.video_id", equalTo(expectedId.getValue())))
+                        .andExpect(jsonPath("$.media_types", hasSize(2)));
+
+                final var cmdCaptor = ArgumentCaptor.forClass(CreateVideoCommand.class);
+
+                verify(createVideoUseCase).execute(cmdCaptor.capture());
+                verify(mediaUploadJobs).submit(eq(expectedId), mediasCaptor.capture());
+
+                Assertions.assertTrue(cmdCaptor.getValue().getVideo().isEmpty());
+                Assertions.assertTrue(cmdCaptor.getValue().getBanner().isEmpty());
+                Assertions.assertEquals(List.of(VideoMediaType.VIDEO, VideoMediaType.BANNER), new ArrayList<>(mediasCaptor.getValue().keySet()));
+        }
+
+        @Test
+        public void givenASaturatedUploadPool_whenCallsCreateFullAsync_shouldDeleteTheVideoAndReturnServiceUnavailable() throws Exception {
+                // given
+                final var expectedId = VideoID.unique();
+                final var expectedErrorMessage = "Too many media uploads are queued, try again later";
+
+                final var expectedVideo = new MockMultipartFile("video_file", "video.mp4", "video/mp4", "VIDEO".getBytes());
+
+                when(createVideoUseCase.execute(any())).thenReturn(new CreateVideoOutput(expectedId.getValue()));
+                when(mediaUploadJobs.submit(any(), any())).thenThrow(new RejectedExecutionException(expectedErrorMessage));
+
+                // when
+                final var aRequest = multipart("/videos")
+                        .file(expectedVideo)
+                        .param("title", Fixture.title())
+                        .header(VideoAPI.PREFER, VideoAPI.RESPOND_ASYNC)
+                        .with(ApiTest.GENRES_JWT)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.MULTIPART_FORM_DATA);
+
+                final var response = this.mvc.perform(aRequest);
+
+                // then
+                response.andExpect(status().isServiceUnavailable())
+                        .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"))
+                        .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+                verify(deleteVideoUseCase).execute(eq(expectedId.getValue()));
+        }
+
+        @Test
+        public void givenAValidJobId_whenCallsGetUploadJob_shouldReturnItsStatus() throws Exception {
+                // given
+                final var expectedId = VideoID.unique();
+                final var expectedJob = MediaUploadJob.with(IdUtils.uuid(), expectedId, List.of(VideoMediaType.TRAILER));
+
+                when(mediaUploadJobs.get(any(), any())).thenReturn(expectedJob);
+
+                // when
+                final var aRequest = get("/videos/{id}/jobs/{jobId}", expectedId.getValue(), expectedJob.id())
+                        .with(ApiTest.GENRES_JWT)
+                        .accept(MediaType.APPLICATION_JSON);
+
+                final var response = this.mvc.perform(aRequest);
+
+                // then
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$.job_id", equalTo(expectedJob.id())))
+                        .andExpect(jsonPath("$.media_types[0]", equalTo(VideoMediaType.TRAILER.name())))
+                        .andExpect(jsonPath("$.status", equalTo("QUEUED")));
+
+                verify(mediaUploadJobs).get(eq(expectedId), eq(expectedJob.id()));
+        }
+
+        @Test
+        public void givenAnUnknownJobId_whenCallsGetUploadJob_shouldReturnNotFound() throws Exception {
+                // given
+                final var expectedId = VideoID.unique();
+                final var expectedErrorMessage = "Upload job 123 not found";
+
+                when(mediaUploadJobs.get(any(), any())).thenThrow(NotFoundException.with(new Error(expectedErrorMessage)));
+
+                // when
+                final var aRequest = get("/videos/{id}/jobs/{jobId}", expectedId.getValue(), "123")
+                        .with(ApiTest.GENRES_JWT)
+                        .accept(MediaType.APPLICATION_JSON);
+
+                final var response = this.mvc.perform(aRequest);
+
+                // then
+                response.andExpect(status().isNotFound())
+                        .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+        }
+
         @Test
         public void givenAnInvalidCommand_whenCallsCreateFull_shouldReturnError() throws Exception {
                 // given
@@ -4,6 +4,7 @@ import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
@@ -13,6 +14,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.fullcycle.admin.catalogo.domain.Fixture.CastMembers.type;
@@ -329,6 +331,27 @@ public class CastMemberMySQLGatewayTest {
         }
     }
 
+    @Test
+    public void givenPrePersistedMembers_whenFollowsTheCursorsByNameDesc_shouldReturnEveryMemberOnceInOrder() {
+        // given
+        mockMembers();
+
+        final var expectedNames = List.of("Vin Diesel", "Quentin Tarantino", "Martin Scorsese", "Kit Harington", "Jason Momoa");
+
+        // when
+        final var actualNames = new ArrayList<String>();
+        var cursor = "";
+        do {
+            final var actualPage = castMemberGateway.findAll(new SearchQuery(0, 2, "", "name", "desc", cursor));
+            Assertions.assertEquals(Pagination.UNCOUNTED, actualPage.total());
+            actualPage.items().forEach(it -> actualNames.add(it.getName()));
+            cursor = actualPage.nextCursor();
+        } while (cursor != null);
+
+        // then
+        Assertions.assertEquals(expectedNames, actualNames);
+    }
+
     private void mockMembers() {
         castMemberRepository.saveAllAndFlush(List.of(
                 CastMemberJpaEntity.from(CastMember.newMember("Kit Harington", CastMemberType.ACTOR)),
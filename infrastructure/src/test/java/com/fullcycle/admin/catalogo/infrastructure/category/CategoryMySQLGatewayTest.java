@@ -3,13 +3,17 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @MySQLGatewayTest
@@ -355,4 +359,180 @@ public class CategoryMySQLGatewayTest {
                         expectedIds.containsAll(actualResult)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenPrePersistedCategories_whenFollowsTheCursors_shouldReturnEveryCategoryOnceInOrder() {
+        // given
+        final var names = List.of("Filmes", "Séries", "Documentários", "Animes", "Kids");
+        categoryRepository.saveAll(names.stream()
+                .map(name -> CategoryJpaEntity.from(Category.newCategory(name, null, true)))
+                .toList());
+
+        final var expectedNames = List.of("Animes", "Documentários", "Filmes", "Kids", "Séries");
+        final var expectedPerPage = 2;
+
+        // when
+        final var actualNames = new ArrayList<String>();
+        var cursor = "";
+        var pages = 0;
+        do {
+            final var actualPage = categoryGateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc", cursor));
+            Assertions.assertEquals(Pagination.UNCOUNTED, actualPage.total());
+            actualPage.items().forEach(it -> actualNames.add(it.getName()));
+            cursor = actualPage.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // then
+        Assertions.assertEquals(3, pages);
+        Assertions.assertEquals(expectedNames, actualNames);
+    }
+
+    @Test
+    public void givenCategoriesWithTheSameName_whenFollowsTheCursorsDescending_shouldBreakTiesById() {
+        // given
+        final var first = Category.newCategory("Filmes", null, true);
+        final var second = Category.newCategory("Filmes", null, true);
+        final var third = Category.newCategory("Animes", null, true);
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(first),
+                CategoryJpaEntity.from(second),
+                CategoryJpaEntity.from(third)
+        ));
+
+        final var expectedIds = new ArrayList<>(List.of(first.getId(), second.getId()));
+        expectedIds.sort((a, b) -> b.getValue().compareTo(a.getValue()));
+        expectedIds.add(third.getId());
+
+        // when
+        final var firstPage = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "desc", ""));
+        final var secondPage = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "desc", firstPage.nextCursor()));
+        final var thirdPage = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "desc", secondPage.nextCursor()));
+
+        // then
+        Assertions.assertEquals(expectedIds.get(0), firstPage.items().get(0).getId());
+        Assertions.assertEquals(expectedIds.get(1), secondPage.items().get(0).getId());
+        Assertions.assertEquals(expectedIds.get(2), thirdPage.items().get(0).getId());
+        Assertions.assertNull(thirdPage.nextCursor());
+    }
+
+    @Test
+    public void givenACursorReadWithAnotherSort_whenCallsFindAll_shouldReturnDomainException() {
+        // given
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var aCursor = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", "")).nextCursor();
+
+        final var expectedErrorMessage = "'cursor' was read with another sort";
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(new SearchQuery(0, 1, "", "createdAt", "asc", aCursor))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnInvalidCursor_whenCallsFindAll_shouldReturnDomainException() {
+        // given
+        final var expectedErrorMessage = "'cursor' is invalid";
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", "not-a-cursor"))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenTerms_whenCallsFindAllSortedByRelevance_shouldRankTheBestMatchesFirst() {
+        // given
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Documentários de filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", "Não são filmes", true)),
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Kids", null, true))
+        ));
+
+        final var expectedTotal = 3;
+        final var expectedFirstName = "Filmes";
+
+        // when
+        final var actualResult = categoryGateway.findAll(new SearchQuery(0, 10, "filmes", "relevance", "asc"));
+
+        // then
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(expectedTotal, actualResult.items().size());
+        Assertions.assertEquals(expectedFirstName, actualResult.items().get(0).getName());
+    }
+
+    @Test
+    public void givenTheRelevanceSort_whenCallsFindAllWithACursor_shouldReturnDomainException() {
+        // given
+        final var expectedErrorMessage = "'sort' relevance cannot be used with a cursor";
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(new SearchQuery(0, 10, "filmes", "relevance", "asc", ""))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenNoTotal_whenCallsFindAll_shouldPageOnHasNextWithoutCounting() {
+        // given
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))
+        ));
+
+        // when
+        final var firstPage = categoryGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", null, TotalMode.NONE));
+        final var lastPage = categoryGateway.findAll(new SearchQuery(1, 2, "", "name", "asc", null, TotalMode.NONE));
+
+        // then
+        Assertions.assertEquals(Pagination.UNCOUNTED, firstPage.total());
+        Assertions.assertTrue(firstPage.hasNext());
+        Assertions.assertEquals(2, firstPage.items().size());
+
+        Assertions.assertEquals(3, lastPage.total());
+        Assertions.assertFalse(lastPage.hasNext());
+        Assertions.assertEquals("Séries", lastPage.items().get(0).getName());
+    }
+
+    @Test
+    public void givenAnEstimatedTotal_whenCallsFindAllAgain_shouldReuseTheFirstCount() {
+        // given
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes curtos", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Filmes longos", null, true))
+        ));
+
+        final var query = new SearchQuery(0, 1, "filmes", "name", "asc", null, TotalMode.ESTIMATED);
+        Assertions.assertEquals(2, categoryGateway.findAll(query).total());
+
+        categoryRepository.save(CategoryJpaEntity.from(Category.newCategory("Filmes mudos", null, true)));
+
+        // when
+        final var actualEstimated = categoryGateway.findAll(query);
+        final var actualExact = categoryGateway.findAll(new SearchQuery(0, 1, "filmes", "name", "asc"));
+
+        // then
+        Assertions.assertEquals(2, actualEstimated.total());
+        Assertions.assertTrue(actualEstimated.hasNext());
+        Assertions.assertEquals(3, actualExact.total());
+    }
+}
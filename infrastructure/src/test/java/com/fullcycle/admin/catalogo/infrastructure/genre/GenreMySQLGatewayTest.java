@@ -5,16 +5,20 @@ import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
@@ -30,6 +34,9 @@ public class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     public void testDependenciesInjected() {
         Assertions.assertNotNull(categoryGateway);
@@ -224,6 +231,52 @@ public class GenreMySQLGatewayTest {
         Assertions.assertNull(persistedGenre.getDeletedAt());
     }
 
+    @Test
+    public void givenAValidGenreWithCategories_whenCallsUpdateGenreSwappingOne_shouldOnlyWriteTheDelta() {
+        // given
+        final var filmes =
+                categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var series =
+                categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var documentarios =
+                categoryGateway.create(Category.newCategory("Documentários", null, true));
+
+        final var expectedName = "Ação";
+        final var expectedCategories = List.of(series.getId(), documentarios.getId());
+
+        final var aGenre = Genre.newGenre("ac", true);
+        aGenre.addCategories(List.of(filmes.getId(), series.getId()));
+
+        genreRepository.saveAndFlush(GenreJpaEntity.from(aGenre));
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        final var actualGenre = genreGateway.update(
+                Genre.with(aGenre)
+                        .update(expectedName, true, expectedCategories)
+        );
+        entityManager.flush();
+
+        // then
+        try {
+            Assertions.assertEquals(expectedName, actualGenre.getName());
+            Assertions.assertIterableEquals(sorted(expectedCategories), sorted(actualGenre.getCategories()));
+            Assertions.assertEquals(1, statistics.getEntityInsertCount());
+            Assertions.assertEquals(1, statistics.getEntityDeleteCount());
+            Assertions.assertEquals(1, statistics.getEntityUpdateCount());
+            Assertions.assertEquals(0, statistics.getCollectionRecreateCount());
+            Assertions.assertEquals(4, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     public void givenAValidGenreInactive_whenCallsUpdateGenreActivating_shouldPersistGenre() {
         // given
@@ -542,6 +595,72 @@ public class GenreMySQLGatewayTest {
         }
     }
 
+    @Test
+    public void givenPrePersistedGenres_whenFollowsTheCursorsByName_shouldReturnEveryGenreOnceInOrder() {
+        // given
+        mockGenres();
+
+        final var expectedNames = List.of("Ação", "Comédia romântica", "Drama", "Ficção científica", "Terror");
+
+        // when
+        final var actualNames = new ArrayList<String>();
+        var cursor = "";
+        do {
+            final var actualPage = genreGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", cursor));
+            Assertions.assertEquals(Pagination.UNCOUNTED, actualPage.total());
+            actualPage.items().forEach(it -> actualNames.add(it.getName()));
+            cursor = actualPage.nextCursor();
+        } while (cursor != null);
+
+        // then
+        Assertions.assertEquals(expectedNames, actualNames);
+    }
+
+    @Test
+    public void givenGenresWithCategories_whenCallsFindAll_shouldLoadTheCategoriesOfThePageAtOnce() {
+        // given
+        final var filmes =
+                categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var series =
+                categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(filmes.getId(), series.getId()));
+
+        final var drama = Genre.newGenre("Drama", true);
+        drama.addCategories(List.of(filmes.getId()));
+
+        final var terror = Genre.newGenre("Terror", true);
+
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(acao),
+                GenreJpaEntity.from(drama),
+                GenreJpaEntity.from(terror)
+        ));
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        final var actualPage = genreGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+        // then
+        try {
+            Assertions.assertEquals(3, actualPage.total());
+            Assertions.assertIterableEquals(sorted(acao.getCategories()), sorted(actualPage.items().get(0).getCategories()));
+            Assertions.assertEquals(drama.getCategories(), actualPage.items().get(1).getCategories());
+            Assertions.assertTrue(actualPage.items().get(2).getCategories().isEmpty());
+
+            // the page, then the category ids of every genre in it
+            Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     private void mockGenres() {
         genreRepository.saveAllAndFlush(List.of(
                 GenreJpaEntity.from(Genre.newGenre("Comédia romântica", true)),
@@ -0,0 +1,132 @@
+package com.fullcycle.admin.catalogo.infrastructure.search;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidation;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.CacheInvalidationBus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@IntegrationTest
+@TestPropertySource(properties = "search.index-enabled=true")
+public class IndexedTextSearchTest {
+
+    @Autowired
+    private TextSearch textSearch;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CacheInvalidationBus invalidations;
+
+    private IndexedTextSearch target;
+
+    @BeforeEach
+    public void setUp() {
+        this.target = (IndexedTextSearch) textSearch;
+        this.target.rebuild();
+    }
+
+    @Test
+    public void givenRowsWrittenBehindTheGateways_whenRebuilt_shouldLoadThemFromTheTable() {
+        // given
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Ação", null, true)));
+
+        // when
+        target.rebuild();
+
+        // then
+        Assertions.assertTrue(target.isReady());
+        Assertions.assertEquals(1, categoryGateway.findAll(query("acao")).total());
+    }
+
+    @Test
+    public void givenCategoriesWrittenByTheGateway_whenSearched_shouldMatchAccentFoldedPrefixes() {
+        // given
+        final var expectedName = "Ficção científica";
+        categoryGateway.create(Category.newCategory(expectedName, "Naves e robôs", true));
+        categoryGateway.create(Category.newCategory("Comédia", null, true));
+
+        // when
+        final var actualPage = categoryGateway.findAll(query("ficcao cien"));
+
+        // then
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(expectedName, actualPage.items().get(0).getName());
+        Assertions.assertEquals(1, categoryGateway.findAll(query("robo")).total());
+    }
+
+    @Test
+    public void givenAnUpdatedOrDeletedCategory_whenSearched_shouldNotMatchTheOldTexts() {
+        // given
+        final var aCategory = categoryGateway.create(Category.newCategory("Comédia", null, true));
+        final var deleted = categoryGateway.create(Category.newCategory("Drama", null, true));
+
+        // when
+        categoryGateway.update(aCategory.update("Terror", null, true));
+        categoryGateway.deleteById(deleted.getId());
+
+        // then
+        Assertions.assertEquals(0, categoryGateway.findAll(query("comedia")).total());
+        Assertions.assertEquals(1, categoryGateway.findAll(query("terr")).total());
+        Assertions.assertEquals(0, categoryGateway.findAll(query("drama")).total());
+    }
+
+    @Test
+    public void givenRowsWrittenByAnotherInstance_whenTheirInvalidationsArrive_shouldReindexThem() {
+        // given
+        final var written = Category.newCategory("Animação", null, true);
+        final var deleted = categoryGateway.create(Category.newCategory("Drama", null, true));
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(written));
+        categoryRepository.deleteById(deleted.getId().getValue());
+
+        // when
+        invalidations.receive(invalidation(written.getId().getValue()));
+        invalidations.receive(invalidation(deleted.getId().getValue()));
+
+        // then
+        Assertions.assertEquals(1, categoryGateway.findAll(query("animacao")).total());
+        Assertions.assertEquals(0, categoryGateway.findAll(query("drama")).total());
+    }
+
+    @Test
+    public void givenAWriteRolledBack_whenSearched_shouldNotIndexIt() {
+        // given
+        final var transaction = new TransactionTemplate(transactionManager);
+
+        // when
+        transaction.executeWithoutResult(status -> {
+            categoryGateway.create(Category.newCategory("Documentários", null, true));
+            status.setRollbackOnly();
+        });
+
+        // then
+        Assertions.assertEquals(List.of(), target.search(CategoryJpaEntity.class, "document").get().stream().toList());
+    }
+
+    private static CacheInvalidation invalidation(final String anId) {
+        return new CacheInvalidation("other", CacheInvalidation.CATEGORY, anId, Long.MAX_VALUE);
+    }
+
+    private static SearchQuery query(final String terms) {
+        return new SearchQuery(0, 10, terms, "name", "asc");
+    }
+}
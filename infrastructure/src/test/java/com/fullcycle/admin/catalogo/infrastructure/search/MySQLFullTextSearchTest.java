@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.infrastructure.search;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.type.StandardBasicTypes;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+public class MySQLFullTextSearchTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "filmes|+filmes*",
+            "  Ficção  científica |+Ficção* +científica*",
+            "-drama +\"terror\"*|+drama* +terror*",
+            "21.1 testes|",
+            "ab|",
+            "' '|",
+    })
+    public void givenTerms_whenCallsBooleanQuery_shouldRequireEveryWordAsAPrefix(final String terms, final String expectedQuery) {
+        Assertions.assertEquals(expectedQuery, MySQLFullTextSearch.booleanQuery(terms).orElse(null));
+    }
+
+    @Test
+    public void givenTheFunctions_whenContributed_shouldRenderMatchAgainstInBooleanMode() {
+        // given
+        final var builder = Mockito.mock(MetadataBuilder.class);
+        final var captor = ArgumentCaptor.forClass(SQLFunction.class);
+
+        // when
+        new MySQLFullTextFunctions().contribute(builder);
+
+        // then
+        verify(builder).applySqlFunction(eq("match_against_1"), captor.capture());
+        verify(builder).applySqlFunction(eq("match_against_2"), captor.capture());
+
+        Assertions.assertEquals(
+                "match(g.name) against (? in boolean mode)",
+                captor.getAllValues().get(0).render(StandardBasicTypes.DOUBLE, List.of("g.name", "?"), null)
+        );
+        Assertions.assertEquals(
+                "match(c.name, c.description) against (? in boolean mode)",
+                captor.getAllValues().get(1).render(StandardBasicTypes.DOUBLE, List.of("c.name", "c.description", "?"), null)
+        );
+    }
+}
@@ -0,0 +1,94 @@
+package com.fullcycle.admin.catalogo.infrastructure.search.index;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+public class InvertedIndexTest {
+
+    private InvertedIndex target;
+
+    @BeforeEach
+    public void setUp() {
+        this.target = new InvertedIndex();
+        this.target.put("1", List.of("Ficção científica", "Naves e robôs"));
+        this.target.put("2", List.of("Ação", "Filmes de ação"));
+        this.target.put("3", List.of("Comédia romântica"));
+    }
+
+    @Test
+    public void givenTermsWithOrWithoutAccents_whenCallsSearch_shouldFoldThem() {
+        Assertions.assertEquals(Set.of("2"), target.search("acao").get());
+        Assertions.assertEquals(Set.of("2"), target.search("AÇÃO").get());
+    }
+
+    @Test
+    public void givenAPrefixOfEachWord_whenCallsSearch_shouldReturnTheDocumentsMatchingAllOfThem() {
+        Assertions.assertEquals(Set.of("1"), target.search("cien fic").get());
+        Assertions.assertEquals(Set.of("1"), target.search("robo").get());
+        Assertions.assertEquals(Set.of(), target.search("ficção romântica").get());
+    }
+
+    @Test
+    public void givenTermsWithoutWords_whenCallsSearch_shouldReturnEmpty() {
+        Assertions.assertTrue(target.search(" -- ").isEmpty());
+    }
+
+    @Test
+    public void givenAWordLongerThanTheLongestGram_whenCallsSearch_shouldCheckTheWholeWord() {
+        // given
+        target.put("4", List.of("Internacionalização"));
+        target.put("5", List.of("Internacionalmente"));
+
+        // when
+        final var actualIds = target.search("internacionaliza").get();
+
+        // then
+        Assertions.assertEquals(Set.of("4"), actualIds);
+    }
+
+    @Test
+    public void givenADocument_whenPutAgain_shouldOnlyMatchTheNewTexts() {
+        // when
+        target.put("3", List.of("Drama"));
+
+        // then
+        Assertions.assertEquals(Set.of(), target.search("comedia").get());
+        Assertions.assertEquals(Set.of("3"), target.search("dram").get());
+        Assertions.assertEquals(3, target.size());
+    }
+
+    @Test
+    public void givenADocument_whenRemoved_shouldNotMatchAnymore() {
+        // when
+        target.remove("2");
+
+        // then
+        Assertions.assertEquals(Set.of(), target.search("acao").get());
+        Assertions.assertEquals(2, target.size());
+    }
+
+    @Test
+    public void givenWritesDuringALoad_whenLoaded_shouldKeepTheWrites() {
+        // given
+        target.beginLoad();
+        target.put("1", List.of("Terror"));
+        target.remove("2");
+
+        // when
+        target.load("1", List.of("Ficção científica"));
+        target.load("2", List.of("Ação"));
+        target.load("3", List.of("Comédia romântica"));
+        target.endLoad();
+
+        // then
+        Assertions.assertEquals(Set.of("1"), target.search("terror").get());
+        Assertions.assertEquals(Set.of(), target.search("ficcao").get());
+        Assertions.assertEquals(Set.of(), target.search("acao").get());
+        Assertions.assertEquals(Set.of("3"), target.search("comedia").get());
+        Assertions.assertEquals(2, target.size());
+    }
+}
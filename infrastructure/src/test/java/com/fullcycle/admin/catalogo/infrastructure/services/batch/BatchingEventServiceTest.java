@@ -0,0 +1,196 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.batch;
+
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class BatchingEventServiceTest {
+
+    private EventService delegate = Mockito.mock(EventService.class);
+
+    private BatchingEventService target;
+
+    @AfterEach
+    public void tearDown() {
+        if (target != null) {
+            target.stop();
+        }
+    }
+
+    @Test
+    public void givenAFullBatch_whenPublished_shouldSendItOnceInOrder() throws Exception {
+        // given
+        target = start(3, 10, Duration.ofSeconds(10), Duration.ofSeconds(1));
+
+        // when
+        final var futures = List.of(target.publish("1"), target.publish("2"), target.publish("3"));
+        for (final var future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        // then
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<?>> captor = ArgumentCaptor.forClass(List.class);
+        verify(delegate, times(1)).sendAll(captor.capture());
+        Assertions.assertEquals(List.of("1", "2", "3"), captor.getValue());
+
+        final var actualStats = target.stats();
+        Assertions.assertEquals(3, actualStats.published());
+        Assertions.assertEquals(1, actualStats.batches());
+        Assertions.assertEquals(0, actualStats.queueDepth());
+    }
+
+    @Test
+    public void givenAPartialBatch_whenLingerElapses_shouldFlushIt() throws Exception {
+        // given
+        target = start(100, 10, Duration.ofMillis(20), Duration.ofSeconds(1));
+
+        // when
+        target.publish("1").get(5, TimeUnit.SECONDS);
+
+        // then
+        verify(delegate, times(1)).sendAll(List.of("1"));
+    }
+
+    @Test
+    public void givenTheDelegateFails_whenPublished_shouldFailTheFuturesOfTheBatch() {
+        // given
+        final var expectedError = "Nacked";
+        doThrow(new IllegalStateException(expectedError)).when(delegate).sendAll(anyList());
+        target = start(2, 10, Duration.ofMillis(20), Duration.ofSeconds(1));
+
+        // when
+        final var first = target.publish("1");
+        final var second = target.publish("2");
+
+        // then
+        final var actualException = Assertions.assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(expectedError, actualException.getCause().getMessage());
+        Assertions.assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, target.stats().failed());
+    }
+
+    @Test
+    public void givenEvents_whenCallsSendAll_shouldWaitForTheConfirmsAndRethrowFailures() {
+        // given
+        final var expectedError = "Confirm timed out";
+        doThrow(new IllegalStateException(expectedError)).when(delegate).sendAll(anyList());
+        target = start(10, 10, Duration.ofMillis(20), Duration.ofSeconds(1));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> target.sendAll(List.of("1", "2"))
+        );
+
+        // then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+
+    @Test
+    public void givenAnEvent_whenCallsSend_shouldWaitForItsBatchAndRethrowItsFailure() {
+        // given
+        final var expectedError = "Nacked";
+        doThrow(new IllegalStateException(expectedError)).when(delegate).sendAll(anyList());
+        target = start(10, 10, Duration.ofMillis(20), Duration.ofSeconds(1));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> target.send("1")
+        );
+
+        // then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+        verify(delegate, times(1)).sendAll(List.of("1"));
+    }
+
+    @Test
+    public void givenAFullQueue_whenPublished_shouldBlockAndThenReject() throws Exception {
+        // given
+        final var flushing = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        doAnswer(t -> {
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(delegate).sendAll(anyList());
+        target = start(1, 1, Duration.ZERO, Duration.ofMillis(50));
+
+        final var first = target.publish("1");
+        Assertions.assertTrue(flushing.await(5, TimeUnit.SECONDS));
+        final var second = target.publish("2");
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                RejectedExecutionException.class,
+                () -> target.publish("3")
+        );
+
+        // then
+        Assertions.assertEquals("Event queue is full", actualException.getMessage());
+        Assertions.assertEquals(1, target.stats().queueDepth());
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void givenARegistry_whenBindsThePublisher_shouldPublishItsMeters() throws Exception {
+        // given
+        final var registry = new SimpleMeterRegistry();
+        target = start(2, 10, Duration.ofSeconds(10), Duration.ofSeconds(1));
+
+        // when
+        target.bindTo(registry);
+        target.publish("1");
+        target.publish("2").get(5, TimeUnit.SECONDS);
+
+        // then
+        Assertions.assertEquals(2, registry.get("events.publisher.events").tags("publisher", "test", "result", "published").functionCounter().count());
+        Assertions.assertEquals(0, registry.get("events.publisher.events").tags("publisher", "test", "result", "failed").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("events.publisher.confirm").tag("publisher", "test").functionTimer().count());
+        Assertions.assertEquals(0, registry.get("events.publisher.queue.depth").tag("publisher", "test").gauge().value());
+    }
+
+    @Test
+    public void givenAStoppedPublisher_whenPublished_shouldReject() {
+        // given
+        target = start(1, 1, Duration.ZERO, Duration.ZERO);
+        target.stop();
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> target.publish("1")
+        );
+
+        // then
+        Assertions.assertEquals("Event publisher is not running", actualException.getMessage());
+    }
+
+    private BatchingEventService start(
+            final int batchSize,
+            final int queueCapacity,
+            final Duration linger,
+            final Duration enqueueTimeout
+    ) {
+        final var aService = new BatchingEventService("test", delegate, batchSize, queueCapacity, linger, enqueueTimeout);
+        aService.start();
+        return aService;
+    }
+}
@@ -0,0 +1,120 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.cache;
+
+import com.fullcycle.admin.catalogo.infrastructure.services.batch.BatchingEventService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CacheInvalidationBusTest {
+
+    private BatchingEventService publisher;
+
+    private CacheInvalidationBus target;
+
+    @BeforeEach
+    public void setUp() {
+        this.publisher = Mockito.mock(BatchingEventService.class);
+        when(publisher.publish(any())).thenReturn(CompletableFuture.completedFuture(null));
+        this.target = new CacheInvalidationBus(publisher);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void givenATransaction_whenCallsPublish_shouldSendOnlyAfterTheCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        target.publish(CacheInvalidation.CATEGORY, "123", 10);
+
+        // then
+        verify(publisher, never()).publish(any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(publisher, times(1)).publish(new CacheInvalidation(target.node(), CacheInvalidation.CATEGORY, "123", 10));
+    }
+
+    @Test
+    public void givenABrokerFailure_whenCallsPublish_shouldNotFailTheCaller() {
+        // given
+        when(publisher.publish(any())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Broker unavailable")));
+
+        // when
+        Assertions.assertDoesNotThrow(() -> target.publish(CacheInvalidation.GENRE, "123", 10));
+
+        // then
+        verify(publisher, times(1)).publish(any());
+    }
+
+    @Test
+    public void givenAFullQueue_whenCallsPublish_shouldNotFailTheCaller() {
+        // given
+        when(publisher.publish(any())).thenThrow(new RejectedExecutionException("Event queue is full"));
+
+        // when
+        Assertions.assertDoesNotThrow(() -> target.publish(CacheInvalidation.CAST_MEMBER, "123", 10));
+
+        // then
+        verify(publisher, times(1)).publish(any());
+    }
+
+    @Test
+    public void givenASlowBroker_whenCallsPublish_shouldNotWaitForIt() {
+        // given
+        when(publisher.publish(any())).thenReturn(new CompletableFuture<>());
+
+        // when
+        Assertions.assertTimeoutPreemptively(
+                Duration.ofSeconds(1),
+                () -> target.publish(CacheInvalidation.CATEGORY, "123", 10)
+        );
+
+        // then
+        verify(publisher, never()).send(any());
+        verify(publisher, never()).sendAll(any());
+    }
+
+    @Test
+    public void givenAnInvalidationOfAnotherNode_whenCallsReceive_shouldHandItToTheSubscribersOfItsType() {
+        // given
+        final var received = new ArrayList<CacheInvalidation>();
+        target.subscribe(CacheInvalidation.CATEGORY, received::add);
+        target.subscribe(CacheInvalidation.GENRE, it -> Assertions.fail("Should not receive"));
+
+        final var expectedInvalidation = new CacheInvalidation("other", CacheInvalidation.CATEGORY, "123", 10);
+
+        // when
+        target.receive(expectedInvalidation);
+
+        // then
+        Assertions.assertEquals(List.of(expectedInvalidation), received);
+    }
+
+    @Test
+    public void givenAnInvalidationOfThisNode_whenCallsReceive_shouldIgnoreIt() {
+        // given
+        target.subscribe(CacheInvalidation.CATEGORY, it -> Assertions.fail("Should not receive"));
+
+        // when
+        target.receive(new CacheInvalidation(target.node(), CacheInvalidation.CATEGORY, "123", 10));
+    }
+}
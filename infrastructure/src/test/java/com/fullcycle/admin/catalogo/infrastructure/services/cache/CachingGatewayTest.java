@@ -0,0 +1,143 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.cache;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+@IntegrationTest
+@TestPropertySource(properties = "cache.gateways.enabled=true")
+public class CachingGatewayTest {
+
+    @Autowired
+    private CategoryGateway target;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindByIdAgain_shouldHitTheCache() {
+        // given
+        final var aCategory = target.create(Category.newCategory("Filmes", null, true));
+        target.findById(aCategory.getId());
+
+        // when
+        final var actualCategory = countingStatements(() -> target.findById(aCategory.getId()).get());
+
+        // then
+        Assertions.assertEquals(aCategory.getName(), actualCategory.getName());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindByIdAgain_shouldCountTheHit() {
+        // given
+        final var aCategory = target.create(Category.newCategory("Filmes", null, true));
+        final var hits = registry.get("cache.gets").tags("cache", "gateways.category", "result", "hit").functionCounter();
+        final var expectedHits = hits.count() + 1;
+        target.findById(aCategory.getId());
+
+        // when
+        target.findById(aCategory.getId());
+
+        // then
+        Assertions.assertEquals(expectedHits, hits.count());
+    }
+
+    @Test
+    public void givenACachedCastMember_whenCallsFindByIdAgain_shouldHitTheCache() {
+        // given
+        final var aMember = castMemberGateway.create(CastMember.newMember("Vin Diesel", CastMemberType.ACTOR));
+        castMemberGateway.findById(aMember.getId());
+
+        // when
+        final var actualMember = countingStatements(() -> castMemberGateway.findById(aMember.getId()).get());
+
+        // then
+        Assertions.assertEquals(aMember.getName(), actualMember.getName());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdate_shouldServeTheNewValue() {
+        // given
+        final var aCategory = target.create(Category.newCategory("Filmes", null, true));
+        target.findById(aCategory.getId());
+
+        // when
+        target.update(Category.with(aCategory).update("Séries", null, true));
+        final var actualCategory = target.findById(aCategory.getId()).get();
+
+        // then
+        Assertions.assertEquals("Séries", actualCategory.getName());
+    }
+
+    @Test
+    public void givenAnIdCachedAsMissing_whenCallsCreate_shouldReportItAsExisting() {
+        // given
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        Assertions.assertEquals(List.of(), target.existsByIds(List.of(aCategory.getId())));
+
+        // when
+        target.create(aCategory);
+
+        // then
+        Assertions.assertEquals(List.of(aCategory.getId()), target.existsByIds(List.of(aCategory.getId())));
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsDeleteById_shouldNotFindItAnymore() {
+        // given
+        final var aCategory = target.create(Category.newCategory("Filmes", null, true));
+        final CategoryID anId = aCategory.getId();
+        target.findById(anId);
+        target.existsByIds(List.of(anId));
+
+        // when
+        target.deleteById(anId);
+
+        // then
+        Assertions.assertTrue(target.findById(anId).isEmpty());
+        Assertions.assertEquals(List.of(), target.existsByIds(List.of(anId)));
+    }
+
+    private <T> T countingStatements(final Supplier<T> anAction) {
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return anAction.get();
+    }
+}
@@ -0,0 +1,178 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.cache;
+
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CachingStorageServiceTest {
+
+    private InMemoryStorageService delegate;
+
+    private CachingStorageService target;
+
+    @BeforeEach
+    public void setUp() {
+        this.delegate = Mockito.spy(new InMemoryStorageService());
+        this.target = new CachingStorageService(delegate, 16, 8, it -> it.endsWith("/banner"));
+    }
+
+    @Test
+    public void givenAnAdmittedId_whenCallsGetTwice_shouldReadTheDelegateOnce() {
+        // given
+        final var expectedId = "video-1/banner";
+        final var expectedContent = "BANNER".getBytes();
+        delegate.store(expectedId, resource("BANNER", "image/jpg", "banner.jpg"));
+
+        // when
+        final var first = target.get(expectedId).get();
+        final var second = target.get(expectedId).get();
+
+        // then
+        verify(delegate, times(1)).get(expectedId);
+        Assertions.assertArrayEquals(expectedContent, first.content());
+        Assertions.assertArrayEquals(expectedContent, second.content());
+        Assertions.assertEquals(first.checksum(), second.checksum());
+        Assertions.assertEquals("image/jpg", second.contentType());
+        Assertions.assertEquals("banner.jpg", second.name());
+
+        final var actualStats = target.stats();
+        Assertions.assertEquals(1, actualStats.hits());
+        Assertions.assertEquals(1, actualStats.misses());
+        Assertions.assertEquals(1, actualStats.entries());
+        Assertions.assertEquals(expectedContent.length, actualStats.bytes());
+    }
+
+    @Test
+    public void givenANotAdmittedId_whenCallsGetTwice_shouldAlwaysReadTheDelegate() {
+        // given
+        final var expectedId = "video-1/video";
+        delegate.store(expectedId, resource("VIDEO", "video/mp4", "video.mp4"));
+
+        // when
+        target.get(expectedId);
+        target.get(expectedId);
+
+        // then
+        verify(delegate, times(2)).get(expectedId);
+        Assertions.assertEquals(0, target.stats().entries());
+    }
+
+    @Test
+    public void givenAnEntryLargerThanTheLimit_whenCallsGet_shouldNotCacheIt() {
+        // given
+        final var expectedId = "video-1/banner";
+        delegate.store(expectedId, resource("LARGE BANNER", "image/jpg", "banner.jpg"));
+
+        // when
+        target.get(expectedId);
+        final var actualResource = target.get(expectedId).get();
+
+        // then
+        verify(delegate, times(2)).get(expectedId);
+        Assertions.assertArrayEquals("LARGE BANNER".getBytes(), actualResource.content());
+        Assertions.assertEquals(0, target.stats().entries());
+    }
+
+    @Test
+    public void givenACachedEntry_whenCallsStore_shouldServeTheNewContent() {
+        // given
+        final var expectedId = "video-1/banner";
+        target.store(expectedId, resource("OLD", "image/jpg", "banner.jpg"));
+        target.get(expectedId);
+
+        // when
+        target.store(expectedId, resource("NEW", "image/jpg", "banner.jpg"));
+        final var actualResource = target.get(expectedId).get();
+
+        // then
+        Assertions.assertArrayEquals("NEW".getBytes(), actualResource.content());
+    }
+
+    @Test
+    public void givenACachedEntry_whenCallsDeleteAll_shouldNotServeItAnymore() {
+        // given
+        final var expectedId = "video-1/banner";
+        target.store(expectedId, resource("BANNER", "image/jpg", "banner.jpg"));
+        target.get(expectedId);
+
+        // when
+        target.deleteAll(List.of(expectedId));
+
+        // then
+        Assertions.assertTrue(target.get(expectedId).isEmpty());
+        Assertions.assertEquals(0, target.stats().entries());
+    }
+
+    @Test
+    public void givenTheByteBudgetIsExceeded_whenCallsGet_shouldEvictTheLeastRecentlyUsed() {
+        // given
+        final var ids = List.of("video-1/banner", "video-2/banner", "video-3/banner");
+        ids.forEach(id -> delegate.store(id, resource("12345678", "image/jpg", "banner.jpg")));
+        ids.forEach(target::get);
+
+        // when
+        target.get("video-2/banner");
+        target.get("video-3/banner");
+        target.get("video-1/banner");
+
+        // then
+        verify(delegate, times(1)).get("video-2/banner");
+        verify(delegate, times(1)).get("video-3/banner");
+        verify(delegate, times(2)).get("video-1/banner");
+
+        final var actualStats = target.stats();
+        Assertions.assertEquals(2, actualStats.evictions());
+        Assertions.assertEquals(2, actualStats.entries());
+        Assertions.assertTrue(actualStats.bytes() <= 16);
+    }
+
+    @Test
+    public void givenARegistry_whenBindsTheCache_shouldPublishItsMeters() {
+        // given
+        final var expectedId = "video-1/banner";
+        final var registry = new SimpleMeterRegistry();
+        delegate.store(expectedId, resource("BANNER", "image/jpg", "banner.jpg"));
+
+        // when
+        target.bindTo(registry);
+        target.get(expectedId);
+        target.get(expectedId);
+
+        // then
+        Assertions.assertEquals(1, registry.get("cache.gets").tags("cache", "storage.images", "result", "hit").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("cache.gets").tags("cache", "storage.images", "result", "miss").functionCounter().count());
+        Assertions.assertEquals(6, registry.get("cache.bytes").tags("cache", "storage.images").gauge().value());
+    }
+
+    @Test
+    public void givenACachedEntry_whenOpensARange_shouldReadFromTheOffset() throws IOException {
+        // given
+        final var expectedId = "video-1/banner";
+        delegate.store(expectedId, resource("BANNER", "image/jpg", "banner.jpg"));
+        target.get(expectedId);
+
+        // when
+        final var actualResource = target.get(expectedId).get();
+
+        // then
+        try (final var in = actualResource.stream().open(2, 3)) {
+            Assertions.assertArrayEquals("NNE".getBytes(), in.readNBytes(3));
+        }
+    }
+
+    private static Resource resource(final String content, final String contentType, final String name) {
+        final var bytes = content.getBytes();
+        return Resource.with(bytes, HashingUtils.checksum(bytes), contentType, name);
+    }
+}
@@ -0,0 +1,191 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.cache;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@IntegrationTest
+@TestPropertySource(properties = "cache.existence.enabled=true")
+public class ExistenceIndexTest {
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private ExistenceIndex target;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    public void givenLoadedIds_whenCallsExistsByIds_shouldAnswerWithoutQuerying() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        target.rebuild();
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var expectedIds = List.of(series.getId(), filmes.getId());
+
+        // when
+        final var actualIds = countingStatements(() -> categoryGateway.existsByIds(expectedIds));
+
+        // then
+        Assertions.assertTrue(target.isReady());
+        Assertions.assertEquals(expectedIds, actualIds);
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenAnIdNeverSeen_whenCallsExistsByIds_shouldLookOnlyItUp() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        target.rebuild();
+
+        // when
+        final var actualIds = countingStatements(() -> categoryGateway.existsByIds(
+                List.of(CategoryID.unique(), filmes.getId())
+        ));
+
+        // then
+        Assertions.assertEquals(List.of(filmes.getId()), actualIds);
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenADeletedId_whenCallsExistsByIds_shouldLookItUp() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        target.rebuild();
+        categoryGateway.deleteById(filmes.getId());
+
+        // when
+        final var actualIds = countingStatements(() -> categoryGateway.existsByIds(List.of(filmes.getId())));
+
+        // then
+        Assertions.assertTrue(actualIds.isEmpty());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenAnIdWrittenByAnotherInstance_whenCallsExistsByIdsTwice_shouldLookItUpOnce() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        target.rebuild();
+        target.forget(CategoryJpaEntity.class, filmes.getId().getValue());
+
+        // when
+        final var firstIds = countingStatements(() -> categoryGateway.existsByIds(List.of(filmes.getId())));
+        final var firstStatements = statistics.getPrepareStatementCount();
+        final var secondIds = countingStatements(() -> categoryGateway.existsByIds(List.of(filmes.getId())));
+
+        // then
+        Assertions.assertEquals(List.of(filmes.getId()), firstIds);
+        Assertions.assertEquals(List.of(filmes.getId()), secondIds);
+        Assertions.assertEquals(1, firstStatements);
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenSharedInvalidations_whenAnIdWasNeverSeen_shouldRuleItOutWithoutLookingItUp() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var index = filteredIndex();
+        final var lookups = new ArrayList<List<CategoryID>>();
+
+        // when
+        final var actualIds = index.existing(
+                CategoryJpaEntity.class,
+                List.of(CategoryID.unique(), filmes.getId()),
+                CategoryID::getValue,
+                recording(lookups)
+        );
+
+        // then
+        Assertions.assertEquals(List.of(filmes.getId()), actualIds);
+        Assertions.assertTrue(lookups.isEmpty());
+    }
+
+    @Test
+    public void givenSharedInvalidations_whenAnIdCreatedOnAnotherInstanceIsForgotten_shouldLookItUp() {
+        // given
+        final var index = filteredIndex();
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var lookups = new ArrayList<List<CategoryID>>();
+
+        // when
+        final var beforeInvalidation = index.existing(
+                CategoryJpaEntity.class, List.of(series.getId()), CategoryID::getValue, recording(lookups)
+        );
+        index.forget(CategoryJpaEntity.class, series.getId().getValue());
+        final var afterInvalidation = index.existing(
+                CategoryJpaEntity.class, List.of(series.getId()), CategoryID::getValue, recording(lookups)
+        );
+
+        // then
+        Assertions.assertTrue(beforeInvalidation.isEmpty());
+        Assertions.assertEquals(List.of(series.getId()), afterInvalidation);
+        Assertions.assertEquals(List.of(List.of(series.getId())), lookups);
+    }
+
+    /**
+     * An index with its Bloom filter, as built when the invalidations are shared; the one of the
+     * context keeps none, there is no broker in the tests.
+     */
+    private ExistenceIndex filteredIndex() {
+        final var index = new ExistenceIndex(
+                entityManager, transactionManager, Set.of(CategoryJpaEntity.class), 1000, 0.01, 100
+        );
+        index.rebuild();
+        return index;
+    }
+
+    private Function<List<CategoryID>, List<CategoryID>> recording(final List<List<CategoryID>> lookups) {
+        return ids -> {
+            lookups.add(ids);
+            return categoryGateway.existsByIds(ids);
+        };
+    }
+
+    private List<CategoryID> countingStatements(final Supplier<List<CategoryID>> anAction) {
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return anAction.get();
+    }
+}
@@ -0,0 +1,132 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.cache;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GatewayCacheTest {
+
+    private GatewayCache<CategoryID, Category> target;
+
+    @BeforeEach
+    public void setUp() {
+        this.target = new GatewayCache<>(
+                Duration.ofMinutes(1),
+                100,
+                Category::with,
+                it -> CacheInvalidation.versionOf(it.getUpdatedAt())
+        );
+    }
+
+    @Test
+    public void givenAnAggregate_whenCallsGetTwice_shouldLoadItOnceAndReturnCopies() {
+        // given
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var loads = new AtomicInteger();
+
+        // when
+        final var first = target.get(aCategory.getId(), it -> {
+            loads.incrementAndGet();
+            return Optional.of(aCategory);
+        }).get();
+        first.deactivate();
+        final var second = target.get(aCategory.getId(), it -> Optional.empty()).get();
+
+        // then
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertTrue(second.isActive());
+        Assertions.assertEquals(aCategory.getName(), second.getName());
+
+        final var actualStats = target.stats();
+        Assertions.assertEquals(1, actualStats.hits());
+        Assertions.assertEquals(1, actualStats.misses());
+        Assertions.assertEquals(0.5, actualStats.hitRatio());
+        Assertions.assertEquals(1, actualStats.entries());
+    }
+
+    @Test
+    public void givenAMissingId_whenCallsGetTwice_shouldCacheTheMiss() {
+        // given
+        final var anId = CategoryID.unique();
+        final var loads = new AtomicInteger();
+
+        // when
+        target.get(anId, it -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        final var actualResult = target.get(anId, it -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // then
+        Assertions.assertTrue(actualResult.isEmpty());
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void givenAnInvalidationDuringTheLoad_whenCallsGet_shouldNotCacheTheLoadedAggregate() {
+        // given
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        // when
+        target.get(aCategory.getId(), it -> {
+            target.invalidate(it);
+            return Optional.of(aCategory);
+        });
+        final var actualResult = target.get(aCategory.getId(), it -> Optional.empty());
+
+        // then
+        Assertions.assertTrue(actualResult.isEmpty());
+    }
+
+    @Test
+    public void givenAnInvalidationOfANewerVersion_whenCallsGet_shouldNotCacheAnOlderAggregate() {
+        // given
+        final var anOlderCategory = category(Instant.parse("2026-01-01T00:00:00Z"));
+        final var anId = anOlderCategory.getId();
+        target.invalidate(anId, CacheInvalidation.versionOf(Instant.parse("2026-01-01T00:00:01Z")));
+
+        final var loads = new AtomicInteger();
+
+        // when
+        target.get(anId, it -> {
+            loads.incrementAndGet();
+            return Optional.of(anOlderCategory);
+        });
+        target.get(anId, it -> {
+            loads.incrementAndGet();
+            return Optional.of(anOlderCategory);
+        });
+
+        // then
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void givenAnInvalidationOfAnOlderVersion_whenCallsInvalidate_shouldKeepTheCachedAggregate() {
+        // given
+        final var aNewerCategory = category(Instant.parse("2026-01-01T00:00:01Z"));
+        final var anId = aNewerCategory.getId();
+        target.get(anId, it -> Optional.of(aNewerCategory));
+
+        // when
+        target.invalidate(anId, CacheInvalidation.versionOf(Instant.parse("2026-01-01T00:00:00Z")));
+        final var actualResult = target.get(anId, it -> Optional.empty());
+
+        // then
+        Assertions.assertEquals(aNewerCategory.getUpdatedAt(), actualResult.get().getUpdatedAt());
+    }
+
+    private static Category category(final Instant updatedAt) {
+        return Category.with(CategoryID.unique(), "Filmes", null, true, updatedAt, updatedAt, null);
+    }
+}
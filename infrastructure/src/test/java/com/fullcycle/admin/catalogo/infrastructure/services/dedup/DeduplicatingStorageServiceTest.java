@@ -0,0 +1,156 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.dedup;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.services.dedup.persistence.MediaBlobReferenceRepository;
+import com.fullcycle.admin.catalogo.infrastructure.services.dedup.persistence.MediaBlobRepository;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+@MySQLGatewayTest
+public class DeduplicatingStorageServiceTest {
+
+    @Autowired
+    private MediaBlobRepository blobRepository;
+
+    @Autowired
+    private MediaBlobReferenceRepository referenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryStorageService delegate;
+
+    private DeduplicatingStorageService target;
+
+    @BeforeEach
+    public void setUp() {
+        this.delegate = new InMemoryStorageService();
+        this.target = new DeduplicatingStorageService(delegate, blobRepository, referenceRepository, transactionManager);
+    }
+
+    @Test
+    public void givenTheSamePayloadForTwoVideos_whenCallsStore_shouldKeepASingleBlob() {
+        // given
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.BANNER);
+        final var expectedKey = "blobs/%s-%d".formatted(expectedResource.checksum(), expectedResource.length());
+
+        // when
+        target.store("videoId-1/type-BANNER", expectedResource);
+        target.store("videoId-2/type-BANNER", expectedResource);
+
+        // then
+        Assertions.assertEquals(List.of(expectedKey), List.copyOf(delegate.storage().keySet()));
+        Assertions.assertEquals(2, blobRepository.findById(expectedKey).get().getRefCount());
+        Assertions.assertEquals(expectedResource, target.get("videoId-1/type-BANNER").get());
+        Assertions.assertEquals(expectedResource, target.get("videoId-2/type-BANNER").get());
+    }
+
+    @Test
+    public void givenStreamedPayloads_whenCallsStore_shouldComputeTheKeyAndDropTheStaging() {
+        // given
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedKey = "blobs/%s-%d".formatted(expectedChecksum, expectedContent.length);
+
+        // when
+        final var actualResource = target.store("videoId-1/type-TRAILER", streamed(expectedContent, "trailer.mp4"));
+        target.store("videoId-2/type-VIDEO", streamed(expectedContent, "video.mp4"));
+
+        // then
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertEquals(target.get("videoId-1/type-TRAILER").get(), actualResource);
+        Assertions.assertArrayEquals(expectedContent, actualResource.content());
+        Assertions.assertEquals(List.of(expectedKey), List.copyOf(delegate.storage().keySet()));
+        Assertions.assertEquals(2, blobRepository.findById(expectedKey).get().getRefCount());
+        Assertions.assertEquals("video.mp4", target.get("videoId-2/type-VIDEO").get().name());
+    }
+
+    @Test
+    public void givenASharedBlob_whenClearsBothVideos_shouldOnlySweepItOnceUnreferenced() {
+        // given
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final var expectedKey = "blobs/%s-%d".formatted(expectedResource.checksum(), expectedResource.length());
+
+        target.store("videoId-1/type-THUMBNAIL", expectedResource);
+        target.store("videoId-2/type-THUMBNAIL", expectedResource);
+
+        // when
+        target.deleteAll(target.list("videoId-1"));
+
+        // then
+        Assertions.assertTrue(target.get("videoId-1/type-THUMBNAIL").isEmpty());
+        Assertions.assertTrue(target.get("videoId-2/type-THUMBNAIL").isPresent());
+        Assertions.assertEquals(1, blobRepository.findById(expectedKey).get().getRefCount());
+        Assertions.assertTrue(delegate.storage().containsKey(expectedKey));
+
+        // when
+        target.deleteAll(target.list("videoId-2"));
+
+        // then
+        Assertions.assertEquals(0, blobRepository.findById(expectedKey).get().getRefCount());
+        Assertions.assertTrue(delegate.storage().containsKey(expectedKey));
+
+        // when
+        final var actualSwept = target.sweep();
+
+        // then
+        Assertions.assertEquals(1, actualSwept);
+        Assertions.assertTrue(blobRepository.findById(expectedKey).isEmpty());
+        Assertions.assertTrue(delegate.storage().isEmpty());
+    }
+
+    @Test
+    public void givenAnIdStoredAgain_whenPayloadChanges_shouldReleaseThePreviousBlob() {
+        // given
+        final var firstResource = Fixture.Videos.resource(VideoMediaType.BANNER);
+        final var secondResource = Resource.with("Outro conteudo".getBytes(), "0000ffff", "image/jpg", "banner");
+        final var firstKey = "blobs/%s-%d".formatted(firstResource.checksum(), firstResource.length());
+
+        target.store("videoId-1/type-BANNER", firstResource);
+
+        // when
+        target.store("videoId-1/type-BANNER", secondResource);
+        target.store("videoId-1/type-BANNER", secondResource);
+        target.sweep();
+
+        // then
+        Assertions.assertTrue(blobRepository.findById(firstKey).isEmpty());
+        Assertions.assertFalse(delegate.storage().containsKey(firstKey));
+        Assertions.assertEquals(1, blobRepository.findAll().get(0).getRefCount());
+        Assertions.assertEquals(List.of("videoId-1/type-BANNER"), target.list("videoId-1"));
+    }
+
+    @Test
+    public void givenAnUnreferencedBlob_whenStoredAgainBeforeTheSweep_shouldKeepItsPayload() {
+        // given
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.BANNER);
+        final var expectedKey = "blobs/%s-%d".formatted(expectedResource.checksum(), expectedResource.length());
+
+        target.store("videoId-1/type-BANNER", expectedResource);
+        target.deleteAll(List.of("videoId-1/type-BANNER"));
+
+        // when
+        target.store("videoId-2/type-BANNER", expectedResource);
+        final var actualSwept = target.sweep();
+
+        // then
+        Assertions.assertEquals(0, actualSwept);
+        Assertions.assertEquals(1, blobRepository.findById(expectedKey).get().getRefCount());
+        Assertions.assertEquals(expectedResource, target.get("videoId-2/type-BANNER").get());
+    }
+
+    private Resource streamed(final byte[] content, final String name) {
+        return Resource.with(() -> new ByteArrayInputStream(content), content.length, "video/mp4", name);
+    }
+}
@@ -3,10 +3,15 @@ package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 import com.fullcycle.admin.catalogo.domain.Fixture;
 import com.fullcycle.admin.catalogo.domain.video.Resource;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.RestorableState;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.CopyWriter;
 import com.google.cloud.storage.Storage;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,8 +19,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -34,18 +45,20 @@ public class GCStorageAPITest {
     }
 
     @Test
-    public void givenValidResource_whenCallsStore_shouldStoreIt() {
+    public void givenValidResource_whenCallsStore_shouldStoreIt() throws Exception {
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
         final var expectedId = expectedResource.name();
 
         final Blob blob = mockBlob(expectedResource);
         doReturn(blob).when(storage).get(eq(bucket), eq(expectedId));
 
-        this.target.store(expectedId, expectedResource);
+        final var actualResource = this.target.store(expectedId, expectedResource);
 
         final var capturer = ArgumentCaptor.forClass(BlobInfo.class);
 
-        verify(storage, times(1)).create(capturer.capture(), eq(expectedResource.content()));
+        verify(storage, times(1)).createFrom(capturer.capture(), any(InputStream.class));
+
+        Assertions.assertEquals(expectedResource, actualResource);
 
         final var actualBlob = capturer.getValue();
         Assertions.assertEquals(this.bucket, actualBlob.getBlobId().getBucket());
@@ -54,6 +67,146 @@ public class GCStorageAPITest {
         Assertions.assertEquals(expectedResource.checksum(), actualBlob.getCrc32cToHexString());
     }
 
+    @Test
+    public void givenStreamedResource_whenCallsStore_shouldComputeChecksum() throws Exception {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedId = "item";
+
+        final var aResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "image/jpg",
+                "thumbnail"
+        );
+
+        doAnswer(invocation -> {
+            invocation.<InputStream>getArgument(1).readAllBytes();
+            return null;
+        }).when(storage).createFrom(any(BlobInfo.class), any(InputStream.class));
+
+        final var actualResource = this.target.store(expectedId, aResource);
+
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertEquals(expectedContent.length, actualResource.length());
+
+        final var capturer = ArgumentCaptor.forClass(BlobInfo.class);
+        verify(storage, times(1)).createFrom(capturer.capture(), any(InputStream.class));
+        Assertions.assertNull(capturer.getValue().getCrc32c());
+    }
+
+    @Test
+    public void givenChunks_whenCompletesAnUpload_shouldWriteThemThroughTheResumableChannel() throws Exception {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedId = "videoId-123/upload-abc";
+
+        final var channel = Mockito.mock(WriteChannel.class);
+        final var written = new ByteArrayOutputStream();
+        doAnswer(invocation -> {
+            final ByteBuffer src = invocation.getArgument(0);
+            final var count = src.remaining();
+            while (src.hasRemaining()) {
+                written.write(src.get());
+            }
+            return count;
+        }).when(channel).write(any(ByteBuffer.class));
+        doReturn(channel).when(storage).writer(any(BlobInfo.class));
+
+        final var anUpload = this.target.startUpload(expectedId, "video/mp4", "video.mp4");
+        anUpload.append(new ByteArrayInputStream(expectedContent, 0, 3));
+        anUpload.append(new ByteArrayInputStream(expectedContent, 3, 5));
+
+        verify(channel, never()).close();
+
+        final var actualResource = anUpload.complete();
+
+        verify(channel, times(1)).close();
+        Assertions.assertArrayEquals(expectedContent, written.toByteArray());
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertEquals(expectedContent.length, actualResource.length());
+
+        final var capturer = ArgumentCaptor.forClass(BlobInfo.class);
+        verify(storage, times(1)).writer(capturer.capture());
+        Assertions.assertEquals(expectedId, capturer.getValue().getName());
+        Assertions.assertEquals("video/mp4", capturer.getValue().getContentType());
+    }
+
+    @Test
+    public void givenAnUpload_whenCompletes_shouldReportTheChecksumAsGCSDoes() throws Exception {
+        final var expectedContent = "123456789".getBytes();
+        final var expectedChecksum = BlobInfo.newBuilder(bucket, "item")
+                .setCrc32c("4waSgw==")
+                .build()
+                .getCrc32cToHexString();
+
+        final var channel = Mockito.mock(WriteChannel.class);
+        doAnswer(invocation -> consume(invocation.getArgument(0))).when(channel).write(any(ByteBuffer.class));
+        doReturn(channel).when(storage).writer(any(BlobInfo.class));
+
+        final var anUpload = this.target.startUpload("videoId-123/upload-abc", "video/mp4", "video.mp4");
+        anUpload.append(new ByteArrayInputStream(expectedContent));
+        final var actualResource = anUpload.complete();
+
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertEquals(expectedChecksum, HashingUtils.checksum(expectedContent));
+    }
+
+    @Test
+    public void givenACapturedUpload_whenResumes_shouldCarryOnThroughTheRestoredChannel() throws Exception {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedId = "videoId-123/upload-abc";
+
+        final var channel = Mockito.mock(WriteChannel.class);
+        doAnswer(invocation -> consume(invocation.getArgument(0))).when(channel).write(any(ByteBuffer.class));
+        doReturn(new CapturedWriteChannel()).when(channel).capture();
+        doReturn(channel).when(storage).writer(any(BlobInfo.class));
+
+        final var anUpload = this.target.startUpload(expectedId, "video/mp4", "video.mp4");
+        anUpload.append(new ByteArrayInputStream(expectedContent, 0, 3));
+        final var actualState = anUpload.capture().orElseThrow();
+
+        final var restored = Mockito.mock(WriteChannel.class);
+        doAnswer(invocation -> consume(invocation.getArgument(0))).when(restored).write(any(ByteBuffer.class));
+        CapturedWriteChannel.restored = restored;
+
+        final Blob blob = mockBlob(Resource.with(expectedContent, expectedChecksum, "video/mp4", expectedId));
+        doReturn(blob).when(storage).get(eq(BlobId.of(bucket, expectedId)));
+
+        final var actualUpload = this.target.resumeUpload(expectedId, "video/mp4", "video.mp4", 3, actualState).orElseThrow();
+        final var actualCommitted = actualUpload.append(new ByteArrayInputStream(expectedContent, 3, 5));
+        final var actualResource = actualUpload.complete();
+
+        verify(restored, times(1)).close();
+        verify(channel, never()).close();
+        Assertions.assertEquals(expectedContent.length, actualCommitted);
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertEquals("video.mp4", actualResource.name());
+    }
+
+    @Test
+    public void givenACompletedUpload_whenCallsStore_shouldCopyItServerSide() {
+        final var channel = Mockito.mock(WriteChannel.class);
+        doReturn(channel).when(storage).writer(any(BlobInfo.class));
+        final var copyWriter = Mockito.mock(CopyWriter.class);
+        doReturn(copyWriter).when(storage).copy(any(Storage.CopyRequest.class));
+
+        final var anUpload = this.target.startUpload("videoId-123/upload-abc", "video/mp4", "video.mp4");
+        final var aResource = anUpload.complete();
+
+        final var actualResource = this.target.store("videoId-123/type-VIDEO", aResource);
+
+        Assertions.assertEquals(aResource, actualResource);
+
+        final var capturer = ArgumentCaptor.forClass(Storage.CopyRequest.class);
+        verify(storage, times(1)).copy(capturer.capture());
+        verify(copyWriter, times(1)).getResult();
+        verifyNoMoreInteractions(copyWriter);
+        Assertions.assertEquals("videoId-123/upload-abc", capturer.getValue().getSource().getName());
+        Assertions.assertEquals("videoId-123/type-VIDEO", capturer.getValue().getTarget().getName());
+    }
+
     @Test
     public void givenResource_whenCallsGet_shouldRetrieveIt() {
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
@@ -61,13 +214,33 @@ public class GCStorageAPITest {
 
         final Blob blob = mockBlob(expectedResource);
         doReturn(blob).when(storage).get(eq(bucket), eq(expectedId));
+        doAnswer(t -> new InMemoryReadChannel(expectedResource.content())).when(storage).reader(eq(BlobId.of(bucket, expectedId)));
 
         final var actualContent = target.get(expectedId).get();
 
         Assertions.assertEquals(expectedResource.checksum(), actualContent.checksum());
         Assertions.assertEquals(expectedResource.name(), actualContent.name());
-        Assertions.assertEquals(expectedResource.content(), actualContent.content());
+        Assertions.assertEquals(expectedResource.length(), actualContent.length());
+        Assertions.assertArrayEquals(expectedResource.content(), actualContent.content());
         Assertions.assertEquals(expectedResource.contentType(), actualContent.contentType());
+        verify(blob, never()).getContent();
+    }
+
+    @Test
+    public void givenResource_whenOpensARange_shouldReadOnlyTheSlice() throws Exception {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var expectedId = expectedResource.name();
+        final var expectedSlice = "nte".getBytes();
+
+        final Blob blob = mockBlob(expectedResource);
+        doReturn(blob).when(storage).get(eq(bucket), eq(expectedId));
+        doAnswer(t -> new InMemoryReadChannel(expectedResource.content())).when(storage).reader(eq(BlobId.of(bucket, expectedId)));
+
+        final var actualContent = target.get(expectedId).get();
+
+        try (final var in = actualContent.stream().open(2, 3)) {
+            Assertions.assertArrayEquals(expectedSlice, in.readAllBytes());
+        }
     }
 
     @Test
@@ -121,13 +294,86 @@ public class GCStorageAPITest {
         Assertions.assertTrue(expectedIds.size() == actualIds.size() && actualIds.containsAll(expectedIds));
     }
 
+    private static int consume(final ByteBuffer src) {
+        final var count = src.remaining();
+        src.position(src.limit());
+        return count;
+    }
+
     private Blob mockBlob(final Resource resource) {
         final var blob1 = Mockito.mock(Blob.class);
         when(blob1.getBlobId()).thenReturn(BlobId.of(bucket, resource.name()));
         when(blob1.getCrc32cToHexString()).thenReturn(resource.checksum());
-        when(blob1.getContent()).thenReturn(resource.content());
+        when(blob1.getSize()).thenReturn(resource.length());
         when(blob1.getContentType()).thenReturn(resource.contentType());
         when(blob1.getName()).thenReturn(resource.name());
         return blob1;
     }
+
+    private static class CapturedWriteChannel implements RestorableState<WriteChannel>, Serializable {
+
+        private static WriteChannel restored;
+
+        @Override
+        public WriteChannel restore() {
+            return restored;
+        }
+    }
+
+    private static class InMemoryReadChannel implements ReadChannel {
+
+        private final byte[] content;
+        private int position;
+        private long limit = Long.MAX_VALUE;
+
+        private InMemoryReadChannel(final byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public int read(final ByteBuffer dst) {
+            final var end = (int) Math.min(content.length, limit);
+            if (position >= end) {
+                return -1;
+            }
+            final var count = Math.min(dst.remaining(), end - position);
+            dst.put(content, position, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void seek(final long position) {
+            this.position = (int) position;
+        }
+
+        @Override
+        public ReadChannel limit(final long limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        @Override
+        public long limit() {
+            return limit;
+        }
+
+        @Override
+        public void setChunkSize(final int chunkSize) {
+        }
+
+        @Override
+        public RestorableState<ReadChannel> capture() {
+            return null;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
 }
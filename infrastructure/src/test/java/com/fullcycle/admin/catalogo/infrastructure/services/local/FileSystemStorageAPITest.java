@@ -0,0 +1,164 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.local;
+
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+class FileSystemStorageAPITest {
+
+    @TempDir
+    Path root;
+
+    private FileSystemStorageService target;
+
+    @BeforeEach
+    public void setUp() {
+        this.target = new FileSystemStorageService(root);
+    }
+
+    @Test
+    public void givenValidResource_whenCallsStore_shouldStoreIt() throws Exception {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final var expectedId = "videoId-123/type-THUMBNAIL";
+
+        final var actualResource = target.store(expectedId, expectedResource);
+
+        Assertions.assertEquals(expectedResource, actualResource);
+        Assertions.assertArrayEquals(expectedResource.content(), Files.readAllBytes(root.resolve(expectedId)));
+
+        try (final var files = Files.list(root.resolve("videoId-123"))) {
+            Assertions.assertTrue(files.noneMatch(it -> it.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    public void givenStreamedResource_whenCallsStore_shouldComputeChecksum() {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+
+        final var aResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "image/jpg",
+                "thumbnail"
+        );
+
+        final var actualResource = target.store("item", aResource);
+
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertArrayEquals(expectedContent, actualResource.content());
+    }
+
+    @Test
+    public void givenResource_whenCallsGet_shouldRetrieveItWithItsMetadata() throws Exception {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var expectedId = "videoId-123/type-VIDEO";
+
+        target.store(expectedId, expectedResource);
+
+        final var actualResource = target.get(expectedId).get();
+
+        Assertions.assertEquals(expectedResource, actualResource);
+        Assertions.assertArrayEquals(expectedResource.content(), actualResource.content());
+
+        try (final var in = actualResource.stream().open(2, 3)) {
+            Assertions.assertArrayEquals("nte".getBytes(), in.readNBytes(3));
+        }
+    }
+
+    @Test
+    public void givenStoredResource_whenStoredAgain_shouldCopyTheFile() {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+        target.store("videoId-123/upload-abc", expectedResource);
+        final var staged = target.get("videoId-123/upload-abc").get();
+
+        final var actualResource = target.store("videoId-123/type-VIDEO", staged);
+
+        Assertions.assertEquals(expectedResource, actualResource);
+        Assertions.assertArrayEquals(expectedResource.content(), target.get("videoId-123/type-VIDEO").get().content());
+    }
+
+    @Test
+    public void givenInvalidResource_whenCallsGet_shouldRetrieveEmpty() {
+        target.store("item", Fixture.Videos.resource(VideoMediaType.THUMBNAIL));
+
+        Assertions.assertTrue(target.get("jajaja").isEmpty());
+        Assertions.assertTrue(target.get("folder/jajaja").isEmpty());
+    }
+
+    @Test
+    public void givenDataWithoutItsMetadata_whenCallsGet_shouldRetrieveEmpty() throws Exception {
+        final var expectedId = "videoId-123/type-VIDEO";
+        target.store(expectedId, Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+        // a write or a delete interrupted between the data and its metadata
+        Files.delete(root.resolve("videoId-123/.type-VIDEO.meta"));
+
+        Assertions.assertTrue(target.get(expectedId).isEmpty());
+    }
+
+    @Test
+    public void givenAnIdOutsideTheRoot_whenCallsGet_shouldThrow() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> target.get("../etc/passwd"));
+    }
+
+    @Test
+    public void givenPrefix_whenCallsList_shouldRetrieveAll() {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final var expectedIds = List.of("videoId-123/type-VIDEO", "videoId-123/type-BANNER");
+
+        expectedIds.forEach(id -> target.store(id, expectedResource));
+        target.store("videoId-456/type-VIDEO", expectedResource);
+
+        final var actualIds = target.list("videoId-123");
+
+        Assertions.assertTrue(expectedIds.size() == actualIds.size() && actualIds.containsAll(expectedIds));
+    }
+
+    @Test
+    public void givenResource_whenCallsDeleteAll_shouldEmptyStorage() {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final var expectedIds = List.of("videoId-123/type-VIDEO", "videoId-123/type-BANNER");
+
+        expectedIds.forEach(id -> target.store(id, expectedResource));
+
+        target.deleteAll(expectedIds);
+
+        Assertions.assertTrue(target.list("videoId-123").isEmpty());
+        Assertions.assertTrue(Files.notExists(root.resolve("videoId-123")));
+    }
+
+    @Test
+    public void givenChunks_whenCompletesAnUpload_shouldRenameItIntoPlace() {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedId = "videoId-123/upload-abc";
+
+        final var anUpload = target.startUpload(expectedId, "video/mp4", "video.mp4");
+        anUpload.append(new ByteArrayInputStream(expectedContent, 0, 4));
+
+        Assertions.assertTrue(target.get(expectedId).isEmpty());
+        Assertions.assertTrue(target.list("videoId-123").isEmpty());
+
+        anUpload.append(new ByteArrayInputStream(expectedContent, 4, 4));
+        final var actualResource = anUpload.complete();
+
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertArrayEquals(expectedContent, target.get(expectedId).get().content());
+
+        anUpload.discard();
+
+        Assertions.assertTrue(target.get(expectedId).isEmpty());
+    }
+}
@@ -1,11 +1,14 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.local;
 
 import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.util.List;
 
 class InMemoryStorageAPITest {
@@ -29,6 +32,48 @@ class InMemoryStorageAPITest {
         Assertions.assertEquals(expectedResource, actualContent);
     }
 
+    @Test
+    public void givenStreamedResource_whenCallsStore_shouldComputeChecksum() {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedId = "item";
+
+        final var aResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "image/jpg",
+                "thumbnail"
+        );
+
+        final var actualResource = target.store(expectedId, aResource);
+
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertArrayEquals(expectedContent, this.target.storage().get(expectedId).content());
+    }
+
+    @Test
+    public void givenChunks_whenCompletesAnUpload_shouldStoreTheWholeContent() {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedId = "item";
+
+        final var anUpload = target.startUpload(expectedId, "video/mp4", "video.mp4");
+
+        Assertions.assertEquals(4, anUpload.append(new ByteArrayInputStream(expectedContent, 0, 4)));
+        Assertions.assertTrue(this.target.storage().isEmpty());
+        Assertions.assertEquals(8, anUpload.append(new ByteArrayInputStream(expectedContent, 4, 4)));
+
+        final var actualResource = anUpload.complete();
+
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertEquals(expectedContent.length, actualResource.length());
+        Assertions.assertArrayEquals(expectedContent, this.target.storage().get(expectedId).content());
+
+        anUpload.discard();
+
+        Assertions.assertTrue(this.target.storage().isEmpty());
+    }
+
     @Test
     public void givenResource_whenCallsGet_shouldRetrieveIt() {
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
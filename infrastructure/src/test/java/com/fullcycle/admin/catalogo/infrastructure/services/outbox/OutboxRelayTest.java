@@ -0,0 +1,158 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaCreated;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.OutboxProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.services.outbox.persistence.OutboxEventRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@IntegrationTest
+public class OutboxRelayTest {
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private EventOutbox eventOutbox;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private EventService eventService;
+
+    private OutboxRelay target;
+
+    @BeforeEach
+    public void setUp() {
+        final var props = new OutboxProperties();
+        props.setBatchSize(2);
+        props.setPollInterval(Duration.ofSeconds(1));
+
+        this.eventService = Mockito.mock(EventService.class);
+        this.target = new OutboxRelay(eventService, outboxEventRepository, transactionManager, props);
+    }
+
+    @Test
+    public void givenAVideoWithMediaPendingEncode_whenSaved_shouldWriteTheEventToTheOutbox() {
+        // given
+        final var aVideo = newVideo();
+        final var aMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        aVideo.updateVideoMedia(aMedia);
+
+        // when
+        videoGateway.create(aVideo);
+
+        // then
+        final var actualEvents = outboxEventRepository.findAll();
+        Assertions.assertEquals(1, actualEvents.size());
+        Assertions.assertEquals(aVideo.getId().getValue(), actualEvents.get(0).getAggregateId());
+        Assertions.assertEquals(VideoMediaCreated.class.getName(), actualEvents.get(0).getEventType());
+
+        verify(eventService, never()).sendAll(anyList());
+    }
+
+    @Test
+    public void givenPendingEvents_whenCallsDrain_shouldPublishABatchInOrderAndDeleteIt() {
+        // given
+        final var aVideo = newVideo();
+        videoGateway.create(aVideo.updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO)));
+        videoGateway.update(aVideo.updateTrailerMedia(Fixture.Videos.audioVideo(VideoMediaType.TRAILER)));
+        videoGateway.update(aVideo.updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO)));
+
+        Assertions.assertEquals(3, outboxEventRepository.count());
+
+        // when
+        final var firstBatch = target.drain();
+        final var secondBatch = target.drain();
+        final var thirdBatch = target.drain();
+
+        // then
+        Assertions.assertEquals(2, firstBatch);
+        Assertions.assertEquals(1, secondBatch);
+        Assertions.assertEquals(0, thirdBatch);
+        Assertions.assertEquals(0, outboxEventRepository.count());
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<?>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventService, times(2)).sendAll(captor.capture());
+
+        final var actualEvents = captor.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(Json::writeValueAsString)
+                .map(it -> Json.readValue(it, JsonNode.class))
+                .toList();
+
+        Assertions.assertEquals(3, actualEvents.size());
+        Assertions.assertEquals(aVideo.getId().getValue(), actualEvents.get(0).get("resource_id").asText());
+        Assertions.assertTrue(actualEvents.get(1).get("file_path").asText().startsWith("/videos/"));
+        Assertions.assertEquals(aVideo.getVideo().get().rawLocation(), actualEvents.get(2).get("file_path").asText());
+        Assertions.assertTrue(actualEvents.get(2).hasNonNull("occurred_on"));
+    }
+
+    @Test
+    public void givenTheBrokerFails_whenCallsDrain_shouldKeepTheEventsForTheNextPoll() {
+        // given
+        final var aVideo = newVideo();
+        videoGateway.create(aVideo.updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO)));
+
+        doThrow(new IllegalStateException("Broker unavailable")).when(eventService).sendAll(anyList());
+
+        // when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> target.drain());
+
+        // then
+        Assertions.assertEquals("Broker unavailable", actualException.getMessage());
+        Assertions.assertEquals(1, outboxEventRepository.count());
+
+        doNothing().when(eventService).sendAll(anyList());
+        Assertions.assertEquals(1, target.drain());
+        Assertions.assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    public void givenNoTransaction_whenCallsAppend_shouldFail() {
+        Assertions.assertThrows(
+                IllegalTransactionStateException.class,
+                () -> eventOutbox.append("123", new VideoMediaCreated("123", "/videos/123"))
+        );
+    }
+
+    private static Video newVideo() {
+        return Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+    }
+}
@@ -11,8 +11,13 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.domain.video.*;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,7 +26,10 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManagerFactory;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 @IntegrationTest
@@ -42,6 +50,9 @@ public class DefaultVideoGatewayTest {
     @Autowired
     private VideoRepository videoRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private CastMember wesley;
     private CastMember gabriel;
 
@@ -63,6 +74,11 @@ public class DefaultVideoGatewayTest {
         business = genreGateway.create(Fixture.Genres.business());
     }
 
+    @AfterEach
+    public void tearDown() {
+        entityManagerFactory.unwrap(SessionFactory.class).getStatistics().setStatisticsEnabled(false);
+    }
+
     @Test
     public void testInjection() {
         Assertions.assertNotNull(videoGateway);
@@ -467,6 +483,52 @@ public class DefaultVideoGatewayTest {
         Assertions.assertEquals(expectedThumbHalf.name(), actualVideo.getThumbnailHalf().get().name());
     }
 
+    @Test
+    public void givenAVideoWithEveryMediaAndAssociation_whenCallsFindById_shouldLoadItInTwoStatements() {
+        // given
+        final var expectedCategories = Set.of(aulas.getId(), lives.getId());
+        final var expectedGenres = Set.of(tech.getId(), business.getId());
+        final var expectedMembers = Set.of(wesley.getId(), gabriel.getId());
+
+        final var aVideo = videoGateway.create(
+                Video.newVideo(
+                                Fixture.title(),
+                                Fixture.Videos.description(),
+                                Year.of(Fixture.year()),
+                                Fixture.duration(),
+                                Fixture.bool(),
+                                Fixture.bool(),
+                                Fixture.Videos.rating(),
+                                expectedCategories,
+                                expectedGenres,
+                                expectedMembers
+                        )
+                        .updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO))
+                        .updateTrailerMedia(Fixture.Videos.audioVideo(VideoMediaType.TRAILER))
+                        .updateBannerMedia(Fixture.Videos.image(VideoMediaType.BANNER))
+                        .updateThumbnailMedia(Fixture.Videos.image(VideoMediaType.THUMBNAIL))
+                        .updateThumbnailHalfMedia(Fixture.Videos.image(VideoMediaType.THUMBNAIL_HALF))
+        );
+
+        final var statistics = statistics();
+
+        // when
+        final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+
+        // then
+        Assertions.assertEquals(expectedCategories, actualVideo.getCategories());
+        Assertions.assertEquals(expectedGenres, actualVideo.getGenres());
+        Assertions.assertEquals(expectedMembers, actualVideo.getCastMembers());
+        Assertions.assertEquals(aVideo.getVideo(), actualVideo.getVideo());
+        Assertions.assertEquals(aVideo.getTrailer(), actualVideo.getTrailer());
+        Assertions.assertEquals(aVideo.getBanner(), actualVideo.getBanner());
+        Assertions.assertEquals(aVideo.getThumbnail(), actualVideo.getThumbnail());
+        Assertions.assertEquals(aVideo.getThumbnailHalf(), actualVideo.getThumbnailHalf());
+
+        // the video joined with its medias, then the ids of every association
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
     @Test
     public void givenAInvalidVideoId_whenCallsFindById_shouldEmpty() {
         // given
@@ -492,6 +554,194 @@ public class DefaultVideoGatewayTest {
         Assertions.assertTrue(actualVideo.isEmpty());
     }
 
+    @Test
+    public void givenAVideoWithAssociations_whenCallsUpdateKeepingThem_shouldOnlyUpdateTheVideoRow() {
+        // given
+        final var aVideo = videoGateway.create(newVideo()
+                .update(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.duration(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Fixture.Videos.rating(),
+                        Set.of(aulas.getId(), lives.getId()),
+                        Set.of(tech.getId(), business.getId()),
+                        Set.of(wesley.getId(), gabriel.getId())
+                )
+                .updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO))
+                .updateBannerMedia(Fixture.Videos.image(VideoMediaType.BANNER)));
+
+        final var expectedTitle = Fixture.title();
+        final var statistics = statistics();
+
+        // when
+        final var actualVideo = videoGateway.update(Video.with(aVideo).update(
+                expectedTitle,
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getRating(),
+                aVideo.getCategories(),
+                aVideo.getGenres(),
+                aVideo.getCastMembers()
+        ));
+
+        // then
+        Assertions.assertEquals(expectedTitle, actualVideo.getTitle());
+        Assertions.assertEquals(0, statistics.getEntityInsertCount());
+        Assertions.assertEquals(0, statistics.getEntityDeleteCount());
+        Assertions.assertEquals(1, statistics.getEntityUpdateCount());
+        Assertions.assertEquals(0, statistics.getCollectionRecreateCount());
+        Assertions.assertEquals(5, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenAVideoWithAssociations_whenCallsUpdateChangingThem_shouldOnlyWriteTheDelta() {
+        // given
+        final var aVideo = videoGateway.create(newVideo()
+                .update(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.duration(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Fixture.Videos.rating(),
+                        Set.of(aulas.getId()),
+                        Set.of(tech.getId()),
+                        Set.of(wesley.getId())
+                ));
+
+        final var expectedCategories = Set.of(lives.getId());
+        final var expectedGenres = Set.of(tech.getId());
+        final var expectedMembers = Set.of(wesley.getId(), gabriel.getId());
+        final var statistics = statistics();
+
+        // when
+        final var actualVideo = videoGateway.update(Video.with(aVideo).update(
+                aVideo.getTitle(),
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getRating(),
+                expectedCategories,
+                expectedGenres,
+                expectedMembers
+        ));
+
+        // then
+        Assertions.assertEquals(expectedCategories, actualVideo.getCategories());
+        Assertions.assertEquals(expectedGenres, actualVideo.getGenres());
+        Assertions.assertEquals(expectedMembers, actualVideo.getCastMembers());
+        Assertions.assertEquals(2, statistics.getEntityInsertCount());
+        Assertions.assertEquals(1, statistics.getEntityDeleteCount());
+        Assertions.assertEquals(0, statistics.getCollectionRecreateCount());
+        Assertions.assertEquals(8, statistics.getPrepareStatementCount());
+
+        final var persistedVideo = videoGateway.findById(aVideo.getId()).get();
+        Assertions.assertEquals(expectedCategories, persistedVideo.getCategories());
+        Assertions.assertEquals(expectedGenres, persistedVideo.getGenres());
+        Assertions.assertEquals(expectedMembers, persistedVideo.getCastMembers());
+    }
+
+    @Test
+    public void givenAPendingMedia_whenCallsUpdateMediaStatusToProcessing_shouldUpdateOnlyThatMedia() {
+        // given
+        final var expectedVideo = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var expectedTrailer = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
+        final var aVideo = videoGateway.create(newVideo()
+                .updateVideoMedia(expectedVideo)
+                .updateTrailerMedia(expectedTrailer));
+
+        // when
+        final var actualResult = videoGateway.updateMediaStatus(
+                aVideo.getId(), expectedVideo.id(), MediaStatus.PROCESSING, null
+        );
+
+        // then
+        Assertions.assertTrue(actualResult);
+
+        final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+        Assertions.assertEquals(MediaStatus.PROCESSING, actualVideo.getVideo().get().status());
+        Assertions.assertEquals(expectedVideo.encodedLocation(), actualVideo.getVideo().get().encodedLocation());
+        Assertions.assertEquals(MediaStatus.PENDING, actualVideo.getTrailer().get().status());
+        Assertions.assertEquals(aVideo.getTitle(), actualVideo.getTitle());
+        Assertions.assertTrue(actualVideo.getUpdatedAt().isAfter(aVideo.getUpdatedAt()));
+    }
+
+    @Test
+    public void givenAPendingMedia_whenCallsUpdateMediaStatusToCompleted_shouldUpdateStatusAndEncodedPath() {
+        // given
+        final var expectedEncodedPath = "encoded_media/filename.mp4";
+        final var expectedTrailer = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
+        final var aVideo = videoGateway.create(newVideo().updateTrailerMedia(expectedTrailer));
+
+        // when
+        final var actualResult = videoGateway.updateMediaStatus(
+                aVideo.getId(), expectedTrailer.id(), MediaStatus.COMPLETED, expectedEncodedPath
+        );
+
+        // then
+        Assertions.assertTrue(actualResult);
+
+        final var actualTrailer = videoGateway.findById(aVideo.getId()).get().getTrailer().get();
+        Assertions.assertEquals(MediaStatus.COMPLETED, actualTrailer.status());
+        Assertions.assertEquals(expectedEncodedPath, actualTrailer.encodedLocation());
+        Assertions.assertEquals(expectedTrailer.rawLocation(), actualTrailer.rawLocation());
+    }
+
+    @Test
+    public void givenACompletedMedia_whenCallsUpdateMediaStatus_shouldOnlyMoveForward() {
+        // given
+        final var expectedEncodedPath = "encoded_media/filename.mp4";
+        final var expectedVideo = Fixture.Videos.audioVideo(VideoMediaType.VIDEO).completed(expectedEncodedPath);
+        final var aVideo = videoGateway.create(newVideo().updateVideoMedia(expectedVideo));
+        final var anId = aVideo.getId();
+
+        // when
+        final var lateProcessing = videoGateway.updateMediaStatus(anId, expectedVideo.id(), MediaStatus.PROCESSING, null);
+        final var sameCompleted = videoGateway.updateMediaStatus(anId, expectedVideo.id(), MediaStatus.COMPLETED, expectedEncodedPath);
+        final var anError = videoGateway.updateMediaStatus(anId, expectedVideo.id(), MediaStatus.ERROR, null);
+
+        // then
+        Assertions.assertFalse(lateProcessing);
+        Assertions.assertFalse(sameCompleted);
+        Assertions.assertFalse(anError);
+
+        final var actualVideo = videoGateway.findById(anId).get();
+        Assertions.assertEquals(MediaStatus.COMPLETED, actualVideo.getVideo().get().status());
+        Assertions.assertEquals(expectedEncodedPath, actualVideo.getVideo().get().encodedLocation());
+        Assertions.assertEquals(aVideo.getUpdatedAt(), actualVideo.getUpdatedAt());
+
+        Assertions.assertTrue(videoGateway.updateMediaStatus(anId, expectedVideo.id(), MediaStatus.COMPLETED, "reencoded/filename.mp4"));
+        Assertions.assertEquals("reencoded/filename.mp4", videoGateway.findById(anId).get().getVideo().get().encodedLocation());
+    }
+
+    @Test
+    public void givenAMediaOfAnotherVideo_whenCallsUpdateMediaStatus_shouldNotTouchIt() {
+        // given
+        final var expectedVideo = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var aVideo = videoGateway.create(newVideo().updateVideoMedia(expectedVideo));
+        final var anotherVideo = videoGateway.create(newVideo());
+
+        // when
+        final var actualResult = videoGateway.updateMediaStatus(
+                anotherVideo.getId(), expectedVideo.id(), MediaStatus.PROCESSING, null
+        );
+
+        // then
+        Assertions.assertFalse(actualResult);
+        Assertions.assertTrue(videoGateway.existsById(anotherVideo.getId()));
+        Assertions.assertFalse(videoGateway.existsById(VideoID.unique()));
+        Assertions.assertEquals(MediaStatus.PENDING, videoGateway.findById(aVideo.getId()).get().getVideo().get().status());
+    }
+
     @Test
     public void givenEmptyParams_whenCallFindAll_shouldReturnAllList() {
         // given
@@ -831,6 +1081,139 @@ public class DefaultVideoGatewayTest {
         Assertions.assertEquals(expectedVideo, actualPage.items().get(0).title());
     }
 
+    @Test
+    public void givenAValidCastMember_whenFollowsTheCursors_shouldReturnTheFilteredListInOrder() {
+        // given
+        mockVideos();
+
+        final var expectedPerPage = 1;
+        final var expectedTitles = List.of("Aula de empreendedorismo", "System Design no Mercado Livre na prática");
+
+        // when
+        final var firstPage = videoGateway.findAll(cursorQuery(expectedPerPage, "title", "asc", Set.of(wesley.getId()), ""));
+        final var secondPage = videoGateway.findAll(cursorQuery(expectedPerPage, "title", "asc", Set.of(wesley.getId()), firstPage.nextCursor()));
+
+        // then
+        Assertions.assertEquals(Pagination.UNCOUNTED, firstPage.total());
+        Assertions.assertEquals(expectedPerPage, firstPage.items().size());
+        Assertions.assertEquals(expectedTitles.get(0), firstPage.items().get(0).title());
+        Assertions.assertNotNull(firstPage.nextCursor());
+
+        Assertions.assertEquals(expectedPerPage, secondPage.items().size());
+        Assertions.assertEquals(expectedTitles.get(1), secondPage.items().get(0).title());
+        Assertions.assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    public void givenVideos_whenFollowsTheCursorsByCreatedAtDesc_shouldReturnEveryVideoOnce() {
+        // given
+        mockVideos();
+
+        final var expectedTotal = 4;
+
+        // when
+        final var actualItems = new ArrayList<VideoPreview>();
+        var cursor = "";
+        do {
+            final var actualPage = videoGateway.findAll(cursorQuery(3, "createdAt", "desc", Set.of(), cursor));
+            actualItems.addAll(actualPage.items());
+            cursor = actualPage.nextCursor();
+        } while (cursor != null);
+
+        // then
+        Assertions.assertEquals(expectedTotal, actualItems.size());
+        Assertions.assertEquals(expectedTotal, actualItems.stream().map(VideoPreview::id).distinct().count());
+        for (int i = 1; i < actualItems.size(); i++) {
+            Assertions.assertFalse(actualItems.get(i).createdAt().isAfter(actualItems.get(i - 1).createdAt()));
+        }
+    }
+
+    @Test
+    public void givenVideosWithManyAssociations_whenCallsFindAllFilteringEveryDimension_shouldMatchEachVideoOnce() {
+        // given
+        final var expectedTotal = 30;
+        final var expectedPerPage = 10;
+
+        for (int i = 0; i < expectedTotal; i++) {
+            videoGateway.create(Video.newVideo(
+                    "Video %02d".formatted(i),
+                    Fixture.Videos.description(),
+                    Year.of(Fixture.year()),
+                    Fixture.duration(),
+                    Fixture.bool(),
+                    Fixture.bool(),
+                    Fixture.Videos.rating(),
+                    Set.of(aulas.getId(), lives.getId()),
+                    Set.of(tech.getId(), business.getId()),
+                    Set.of(wesley.getId(), gabriel.getId())
+            ));
+        }
+
+        final var aQuery = new VideoSearchQuery(
+                0,
+                expectedPerPage,
+                "video",
+                "title",
+                "asc",
+                Set.of(wesley.getId(), gabriel.getId()),
+                Set.of(aulas.getId(), lives.getId()),
+                Set.of(tech.getId(), business.getId())
+        );
+
+        final var statistics = statistics();
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(expectedTotal, actualPage.total());
+        Assertions.assertEquals(expectedPerPage, actualPage.items().size());
+        Assertions.assertEquals(expectedPerPage, actualPage.items().stream().map(VideoPreview::id).distinct().count());
+        Assertions.assertEquals("Video 00", actualPage.items().get(0).title());
+        Assertions.assertEquals("Video 09", actualPage.items().get(9).title());
+
+        // the page and one count, both without DISTINCT
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(2, statistics.getQueryExecutionCount());
+    }
+
+    @Test
+    public void givenAShortFirstPage_whenCallsFindAll_shouldNotCount() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(aulas.getId()), Set.of());
+
+        final var statistics = statistics();
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenNoTotal_whenCallsFindAllAFullPage_shouldNotCount() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(0, 2, "", "title", "asc", Set.of(), Set.of(), Set.of(), null, TotalMode.NONE);
+
+        final var statistics = statistics();
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(Pagination.UNCOUNTED, actualPage.total());
+        Assertions.assertTrue(actualPage.hasNext());
+        Assertions.assertEquals(2, actualPage.items().size());
+        Assertions.assertEquals("21.1 Implementação dos testes integrados do findAll", actualPage.items().get(0).title());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
     private void mockVideos() {
         videoGateway.create(Video.newVideo(
                 "System Design no Mercado Livre na prática",
@@ -884,4 +1267,36 @@ public class DefaultVideoGatewayTest {
                 Set.of(wesley.getId())
         ));
     }
-}
\ No newline at end of file
+
+    private static VideoSearchQuery cursorQuery(
+            final int perPage,
+            final String sort,
+            final String direction,
+            final Set<CastMemberID> castMembers,
+            final String cursor
+    ) {
+        return new VideoSearchQuery(0, perPage, "", sort, direction, castMembers, Set.of(), Set.of(), cursor);
+    }
+
+    private Statistics statistics() {
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
+    private static Video newVideo() {
+        return Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+    }
+}
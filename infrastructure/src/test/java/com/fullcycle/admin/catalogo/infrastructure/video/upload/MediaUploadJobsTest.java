@@ -0,0 +1,180 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.upload;
+
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class MediaUploadJobsTest {
+
+    @TempDir
+    private Path spool;
+
+    private UploadMediaUseCase uploadMediaUseCase;
+
+    private ExecutorService executor;
+
+    private MediaUploadJobs target;
+
+    @BeforeEach
+    public void setUp() {
+        final var props = new StorageProperties();
+        props.setSpool(spool.toString());
+
+        this.uploadMediaUseCase = Mockito.mock(UploadMediaUseCase.class);
+        this.executor = Executors.newSingleThreadExecutor();
+        this.target = new MediaUploadJobs(props, uploadMediaUseCase, executor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void givenSpooledMedias_whenJobRuns_shouldUploadThemInOrderAndCleanTheSpool() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedVideo = new MockMultipartFile("video_file", "video.mp4", "video/mp4", "VIDEO".getBytes());
+        final var expectedBanner = new MockMultipartFile("banner_file", "banner.jpg", "image/jpg", "BANNER".getBytes());
+
+        final var medias = new LinkedHashMap<VideoMediaType, MultipartFile>();
+        medias.put(VideoMediaType.VIDEO, expectedVideo);
+        medias.put(VideoMediaType.BANNER, expectedBanner);
+
+        final var contents = new LinkedHashMap<VideoMediaType, byte[]>();
+        when(uploadMediaUseCase.execute(any())).thenAnswer(t -> {
+            final var aCmd = t.getArgument(0, UploadMediaCommand.class);
+            contents.put(aCmd.videoResource().type(), aCmd.videoResource().resource().content());
+            return new UploadMediaOutput(aCmd.videoId(), aCmd.videoResource().type());
+        });
+
+        // when
+        final var aJob = target.submit(expectedId, medias);
+        awaitJobs();
+
+        // then
+        Assertions.assertEquals(MediaUploadJob.Status.COMPLETED, target.get(expectedId, aJob.id()).status());
+        Assertions.assertNull(aJob.error());
+
+        final var captor = ArgumentCaptor.forClass(UploadMediaCommand.class);
+        verify(uploadMediaUseCase, times(2)).execute(captor.capture());
+
+        final var actualCmds = captor.getAllValues();
+        Assertions.assertEquals(expectedId.getValue(), actualCmds.get(0).videoId());
+        Assertions.assertEquals(VideoMediaType.VIDEO, actualCmds.get(0).videoResource().type());
+        Assertions.assertEquals("video.mp4", actualCmds.get(0).videoResource().resource().name());
+        Assertions.assertEquals("video/mp4", actualCmds.get(0).videoResource().resource().contentType());
+        Assertions.assertEquals(VideoMediaType.BANNER, actualCmds.get(1).videoResource().type());
+
+        Assertions.assertArrayEquals("VIDEO".getBytes(), contents.get(VideoMediaType.VIDEO));
+        Assertions.assertArrayEquals("BANNER".getBytes(), contents.get(VideoMediaType.BANNER));
+
+        try (final var files = Files.list(spool)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void givenAFailingUpload_whenJobRuns_shouldMarkItFailedAndCleanTheSpool() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedError = "Storage unavailable";
+        final var expectedVideo = new MockMultipartFile("video_file", "video.mp4", "video/mp4", "VIDEO".getBytes());
+
+        when(uploadMediaUseCase.execute(any())).thenThrow(new IllegalStateException(expectedError));
+
+        // when
+        final var aJob = target.submit(expectedId, Map.of(VideoMediaType.VIDEO, expectedVideo));
+        awaitJobs();
+
+        // then
+        Assertions.assertEquals(MediaUploadJob.Status.FAILED, aJob.status());
+        Assertions.assertEquals(expectedError, aJob.error());
+
+        try (final var files = Files.list(spool)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void givenAnotherVideoId_whenCallsGet_shouldReturnNotFound() {
+        // given
+        final var aJob = target.submit(VideoID.unique(), Map.of());
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> target.get(VideoID.unique(), aJob.id())
+        );
+
+        // then
+        Assertions.assertEquals("Upload job %s not found".formatted(aJob.id()), actualException.getMessage());
+    }
+
+    @Test
+    public void givenASaturatedPool_whenSubmits_shouldRefuseTheJobAndCleanTheSpool() throws Exception {
+        // given
+        final var expectedVideo = new MockMultipartFile("video_file", "video.mp4", "video/mp4", "VIDEO".getBytes());
+        this.executor.shutdown();
+
+        // when
+        Assertions.assertThrows(
+                RejectedExecutionException.class,
+                () -> target.submit(VideoID.unique(), Map.of(VideoMediaType.VIDEO, expectedVideo))
+        );
+
+        // then
+        verify(uploadMediaUseCase, never()).execute(any());
+
+        try (final var files = Files.list(spool)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void givenMediasSpooledBeforeARestart_whenStarts_shouldDeleteThem() throws Exception {
+        // given
+        Files.write(spool.resolve("lost-VIDEO"), "VIDEO".getBytes());
+
+        final var props = new StorageProperties();
+        props.setSpool(spool.toString());
+
+        // when
+        new MediaUploadJobs(props, uploadMediaUseCase, executor);
+
+        // then
+        try (final var files = Files.list(spool)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    private void awaitJobs() throws InterruptedException {
+        this.executor.shutdown();
+        Assertions.assertTrue(this.executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
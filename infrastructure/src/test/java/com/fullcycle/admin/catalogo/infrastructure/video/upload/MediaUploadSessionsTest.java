@@ -0,0 +1,271 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.upload;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.ResumableUpload;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.FileSystemStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.upload.persistence.MediaUploadSessionRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@MySQLGatewayTest
+public class MediaUploadSessionsTest {
+
+    @Autowired
+    private MediaUploadSessionRepository repository;
+
+    @TempDir
+    Path root;
+
+    private StorageProperties props;
+
+    private InMemoryStorageService storageService;
+
+    private UploadMediaUseCase uploadMediaUseCase;
+
+    private MediaUploadSessions target;
+
+    @BeforeEach
+    public void setUp() {
+        this.props = new StorageProperties();
+        props.setLocationPattern("videoId-{videoId}");
+        props.setFilenamePattern("type-{type}");
+        props.setUploadSessionTtl(Duration.ofHours(1));
+
+        this.storageService = new InMemoryStorageService();
+        this.uploadMediaUseCase = Mockito.mock(UploadMediaUseCase.class);
+        this.target = new MediaUploadSessions(props, storageService, uploadMediaUseCase, repository);
+    }
+
+    @Test
+    public void givenRetriedChunks_whenCompletes_shouldUploadTheMediaOnce() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+
+        when(uploadMediaUseCase.execute(any())).thenReturn(new UploadMediaOutput(expectedId.getValue(), expectedType));
+
+        final var aSession = target.create(expectedId, expectedType, "video/mp4", "video.mp4", 8L);
+
+        // when
+        target.append(aSession, 0, new ByteArrayInputStream(expectedContent, 0, 5));
+        target.append(aSession, 3, new ByteArrayInputStream(expectedContent, 3, 5));
+
+        Assertions.assertFalse(aSession.accepts(9));
+        Assertions.assertEquals(8, aSession.committed());
+
+        target.complete(expectedId, expectedType, aSession.id(), expectedChecksum);
+
+        // then
+        final var captor = ArgumentCaptor.forClass(UploadMediaCommand.class);
+        verify(uploadMediaUseCase, times(1)).execute(captor.capture());
+
+        final var actualResource = captor.getValue().videoResource().resource();
+        Assertions.assertEquals(expectedId.getValue(), captor.getValue().videoId());
+        Assertions.assertEquals(expectedType, captor.getValue().videoResource().type());
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertArrayEquals(expectedContent, actualResource.content());
+
+        Assertions.assertTrue(storageService.storage().isEmpty());
+        Assertions.assertTrue(repository.findById(aSession.id()).isEmpty());
+        Assertions.assertThrows(NotFoundException.class, () -> target.get(expectedId, expectedType, aSession.id()));
+    }
+
+    @Test
+    public void givenAnIncompleteUpload_whenCompletes_shouldNotUploadTheMedia() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedErrorMessage = "has 4 of 8 bytes";
+
+        final var aSession = target.create(expectedId, expectedType, "video/mp4", "trailer.mp4", 8L);
+        target.append(aSession, 0, new ByteArrayInputStream("Cont".getBytes()));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> target.complete(expectedId, expectedType, aSession.id(), null)
+        );
+
+        // then
+        Assertions.assertTrue(actualException.getErrors().get(0).message().contains(expectedErrorMessage));
+        Assertions.assertEquals(aSession, target.get(expectedId, expectedType, aSession.id()));
+        verify(uploadMediaUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAChecksumMismatch_whenCompletes_shouldNotUploadTheMedia() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+
+        final var expectedContent = "Conteudo".getBytes();
+
+        when(uploadMediaUseCase.execute(any())).thenReturn(new UploadMediaOutput(expectedId.getValue(), expectedType));
+
+        final var aSession = target.create(expectedId, expectedType, "video/mp4", "video.mp4", null);
+        target.append(aSession, 0, new ByteArrayInputStream(expectedContent));
+
+        // when
+        Assertions.assertThrows(
+                DomainException.class,
+                () -> target.complete(expectedId, expectedType, aSession.id(), "00000000")
+        );
+
+        // then
+        verify(uploadMediaUseCase, never()).execute(any());
+        Assertions.assertTrue(storageService.storage().isEmpty());
+
+        target.complete(expectedId, expectedType, aSession.id(), HashingUtils.checksum(expectedContent));
+        verify(uploadMediaUseCase, times(1)).execute(any());
+    }
+
+    @Test
+    public void givenAChecksumMismatchOnlyKnownOnceFinalized_whenCompletes_shouldDeleteTheMediaAndStartOver() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedContent = "Conteudo".getBytes();
+
+        final var withoutRunningChecksum = new InMemoryStorageService() {
+            @Override
+            public ResumableUpload startUpload(final String id, final String contentType, final String name) {
+                final var anUpload = super.startUpload(id, contentType, name);
+                return new ResumableUpload() {
+                    public String id() { return anUpload.id(); }
+                    public long committed() { return anUpload.committed(); }
+                    public long append(final InputStream chunk) { return anUpload.append(chunk); }
+                    public Resource complete() { return anUpload.complete(); }
+                    public void discard() { anUpload.discard(); }
+                };
+            }
+        };
+        final var aTarget = new MediaUploadSessions(props, withoutRunningChecksum, uploadMediaUseCase, repository);
+
+        final var aSession = aTarget.create(expectedId, expectedType, "video/mp4", "video.mp4", null);
+        aTarget.append(aSession, 0, new ByteArrayInputStream(expectedContent));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> aTarget.complete(expectedId, expectedType, aSession.id(), "00000000")
+        );
+
+        // then
+        Assertions.assertTrue(actualException.getErrors().get(0).message().contains("starts over at offset 0"));
+        verify(uploadMediaUseCase, never()).execute(any());
+        Assertions.assertTrue(withoutRunningChecksum.storage().isEmpty());
+        Assertions.assertEquals(0, aTarget.get(expectedId, expectedType, aSession.id()).committed());
+        Assertions.assertEquals(0, repository.findById(aSession.id()).get().getCommitted());
+    }
+
+    @Test
+    public void givenAnImageType_whenCreates_shouldReturnDomainException() {
+        final var expectedErrorMessage = "Resumable uploads are only supported for VIDEO and TRAILER medias";
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> target.create(VideoID.unique(), VideoMediaType.BANNER, "image/jpg", "banner.jpg", null)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnotherVideo_whenGetsASession_shouldReturnNotFound() {
+        final var aSession = target.create(VideoID.unique(), VideoMediaType.VIDEO, "video/mp4", "video.mp4", null);
+
+        Assertions.assertThrows(
+                NotFoundException.class,
+                () -> target.get(VideoID.unique(), VideoMediaType.VIDEO, aSession.id())
+        );
+    }
+
+    @Test
+    public void givenChunksSentToAnotherInstance_whenCompletes_shouldResumeTheUpload() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+
+        final var firstInstance = new MediaUploadSessions(props, new FileSystemStorageService(root), uploadMediaUseCase, repository);
+        final var secondInstance = new MediaUploadSessions(props, new FileSystemStorageService(root), uploadMediaUseCase, repository);
+        final var actualContent = new AtomicReference<byte[]>();
+
+        when(uploadMediaUseCase.execute(any())).thenAnswer(t -> {
+            actualContent.set(t.<UploadMediaCommand>getArgument(0).videoResource().resource().content());
+            return new UploadMediaOutput(expectedId.getValue(), expectedType);
+        });
+
+        final var aSession = firstInstance.create(expectedId, expectedType, "video/mp4", "video.mp4", 8L);
+        firstInstance.append(aSession, 0, new ByteArrayInputStream(expectedContent, 0, 5));
+
+        // when
+        final var resumedSession = secondInstance.get(expectedId, expectedType, aSession.id());
+        final var resumedOffset = resumedSession.committed();
+        secondInstance.append(resumedSession, 5, new ByteArrayInputStream(expectedContent, 5, 3));
+        secondInstance.complete(expectedId, expectedType, aSession.id(), expectedChecksum);
+
+        // then
+        final var captor = ArgumentCaptor.forClass(UploadMediaCommand.class);
+        verify(uploadMediaUseCase, times(1)).execute(captor.capture());
+
+        Assertions.assertEquals(5, resumedOffset);
+        Assertions.assertEquals(expectedChecksum, captor.getValue().videoResource().resource().checksum());
+        Assertions.assertArrayEquals(expectedContent, actualContent.get());
+        Assertions.assertThrows(NotFoundException.class, () -> firstInstance.get(expectedId, expectedType, aSession.id()));
+    }
+
+    @Test
+    public void givenAnIdleSession_whenReapsExpired_shouldAbortItsUpload() throws IOException {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+
+        final var fileSystemSessions = new MediaUploadSessions(props, new FileSystemStorageService(root), uploadMediaUseCase, repository);
+        final var aSession = fileSystemSessions.create(expectedId, expectedType, "video/mp4", "trailer.mp4", null);
+        fileSystemSessions.append(aSession, 0, new ByteArrayInputStream("Conteudo".getBytes()));
+
+        repository.save(repository.findById(aSession.id()).get().setUpdatedAt(Instant.now().minus(Duration.ofHours(2))));
+
+        // when
+        fileSystemSessions.reapExpired();
+
+        // then
+        Assertions.assertTrue(repository.findById(aSession.id()).isEmpty());
+        Assertions.assertThrows(NotFoundException.class, () -> fileSystemSessions.get(expectedId, expectedType, aSession.id()));
+        try (final var files = Files.walk(root)) {
+            Assertions.assertTrue(files.filter(Files::isRegularFile).findAny().isEmpty());
+        }
+    }
+}